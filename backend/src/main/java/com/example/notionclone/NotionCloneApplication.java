@@ -5,11 +5,13 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.domain.AuditorAware;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import com.example.notionclone.config.AuditorAwareImpl;
 
 import io.github.cdimascio.dotenv.Dotenv;
 
 @EnableJpaAuditing
+@EnableScheduling
 @SpringBootApplication
 public class NotionCloneApplication {
     public static void main(String[] args)
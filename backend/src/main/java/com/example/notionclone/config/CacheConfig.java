@@ -0,0 +1,48 @@
+package com.example.notionclone.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 캐시 설정
+ *
+ * 문서 목록(사이드바) 조회 결과와 사용자별 공유 문서 ID 집합(자동완성 가시성 판단용)을
+ * 프로세스 내 Caffeine 캐시에 보관합니다.
+ * - 캐시별 최대 엔트리 수와 쓰기 후 만료(TTL)로 메모리 사용량을 제한
+ * - recordStats를 켜서 Actuator가 cache.gets(hit/miss), cache.evictions 메트릭을 Prometheus로 노출
+ * - 무효화는 DocumentListCacheService가 워크스페이스/사용자 단위로 처리
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String DOCUMENT_LIST = "documentList";
+    public static final String DOCUMENT_LIST_PAGINATED = "documentListPaginated";
+    public static final String DOCUMENT_VISIBILITY = "documentVisibility";
+
+    @Value("${cache.document-list.max-size:10000}")
+    private long maxSize;
+
+    @Value("${cache.document-list.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats());
+        // 시작 시점에 캐시를 등록해야 메트릭 바인딩 대상이 되고, 오타로 인한 캐시 자동 생성도 방지됨
+        cacheManager.setCacheNames(List.of(DOCUMENT_LIST, DOCUMENT_LIST_PAGINATED, DOCUMENT_VISIBILITY));
+        return cacheManager;
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.notionclone.config;
 
 import jakarta.annotation.PostConstruct;
+import com.example.notionclone.domain.document.service.DocumentChildCountService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.core.annotation.Order;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
@@ -15,9 +17,11 @@ import org.springframework.stereotype.Component;
 @Component
 @RequiredArgsConstructor
 @Order(1) // 다른 초기화 컴포넌트보다 먼저 실행
+@DependsOn("entityManagerFactory") // JPA 스키마 생성(ddl-auto) 이후에 실행되어야 테이블에 인덱스를 만들 수 있음
 public class DatabaseMigrationConfig {
 
     private final JdbcTemplate jdbcTemplate;
+    private final DocumentChildCountService documentChildCountService;
 
     @PostConstruct
     public void migrateDatabase() {
@@ -27,6 +31,51 @@ public class DatabaseMigrationConfig {
             // users 테이블에 is_active 컬럼 추가 (없는 경우에만)
             addColumnIfNotExists("users", "is_active", "BOOLEAN NOT NULL DEFAULT true");
 
+            // 무한 스크롤 키셋 탐색용 인덱스 ((sortOrder, id) 커서, 휴지통 제외)
+            createIndexIfNotExists("idx_documents_workspace_keyset",
+                "documents (workspace_id, (COALESCE(sort_order, 0)), id) WHERE is_trashed = false");
+
+            // 자식 문서 조회/정렬용 인덱스 (휴지통 제외)
+            createIndexIfNotExists("idx_documents_parent_order",
+                "documents (parent_id, (COALESCE(sort_order, 0)), id) WHERE is_trashed = false");
+
+            // (문서, 속성)당 값 하나를 보장하는 유일 인덱스 (테이블 뷰 값 조인, 일괄 저장의 ON CONFLICT 대상)
+            ensurePropertyValueUniqueIndex();
+
+            // 속성 값 타입 컬럼 필터/정렬용 인덱스 (NUMBER/DATE는 (속성, 값) 범위 탐색, TAG는 옵션 ID 포함 검색)
+            createIndexIfNotExists("idx_property_values_number",
+                "document_property_values (property_id, value_number) WHERE value_number IS NOT NULL");
+            createIndexIfNotExists("idx_property_values_date",
+                "document_property_values (property_id, value_date) WHERE value_date IS NOT NULL");
+            createIndexIfNotExists("idx_property_values_tags",
+                "document_property_values USING gin (value_tag_ids) WHERE value_tag_ids IS NOT NULL");
+            // 타입 컬럼 백필 대상(typed_version 미설정) 탐색용 인덱스
+            createIndexIfNotExists("idx_property_values_untyped",
+                "document_property_values (id) WHERE typed_version IS NULL");
+
+            // 문서 계층 경로(materialized path) 접두사 검색 인덱스 및 기존 문서 경로 채우기
+            createIndexIfNotExists("idx_documents_path", "documents (path text_pattern_ops)");
+            backfillDocumentPaths();
+
+            // 문서 최종 수정 메타(문서/속성 값 중 최신) 채우기
+            backfillLastModified();
+
+            // 본문/버전 스냅샷 컬럼을 압축 저장용 bytea로 변환 (기존 값은 UTF-8 바이트로 보존)
+            convertTextColumnToBytea("document_contents", "body");
+            convertTextColumnToBytea("document_versions", "content");
+            convertTextColumnToBytea("document_versions", "properties_json");
+            convertTextColumnToBytea("document_versions", "property_values_json");
+
+            // 문서 본문을 document_contents로 이전 (기존 documents.content 컬럼)
+            migrateDocumentContents();
+
+            // 직계 자식 수(live_child_count) 채우기/검증 (불일치 문서만 보정)
+            documentChildCountService.repair();
+
+            // 데이터베이스별 변경 피드 (change_seq 컬럼, 삭제 기록, 트리거)
+            // 위 백필/보정이 모든 행을 기록하지 않도록 마지막에 설치
+            installChangeFeed();
+
             log.info("데이터베이스 마이그레이션 완료");
         } catch (Exception e) {
             log.error("데이터베이스 마이그레이션 중 오류 발생: " + e.getMessage(), e);
@@ -65,5 +114,324 @@ public class DatabaseMigrationConfig {
                 tableName, columnName, e.getMessage());
         }
     }
-}
 
+    /**
+     * TEXT 컬럼을 bytea로 변환 (CompressedTextConverter는 헤더 없는 값을 UTF-8 원문으로 읽음)
+     * 테이블을 다시 쓰는 작업이므로 아직 TEXT인 경우에만 1회 실행됩니다.
+     */
+    private void convertTextColumnToBytea(String tableName, String columnName) {
+        try {
+            String dataType = jdbcTemplate.query(
+                "SELECT data_type FROM information_schema.columns WHERE table_name = ? AND column_name = ?",
+                rs -> rs.next() ? rs.getString(1) : null, tableName, columnName);
+            if (!"text".equals(dataType)) {
+                return;
+            }
+            long start = System.currentTimeMillis();
+            jdbcTemplate.execute(String.format(
+                "ALTER TABLE %s ALTER COLUMN %s TYPE bytea USING convert_to(%s, 'UTF8')",
+                tableName, columnName, columnName));
+            log.info("컬럼 bytea 변환 완료: {}.{} ({}ms)", tableName, columnName, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("컬럼 bytea 변환 실패: {}.{} - {}", tableName, columnName, e.getMessage());
+        }
+    }
+
+    /**
+     * 경로(path/depth)가 비어 있는 문서가 있으면 재귀 CTE로 전체 트리 경로를 다시 계산
+     */
+    private void backfillDocumentPaths() {
+        try {
+            Boolean missing = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM documents WHERE path IS NULL OR depth IS NULL)", Boolean.class);
+            if (!Boolean.TRUE.equals(missing)) {
+                return;
+            }
+            int updated = jdbcTemplate.update(
+                "WITH RECURSIVE tree AS (" +
+                "  SELECT id, '/' || id || '/' AS path, 0 AS depth FROM documents WHERE parent_id IS NULL" +
+                "  UNION ALL" +
+                "  SELECT c.id, t.path || c.id || '/', t.depth + 1 FROM documents c JOIN tree t ON c.parent_id = t.id" +
+                ") " +
+                "UPDATE documents d SET path = tree.path, depth = tree.depth FROM tree " +
+                "WHERE d.id = tree.id AND (d.path IS DISTINCT FROM tree.path OR d.depth IS DISTINCT FROM tree.depth)");
+            log.info("문서 경로 채우기 완료: {}건", updated);
+        } catch (Exception e) {
+            log.warn("문서 경로 채우기 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 유일 인덱스가 없으면 중복 값(같은 문서/속성)을 최신 값 하나만 남기고 정리한 뒤 생성하고,
+     * 같은 컬럼의 기존 비유일 인덱스는 제거
+     */
+    private void ensurePropertyValueUniqueIndex() {
+        try {
+            Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'uq_property_values_document_property')",
+                Boolean.class);
+            if (Boolean.TRUE.equals(exists)) {
+                return;
+            }
+            int removed = jdbcTemplate.update(
+                "DELETE FROM document_property_values v USING document_property_values newer " +
+                "WHERE newer.document_id = v.document_id AND newer.property_id = v.property_id AND newer.id > v.id");
+            if (removed > 0) {
+                log.info("중복 속성 값 정리 완료: {}건", removed);
+            }
+            jdbcTemplate.execute("CREATE UNIQUE INDEX IF NOT EXISTS uq_property_values_document_property " +
+                "ON document_property_values (document_id, property_id)");
+            jdbcTemplate.execute("DROP INDEX IF EXISTS idx_property_values_document_property");
+            log.info("속성 값 유일 인덱스 생성 완료");
+        } catch (Exception e) {
+            log.warn("속성 값 유일 인덱스 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 데이터베이스(부모 문서)별 변경 피드 설치
+     *
+     * 자식 문서/속성/속성 값/태그 옵션 행이 쓰이면 트리거가 대상을 세션 임시 테이블(document_change_pending)에 모으고,
+     * 커밋 시점에 실행되는 지연 제약 트리거가 관련 document_change_heads 행을 데이터베이스 ID 오름차순으로 잠가
+     * 데이터베이스마다 번호 하나를 받아 change_seq와 삭제 기록(document_change_tombstones)을 한 번에 남깁니다.
+     * 헤드 잠금은 커밋 직전에만 잡으므로 같은 데이터베이스의 쓰기끼리 트랜잭션 내내 대기하지 않고,
+     * 잠그는 순서가 고정되어 여러 데이터베이스를 건드리는 트랜잭션끼리 교착하지 않습니다.
+     * 번호는 헤드를 잠근 채 받아 커밋하므로 같은 데이터베이스 안에서는 번호 순서가 커밋 순서와 같습니다.
+     *
+     * - 경로/깊이/자식 수/최종 수정 메타/감사 컬럼처럼 클라이언트가 읽지 않는 파생 컬럼만 바뀐 UPDATE는 기록하지 않음
+     *   (자식 수는 hasChildren이 바뀔 때만, 속성 값은 원문이 바뀔 때만)
+     * - JDBC 일괄 경로(가져오기, 복제, 일괄 저장)도 빠짐없이 기록되도록 서비스가 아닌 트리거로 처리
+     */
+    private void installChangeFeed() {
+        try {
+            jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS document_change_seq");
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS document_change_heads (" +
+                "database_id BIGINT PRIMARY KEY, seq BIGINT NOT NULL, purged_seq BIGINT NOT NULL DEFAULT 0)");
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS document_change_tombstones (" +
+                "seq BIGINT NOT NULL, database_id BIGINT NOT NULL, entity_type VARCHAR(20) NOT NULL, " +
+                "entity_id BIGINT NOT NULL, deleted_at TIMESTAMP NOT NULL DEFAULT now())");
+            createIndexIfNotExists("idx_change_tombstones_database_seq", "document_change_tombstones (database_id, seq)");
+            createIndexIfNotExists("idx_change_tombstones_deleted_at", "document_change_tombstones (deleted_at)");
+
+            String[] tables = {"documents", "document_properties", "document_property_values", "document_property_tag_option"};
+            for (String table : tables) {
+                addColumnIfNotExists(table, "change_seq", "BIGINT");
+            }
+            createIndexIfNotExists("idx_documents_parent_change_seq", "documents (parent_id, change_seq) WHERE change_seq IS NOT NULL");
+            createIndexIfNotExists("idx_properties_document_change_seq", "document_properties (document_id, change_seq) WHERE change_seq IS NOT NULL");
+            // 값/태그 옵션은 데이터베이스의 속성 ID로 좁힌 뒤 change_seq 범위를 읽음 (change_seq 단독 인덱스는 전체 범위 스캔)
+            jdbcTemplate.execute("DROP INDEX IF EXISTS idx_property_values_change_seq");
+            jdbcTemplate.execute("DROP INDEX IF EXISTS idx_tag_options_change_seq");
+            createIndexIfNotExists("idx_property_values_property_change_seq", "document_property_values (property_id, change_seq) WHERE change_seq IS NOT NULL");
+            createIndexIfNotExists("idx_tag_options_property_change_seq", "document_property_tag_option (property_id, change_seq) WHERE change_seq IS NOT NULL");
+
+            // 트랜잭션·데이터베이스별 변경 번호 (트랜잭션 범위 설정값에 보관해 행마다 헤드를 다시 갱신하지 않음)
+            jdbcTemplate.execute(
+                "CREATE OR REPLACE FUNCTION document_change_next(db BIGINT) RETURNS BIGINT AS $$\n" +
+                "DECLARE\n" +
+                "  setting TEXT := 'document_change.db_' || db;\n" +
+                "  assigned TEXT := current_setting(setting, true);\n" +
+                "  next_seq BIGINT;\n" +
+                "BEGIN\n" +
+                "  IF assigned IS NOT NULL AND assigned <> '' THEN\n" +
+                "    RETURN assigned::BIGINT;\n" +
+                "  END IF;\n" +
+                "  INSERT INTO document_change_heads AS h (database_id, seq) VALUES (db, nextval('document_change_seq'))\n" +
+                "  ON CONFLICT (database_id) DO UPDATE SET seq = nextval('document_change_seq')\n" +
+                "  RETURNING h.seq INTO next_seq;\n" +
+                "  PERFORM set_config(setting, next_seq::TEXT, true);\n" +
+                "  RETURN next_seq;\n" +
+                "END $$ LANGUAGE plpgsql");
+
+            // 클라이언트가 읽는 컬럼만 남긴 행 (이 값이 같으면 파생 컬럼만 바뀐 UPDATE)
+            jdbcTemplate.execute(
+                "CREATE OR REPLACE FUNCTION document_change_visible(tbl TEXT, r JSONB) RETURNS JSONB AS $$\n" +
+                "  SELECT CASE tbl\n" +
+                "    WHEN 'documents' THEN (r - ARRAY['change_seq', 'path', 'depth', 'live_child_count', 'last_modified_at',\n" +
+                "        'last_modified_by', 'updated_at', 'updated_by', 'content'])\n" +
+                "      || jsonb_build_object('has_children', COALESCE((r ->> 'live_child_count')::INT, 0) > 0)\n" +
+                "    WHEN 'document_property_values' THEN jsonb_build_object('value', r -> 'value')\n" +
+                "    ELSE r - ARRAY['change_seq', 'updated_at', 'updated_by']\n" +
+                "  END\n" +
+                "$$ LANGUAGE sql IMMUTABLE");
+            jdbcTemplate.execute("DROP FUNCTION IF EXISTS document_change_defer()");
+
+            // 기록 대상 추가 (세션 임시 테이블은 처음 쓸 때 한 번 만들고 커밋마다 비움)
+            jdbcTemplate.execute(
+                "CREATE OR REPLACE FUNCTION document_change_pend(db BIGINT, tbl TEXT, entity_type TEXT, entity_id BIGINT, deleted BOOLEAN) " +
+                "RETURNS VOID AS $$\n" +
+                "BEGIN\n" +
+                "  IF current_setting('document_change.pending', true) IS DISTINCT FROM 'on' THEN\n" +
+                "    IF to_regclass('pg_temp.document_change_pending') IS NULL THEN\n" +
+                "      CREATE TEMP TABLE document_change_pending (\n" +
+                "        database_id BIGINT NOT NULL, table_name TEXT NOT NULL, entity_type TEXT, entity_id BIGINT NOT NULL, deleted BOOLEAN NOT NULL\n" +
+                "      ) ON COMMIT DELETE ROWS;\n" +
+                "    END IF;\n" +
+                "    PERFORM set_config('document_change.pending', 'on', true);\n" +
+                "  END IF;\n" +
+                "  INSERT INTO document_change_pending VALUES (db, tbl, entity_type, entity_id, deleted);\n" +
+                "END $$ LANGUAGE plpgsql");
+
+            // 모아 둔 대상 기록 (헤드를 데이터베이스 ID 오름차순으로 잠가 다른 트랜잭션과 교착하지 않게 함)
+            // change_seq만 바꾸는 UPDATE는 document_change_stamp()가 파생 컬럼 변경으로 보고 다시 모으지 않음
+            jdbcTemplate.execute(
+                "CREATE OR REPLACE FUNCTION document_change_flush() RETURNS VOID AS $$\n" +
+                "DECLARE\n" +
+                "  db BIGINT;\n" +
+                "BEGIN\n" +
+                "  PERFORM set_config('document_change.pending', 'off', true);\n" +
+                "  FOR db IN SELECT DISTINCT database_id FROM document_change_pending ORDER BY database_id LOOP\n" +
+                "    PERFORM document_change_next(db);\n" +
+                "  END LOOP;\n" +
+                "  INSERT INTO document_change_tombstones (seq, database_id, entity_type, entity_id)\n" +
+                "  SELECT document_change_next(p.database_id), p.database_id, p.entity_type, p.entity_id\n" +
+                "  FROM document_change_pending p WHERE p.deleted;\n" +
+                "  UPDATE documents t SET change_seq = document_change_next(p.database_id) FROM document_change_pending p\n" +
+                "  WHERE NOT p.deleted AND p.table_name = 'documents' AND t.id = p.entity_id;\n" +
+                "  UPDATE document_properties t SET change_seq = document_change_next(p.database_id) FROM document_change_pending p\n" +
+                "  WHERE NOT p.deleted AND p.table_name = 'document_properties' AND t.id = p.entity_id;\n" +
+                "  UPDATE document_property_values t SET change_seq = document_change_next(p.database_id) FROM document_change_pending p\n" +
+                "  WHERE NOT p.deleted AND p.table_name = 'document_property_values' AND t.id = p.entity_id;\n" +
+                "  UPDATE document_property_tag_option t SET change_seq = document_change_next(p.database_id) FROM document_change_pending p\n" +
+                "  WHERE NOT p.deleted AND p.table_name = 'document_property_tag_option' AND t.id = p.entity_id;\n" +
+                "  DELETE FROM document_change_pending;\n" +
+                "END $$ LANGUAGE plpgsql");
+
+            // 커밋 시점 기록 (지연 제약 트리거, 트랜잭션의 첫 이벤트에서 한 번만 실행)
+            jdbcTemplate.execute(
+                "CREATE OR REPLACE FUNCTION document_change_commit() RETURNS TRIGGER AS $$\n" +
+                "BEGIN\n" +
+                "  IF current_setting('document_change.pending', true) = 'on' THEN\n" +
+                "    PERFORM document_change_flush();\n" +
+                "  END IF;\n" +
+                "  RETURN NULL;\n" +
+                "END $$ LANGUAGE plpgsql");
+
+            // 쓰기 대상 수집 (문서가 다른 부모로 이동하면 이전 데이터베이스에 삭제 기록)
+            jdbcTemplate.execute(
+                "CREATE OR REPLACE FUNCTION document_change_stamp() RETURNS TRIGGER AS $$\n" +
+                "DECLARE\n" +
+                "  db BIGINT;\n" +
+                "BEGIN\n" +
+                "  IF TG_OP = 'UPDATE' AND document_change_visible(TG_TABLE_NAME, to_jsonb(NEW))\n" +
+                "      IS NOT DISTINCT FROM document_change_visible(TG_TABLE_NAME, to_jsonb(OLD)) THEN\n" +
+                "    RETURN NEW;\n" +
+                "  END IF;\n" +
+                "  IF TG_TABLE_NAME = 'documents' THEN\n" +
+                "    db := NEW.parent_id;\n" +
+                "    IF TG_OP = 'UPDATE' AND OLD.parent_id IS NOT NULL AND OLD.parent_id IS DISTINCT FROM NEW.parent_id THEN\n" +
+                "      PERFORM document_change_pend(OLD.parent_id, TG_TABLE_NAME, 'DOCUMENT', OLD.id, true);\n" +
+                "    END IF;\n" +
+                "  ELSIF TG_TABLE_NAME = 'document_properties' THEN\n" +
+                "    db := NEW.document_id;\n" +
+                "  ELSE\n" +
+                "    SELECT p.document_id INTO db FROM document_properties p WHERE p.id = NEW.property_id;\n" +
+                "  END IF;\n" +
+                "  IF db IS NOT NULL THEN\n" +
+                "    PERFORM document_change_pend(db, TG_TABLE_NAME, NULL, NEW.id, false);\n" +
+                "  END IF;\n" +
+                "  RETURN NEW;\n" +
+                "END $$ LANGUAGE plpgsql");
+
+            // 삭제 대상 수집 (TG_ARGV[0]: 엔티티 종류)
+            jdbcTemplate.execute(
+                "CREATE OR REPLACE FUNCTION document_change_delete() RETURNS TRIGGER AS $$\n" +
+                "DECLARE\n" +
+                "  db BIGINT;\n" +
+                "BEGIN\n" +
+                "  IF TG_TABLE_NAME = 'documents' THEN\n" +
+                "    db := OLD.parent_id;\n" +
+                "  ELSIF TG_TABLE_NAME = 'document_properties' THEN\n" +
+                "    db := OLD.document_id;\n" +
+                "  ELSE\n" +
+                "    SELECT p.document_id INTO db FROM document_properties p WHERE p.id = OLD.property_id;\n" +
+                "  END IF;\n" +
+                "  IF db IS NOT NULL THEN\n" +
+                "    PERFORM document_change_pend(db, TG_TABLE_NAME, TG_ARGV[0], OLD.id, true);\n" +
+                "  END IF;\n" +
+                "  RETURN OLD;\n" +
+                "END $$ LANGUAGE plpgsql");
+
+            String[] entityTypes = {"DOCUMENT", "PROPERTY", "VALUE", "TAG_OPTION"};
+            for (int i = 0; i < tables.length; i++) {
+                jdbcTemplate.execute(String.format(
+                    "CREATE OR REPLACE TRIGGER %s_change_stamp BEFORE INSERT OR UPDATE ON %s " +
+                    "FOR EACH ROW EXECUTE FUNCTION document_change_stamp()", tables[i], tables[i]));
+                jdbcTemplate.execute(String.format(
+                    "CREATE OR REPLACE TRIGGER %s_change_delete AFTER DELETE ON %s " +
+                    "FOR EACH ROW EXECUTE FUNCTION document_change_delete('%s')", tables[i], tables[i], entityTypes[i]));
+                // 제약 트리거는 OR REPLACE를 지원하지 않음
+                jdbcTemplate.execute(String.format("DROP TRIGGER IF EXISTS %s_change_commit ON %s", tables[i], tables[i]));
+                jdbcTemplate.execute(String.format(
+                    "CREATE CONSTRAINT TRIGGER %s_change_commit AFTER INSERT OR UPDATE OR DELETE ON %s " +
+                    "DEFERRABLE INITIALLY DEFERRED FOR EACH ROW EXECUTE FUNCTION document_change_commit()", tables[i], tables[i]));
+            }
+            log.debug("변경 피드 트리거 확인 완료");
+        } catch (Exception e) {
+            log.warn("변경 피드 설치 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * last_modified_at이 비어 있는 문서에 문서/속성 값 중 가장 최근 수정 시각과 수정자를 채움
+     */
+    private void backfillLastModified() {
+        try {
+            int updated = jdbcTemplate.update(
+                "UPDATE documents d SET last_modified_at = m.modified_at, last_modified_by = m.modified_by FROM (" +
+                "  SELECT DISTINCT ON (id) id, modified_at, modified_by FROM (" +
+                "    SELECT id, updated_at AS modified_at, updated_by AS modified_by FROM documents WHERE last_modified_at IS NULL" +
+                "    UNION ALL" +
+                "    SELECT v.document_id, v.updated_at, v.updated_by FROM document_property_values v" +
+                "    JOIN documents d2 ON d2.id = v.document_id WHERE d2.last_modified_at IS NULL" +
+                "  ) s ORDER BY id, modified_at DESC NULLS LAST" +
+                ") m WHERE d.id = m.id AND m.modified_at IS NOT NULL");
+            if (updated > 0) {
+                log.info("문서 최종 수정 메타 채우기 완료: {}건", updated);
+            }
+        } catch (Exception e) {
+            log.warn("문서 최종 수정 메타 채우기 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * documents.content에 남아 있는 본문을 document_contents로 복사한 뒤 원본 값을 비움
+     * 두 단계 모두 멱등이므로 중간에 실패해도 다음 기동 시 이어서 처리됩니다.
+     */
+    private void migrateDocumentContents() {
+        try {
+            Integer columns = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns WHERE table_name = 'documents' AND column_name = 'content'",
+                Integer.class);
+            if (columns == null || columns == 0) {
+                return;
+            }
+            int copied = jdbcTemplate.update(
+                "INSERT INTO document_contents (document_id, body, created_at, created_by, updated_at, updated_by) " +
+                "SELECT d.id, convert_to(d.content, 'UTF8'), d.created_at, d.created_by, d.updated_at, d.updated_by FROM documents d " +
+                "WHERE d.content IS NOT NULL " +
+                "AND NOT EXISTS (SELECT 1 FROM document_contents c WHERE c.document_id = d.id)");
+            int cleared = jdbcTemplate.update(
+                "UPDATE documents d SET content = NULL WHERE d.content IS NOT NULL " +
+                "AND EXISTS (SELECT 1 FROM document_contents c WHERE c.document_id = d.id)");
+            if (copied > 0 || cleared > 0) {
+                log.info("문서 본문 분리 완료: 복사 {}건, 원본 비움 {}건", copied, cleared);
+            }
+        } catch (Exception e) {
+            log.warn("문서 본문 분리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 인덱스가 존재하지 않으면 생성
+     * JPA @Index로 표현할 수 없는 표현식/부분 인덱스에 사용
+     */
+    private void createIndexIfNotExists(String indexName, String indexDefinition) {
+        try {
+            jdbcTemplate.execute(String.format("CREATE INDEX IF NOT EXISTS %s ON %s", indexName, indexDefinition));
+            log.debug("인덱스 확인 완료: {}", indexName);
+        } catch (Exception e) {
+            log.warn("인덱스 생성 실패: {} - {}", indexName, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.notionclone.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 레플리카 라우팅 설정
+ *
+ * datasource.replicas.urls(쉼표 구분)가 지정된 경우에만 활성화되며, 비어 있으면 기본 단일 DataSource를 그대로 사용합니다.
+ * 프라이머리/레플리카는 각각 별도 Hikari 풀(primary, replica-1, ...)이고, 풀별 hikaricp 메트릭을 Micrometer로 노출합니다.
+ * 로컬에서는 레플리카 URL에 두 번째 PostgreSQL(또는 프라이머리와 같은 URL)을 지정해 라우팅을 확인할 수 있습니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("'${datasource.replicas.urls:}' != ''")
+public class ReadReplicaDataSourceConfig {
+
+    @Value("${datasource.replicas.urls}")
+    private String replicaUrls;
+
+    @Value("${datasource.replicas.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${datasource.replicas.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${datasource.replicas.max-lag-ms:5000}")
+    private long maxLagMs;
+
+    @Value("${datasource.replicas.lag-check-interval-ms:1000}")
+    private long lagCheckIntervalMs;
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties) {
+        HikariDataSource primary = createPool(properties, properties.getUrl(), properties.getUsername(), properties.getPassword(), "primary");
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<String> urls = Arrays.stream(replicaUrls.split(",")).map(String::trim).filter(url -> !url.isEmpty()).toList();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource replica = createPool(properties, urls.get(i), replicaUsername, replicaPassword, name);
+            replica.setReadOnly(true);
+            replicas.put(name, replica);
+        }
+
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, maxLagMs, lagCheckIntervalMs);
+        routingDataSource.afterPropertiesSet();
+        routingDataSource.refreshLag();
+        log.info("읽기 레플리카 라우팅 활성화: 레플리카 {}개, 허용 지연 {}ms", replicas.size(), maxLagMs);
+        // 트랜잭션의 readOnly 플래그가 설정된 뒤(첫 쿼리 시점)에 라우팅되도록 지연 연결로 감쌈
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 빈으로 등록되지 않은 풀이므로 종료 시 직접 닫음
+     */
+    @PreDestroy
+    public void closePools() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.lag-check-interval-ms:1000}")
+    public void refreshReplicaLag() {
+        if (routingDataSource != null) {
+            routingDataSource.refreshLag();
+        }
+    }
+
+    private HikariDataSource createPool(DataSourceProperties properties, String url, String username,
+                                        String password, String poolName) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName(poolName);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(Metrics.globalRegistry));
+        pools.add(dataSource);
+        return dataSource;
+    }
+}
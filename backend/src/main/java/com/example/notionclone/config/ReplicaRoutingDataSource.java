@@ -0,0 +1,205 @@
+package com.example.notionclone.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션을 레플리카로, 그 외를 프라이머리로 보내는 라우팅 DataSource
+ *
+ * - readOnly 트랜잭션만 레플리카 대상이며, 트랜잭션 밖의 조회와 쓰기는 항상 프라이머리
+ * - 레플리카별 복제 지연을 주기적으로 측정해 maxLagMs를 넘거나 측정에 실패한 레플리카는 제외
+ * - 쓰기를 커밋한 사용자는 (측정 지연 + 측정 주기)가 지날 때까지 읽기도 프라이머리로 보냄 (read-your-writes)
+ * - 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 readOnly 여부를 봐야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용
+ * - 공유 캐시를 채우는 조회는 onPrimary()로 감싸 레플리카 지연 데이터가 TTL 동안 캐시에 남지 않게 함
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PRIMARY_READ = new ThreadLocal<>();
+
+    private static final String LAG_QUERY =
+            "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final Map<String, Counter> routeCounters = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final long maxLagMs;
+    private final long lagCheckIntervalMs;
+    private final Cache<String, Long> lastWriteAt;
+
+    /**
+     * 레플리카 상태 (lagMs < 0이면 측정 실패로 제외)
+     */
+    private static final class Replica {
+        final String name;
+        final DataSource dataSource;
+        volatile long lagMs = -1;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicaDataSources,
+                                    long maxLagMs, long lagCheckIntervalMs) {
+        this.maxLagMs = maxLagMs;
+        this.lagCheckIntervalMs = lagCheckIntervalMs;
+        // 쓰기 시각은 레플리카가 허용 지연 안에서 따라잡을 시간만큼만 보관
+        this.lastWriteAt = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(maxLagMs + lagCheckIntervalMs))
+                .maximumSize(100_000)
+                .build();
+
+        Map<Object, Object> targets = new LinkedHashMap<>();
+        targets.put(PRIMARY, primary);
+        replicaDataSources.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource);
+            replicas.add(replica);
+            targets.put(name, dataSource);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagMs)
+                    .description("레플리카 복제 지연 (ms, -1이면 측정 실패)")
+                    .tag("pool", name)
+                    .register(Metrics.globalRegistry);
+        });
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return route(PRIMARY, "no-transaction");
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit();
+            return route(PRIMARY, "write");
+        }
+        if (replicas.isEmpty()) {
+            return route(PRIMARY, "no-replica");
+        }
+        if (Boolean.TRUE.equals(PRIMARY_READ.get())) {
+            return route(PRIMARY, "primary-read");
+        }
+
+        String sessionKey = currentSessionKey();
+        Long writtenAt = sessionKey == null ? null : lastWriteAt.getIfPresent(sessionKey);
+        long sinceWrite = writtenAt == null ? Long.MAX_VALUE : System.currentTimeMillis() - writtenAt;
+        boolean anyHealthy = false;
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            long lag = replica.lagMs;
+            if (lag < 0 || lag > maxLagMs) {
+                continue;
+            }
+            anyHealthy = true;
+            // 측정 이후 지연이 늘었을 수 있으므로 측정 주기만큼 여유를 둠
+            if (sinceWrite > lag + lagCheckIntervalMs) {
+                return route(replica.name, "read");
+            }
+        }
+        return route(PRIMARY, anyHealthy ? "read-your-writes" : "replica-lag");
+    }
+
+    /**
+     * 읽기 전용 트랜잭션이라도 action 안에서 처음 연결을 얻는 조회는 프라이머리로 보냄 (쓰기로 기록하지 않음)
+     * 여러 사용자가 공유하는 캐시의 적재에 사용합니다. 레플리카 라우팅이 꺼져 있으면 그대로 실행만 합니다.
+     * 이미 레플리카 연결을 얻은 트랜잭션 안에서 호출하면 효과가 없으므로 트랜잭션의 첫 조회를 감싸야 합니다.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_READ.get();
+        PRIMARY_READ.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_READ.remove();
+            } else {
+                PRIMARY_READ.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 레플리카별 복제 지연 측정 (ReadReplicaDataSourceConfig가 주기적으로 호출)
+     */
+    void refreshLag() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+                long lag = rs.next() ? Math.max(0, Math.round(rs.getDouble(1))) : -1;
+                if (lag > maxLagMs && replica.lagMs <= maxLagMs) {
+                    log.warn("레플리카 지연 허용치 초과로 읽기 제외: pool={}, lag={}ms", replica.name, lag);
+                }
+                replica.lagMs = lag;
+            } catch (Exception e) {
+                if (replica.lagMs >= 0) {
+                    log.warn("레플리카 상태 확인 실패로 읽기 제외: pool={}, {}", replica.name, e.getMessage());
+                }
+                replica.lagMs = -1;
+            }
+        }
+    }
+
+    /**
+     * 커밋된 쓰기 시각을 현재 사용자 기준으로 기록
+     * (지연 연결이므로 트랜잭션당 첫 쿼리에서 한 번만 호출됨)
+     */
+    private void recordWriteOnCommit() {
+        String sessionKey = currentSessionKey();
+        if (sessionKey == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                lastWriteAt.put(sessionKey, System.currentTimeMillis());
+            }
+        });
+    }
+
+    private static String currentSessionKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private String route(String target, String reason) {
+        routeCounters.computeIfAbsent(target + "/" + reason, key -> Counter.builder("datasource.routing")
+                .description("DataSource 라우팅 횟수")
+                .tag("pool", target)
+                .tag("reason", reason)
+                .register(Metrics.globalRegistry))
+                .increment();
+        return target;
+    }
+}
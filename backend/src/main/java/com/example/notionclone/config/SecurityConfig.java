@@ -1,6 +1,7 @@
 package com.example.notionclone.config;
 
 import com.example.notionclone.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -56,6 +57,8 @@ public class SecurityConfig {
         .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
         .authorizeHttpRequests(auth -> auth
             .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+            // 스트리밍 응답(StreamingResponseBody)의 완료 디스패치는 최초 요청에서 이미 인증됨
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers(
                 "/api/auth/login",
                 "/api/auth/register", 
@@ -98,6 +101,8 @@ public class SecurityConfig {
         .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
         .authorizeHttpRequests(auth -> auth
             .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+            // 스트리밍 응답(StreamingResponseBody)의 완료 디스패치는 최초 요청에서 이미 인증됨
+            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
             .requestMatchers(
                 "/api/auth/login",
                 "/api/auth/register", 
@@ -0,0 +1,49 @@
+package com.example.notionclone.domain.document.controller;
+
+import com.example.notionclone.domain.document.dto.DocumentBlockDtos;
+import com.example.notionclone.domain.document.service.DocumentBlockService;
+import com.example.notionclone.domain.permission.entity.PermissionType;
+import com.example.notionclone.domain.permission.service.PermissionService;
+import com.example.notionclone.security.CurrentUser;
+import com.example.notionclone.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/workspaces/{workspaceId}/documents/{documentId}/blocks")
+@RequiredArgsConstructor
+public class DocumentBlockController {
+    private final DocumentBlockService blockService;
+    private final PermissionService permissionService;
+
+    @GetMapping
+    public ResponseEntity<List<DocumentBlockDtos.BlockItem>> list(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long workspaceId,
+            @PathVariable Long documentId
+    ) {
+        if (userPrincipal == null) {
+            return ResponseEntity.status(401).build();
+        }
+        permissionService.checkPermission(workspaceId, documentId, userPrincipal.getId(), PermissionType.READ);
+        return ResponseEntity.ok(blockService.getBlocks(documentId));
+    }
+
+    // 블록 단위 본문 변경 (insert/update/delete/move)
+    @PatchMapping
+    public ResponseEntity<DocumentBlockDtos.PatchResponse> patch(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long workspaceId,
+            @PathVariable Long documentId,
+            @RequestBody DocumentBlockDtos.PatchRequest request
+    ) {
+        if (userPrincipal == null) {
+            return ResponseEntity.status(401).build();
+        }
+        permissionService.checkPermission(workspaceId, documentId, userPrincipal.getId(), PermissionType.WRITE);
+        return ResponseEntity.ok(blockService.applyPatch(documentId, request.getOperations()));
+    }
+}
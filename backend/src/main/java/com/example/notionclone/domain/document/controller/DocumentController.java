@@ -1,16 +1,34 @@
 package com.example.notionclone.domain.document.controller;
 
 import com.example.notionclone.domain.document.dto.CreateDocumentRequest;
+import com.example.notionclone.domain.document.dto.CursorPageResponse;
 import com.example.notionclone.domain.document.dto.DocumentOrderRequest;
 import com.example.notionclone.domain.document.dto.DocumentResponse;
 import com.example.notionclone.domain.document.dto.DocumentListResponse;
+import com.example.notionclone.domain.document.dto.DocumentChangeDtos;
+import com.example.notionclone.domain.document.dto.DocumentQueryDtos;
+import com.example.notionclone.domain.document.dto.DocumentAutocompleteItem;
+import com.example.notionclone.domain.document.dto.DocumentDuplicateJobResponse;
+import com.example.notionclone.domain.document.dto.DocumentImportResult;
+import com.example.notionclone.domain.document.dto.DocumentSearchHit;
 import com.example.notionclone.domain.document.dto.DocumentTableListResponse;
+import com.example.notionclone.domain.document.dto.PropertyValueBatchDtos;
+import com.example.notionclone.domain.document.dto.MoveDocumentRequest;
 import com.example.notionclone.domain.document.dto.UpdateDocumentRequest;
 import com.example.notionclone.domain.document.entity.Document;
 import com.example.notionclone.domain.document.entity.DocumentProperty;
 import com.example.notionclone.domain.document.repository.DocumentRepository;
 import com.example.notionclone.domain.document.dto.InviteRequest;
+import com.example.notionclone.domain.document.service.DocumentAutocompleteService;
+import com.example.notionclone.domain.document.service.DocumentDuplicateService;
+import com.example.notionclone.domain.document.service.DocumentExportService;
+import com.example.notionclone.domain.document.service.DocumentImportService;
+import com.example.notionclone.domain.document.service.DocumentChangeFeedService;
+import com.example.notionclone.domain.document.service.DocumentQueryService;
+import com.example.notionclone.domain.document.service.DocumentSearchService;
+import com.example.notionclone.domain.document.service.DocumentPropertyValueBatchService;
 import com.example.notionclone.domain.document.service.DocumentService;
+import com.example.notionclone.domain.document.service.DocumentTableCacheService;
 import com.example.notionclone.domain.user.entity.User;
 import com.example.notionclone.domain.user.repository.UserRepository;
 import com.example.notionclone.exception.ResourceNotFoundException;
@@ -42,13 +60,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.LocalDateTime;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
 
 @Slf4j
 @RestController
@@ -56,12 +82,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DocumentController {
     private final DocumentService documentService;
+    private final DocumentSearchService documentSearchService;
+    private final DocumentAutocompleteService documentAutocompleteService;
+    private final DocumentExportService documentExportService;
+    private final DocumentImportService documentImportService;
+    private final DocumentDuplicateService documentDuplicateService;
+    private final DocumentQueryService documentQueryService;
+    private final DocumentChangeFeedService documentChangeFeedService;
+    private final DocumentTableCacheService documentTableCacheService;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
     private final PermissionService permissionService;
     private final DocumentRepository documentRepository;
     private final DocumentPropertyService documentPropertyService;
     private final DocumentPropertyValueService documentPropertyValueService;
+    private final DocumentPropertyValueBatchService documentPropertyValueBatchService;
     private final UnifiedPermissionService unifiedPermissionService;
     private final WorkspacePermissionRepository workspacePermissionRepository;
 
@@ -111,7 +146,7 @@ public class DocumentController {
      * 필요한 필드만 선택하여 네트워크 트래픽을 최적화합니다.
      */
     @GetMapping(params = "fields")
-    public ResponseEntity<List<DocumentListResponse>> getDocumentsByWorkspaceWithFields(
+    public ResponseEntity<List<Map<String, Object>>> getDocumentsByWorkspaceWithFields(
             @CurrentUser UserPrincipal userPrincipal,
             @PathVariable Long workspaceId,
             @RequestParam String fields) {
@@ -122,8 +157,8 @@ public class DocumentController {
         User user = userRepository.findById(userPrincipal.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userPrincipal.getId()));
         
-        Set<String> requestedFields = Set.of(fields.split(","));
-        List<DocumentListResponse> documents = documentService.getDocumentsByWorkspaceWithFields(workspaceId, user, requestedFields);
+        Set<String> requestedFields = new LinkedHashSet<>(List.of(fields.split(",")));
+        List<Map<String, Object>> documents = documentService.getDocumentsByWorkspaceWithFields(workspaceId, user, requestedFields);
         
         return ResponseEntity.ok(documents);
     }
@@ -131,25 +166,110 @@ public class DocumentController {
     /**
      * 무한 스크롤을 지원하는 DocumentList API
      * 커서 기반 페이지네이션으로 성능을 최적화합니다.
+     * 첫 요청은 cursor 없이 보내고, 이후에는 응답의 nextCursor를 그대로 전달합니다.
      */
     @GetMapping("/infinite")
-    public ResponseEntity<Page<DocumentListResponse>> getDocumentsInfinite(
+    public ResponseEntity<CursorPageResponse<DocumentListResponse>> getDocumentsInfinite(
             @CurrentUser UserPrincipal userPrincipal,
             @PathVariable Long workspaceId,
-            @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) String cursor) {
         
-        log.debug("Get infinite documents request for workspace: {} by user: {}, page: {}, size: {}, cursor: {}", 
-                workspaceId, userPrincipal.getId(), page, size, cursor);
+        log.debug("Get infinite documents request for workspace: {} by user: {}, size: {}, cursor: {}", 
+                workspaceId, userPrincipal.getId(), size, cursor);
         
         User user = userRepository.findById(userPrincipal.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userPrincipal.getId()));
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "sortOrder"));
-        Page<DocumentListResponse> documents = documentService.getDocumentsInfinite(workspaceId, user, pageable, cursor);
-        
-        return ResponseEntity.ok(documents);
+        try {
+            return ResponseEntity.ok(documentService.getDocumentsInfinite(workspaceId, user, size, cursor));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서 토큰
+            log.debug("Invalid cursor for infinite documents: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 전문 검색 (제목 + 본문)
+     * 입력 중인 마지막 단어는 접두사로 일치시키며, 사용자에게 보이는 문서만 점수순으로 반환합니다.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<DocumentSearchHit>> searchDocuments(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long workspaceId,
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.debug("Search documents request for workspace: {} by user: {}, limit: {}", workspaceId, userPrincipal.getId(), limit);
+        return ResponseEntity.ok(documentSearchService.search(workspaceId, userPrincipal.getId(), query, limit));
+    }
+
+    /**
+     * 페이지 멘션/빠른 찾기 자동완성 (제목 단어 접두사 일치, 최근 수정순)
+     * DB 조회 없이 메모리 제목 색인에서 응답합니다.
+     */
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<DocumentAutocompleteItem>> autocompleteDocuments(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long workspaceId,
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(documentAutocompleteService.autocomplete(workspaceId, userPrincipal.getId(), query, limit));
+    }
+
+    /**
+     * 워크스페이스 내보내기 (format=ndjson | zip)
+     * 사용자에게 보이는 문서를 커서로 읽으며 응답에 바로 쓰므로 워크스페이스 크기와 무관하게 메모리를 일정하게 사용합니다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportWorkspace(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long workspaceId,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        if (userPrincipal == null) {
+            return ResponseEntity.status(401).build();
+        }
+        Long userId = userPrincipal.getId();
+        log.debug("Export workspace request for workspace: {} by user: {}, format: {}", workspaceId, userId, format);
+        boolean zip = "zip".equalsIgnoreCase(format);
+        if (!zip && !"ndjson".equalsIgnoreCase(format)) {
+            log.debug("Unsupported export format: {}", format);
+            return ResponseEntity.badRequest().build();
+        }
+        // 스트림을 열면 워크스페이스 헤더부터 쓰므로 멤버 여부를 먼저 확인
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+        if (!unifiedPermissionService.hasWorkspacePermission(user, workspaceId, WorkspacePermissionType.VIEW_DOCUMENT)) {
+            return ResponseEntity.status(org.springframework.http.HttpStatus.FORBIDDEN).build();
+        }
+        StreamingResponseBody body = zip
+                ? out -> documentExportService.exportMarkdownZip(workspaceId, userId, out)
+                : out -> documentExportService.exportNdjson(workspaceId, userId, out);
+        String fileName = "workspace-" + workspaceId + (zip ? ".zip" : ".ndjson");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .contentType(zip ? MediaType.parseMediaType("application/zip") : MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    /**
+     * 워크스페이스 가져오기 (내보내기와 같은 NDJSON 형식, Content-Encoding: gzip 지원)
+     * 요청 본문을 스트림으로 읽으며 JDBC 다중 행 INSERT로 적재하고, 적재 건수와 처리량을 반환합니다.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<DocumentImportResult> importWorkspace(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long workspaceId,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream body) throws IOException {
+        log.debug("Import workspace request for workspace: {} by user: {}", workspaceId, userPrincipal.getId());
+        User user = userRepository.findById(userPrincipal.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userPrincipal.getId()));
+        if (!unifiedPermissionService.canCreateDocument(user, workspaceId)) {
+            return ResponseEntity.status(org.springframework.http.HttpStatus.FORBIDDEN).build();
+        }
+        InputStream in = "gzip".equalsIgnoreCase(contentEncoding) ? new GZIPInputStream(body, 64 * 1024) : body;
+        return ResponseEntity.ok(documentImportService.importNdjson(workspaceId, user.getId(), user.getEmail(), in));
     }
 
     /**
@@ -232,6 +352,25 @@ public class DocumentController {
         return ResponseEntity.ok().build();
     }
 
+    @PatchMapping("/{id}/move")
+    public ResponseEntity<Void> moveDocument(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long workspaceId,
+            @PathVariable Long id,
+            @RequestBody MoveDocumentRequest request) {
+        log.debug("Move document request for id: {} to parent: {} in workspace: {} by user: {}",
+                id, request.getParentId(), workspaceId, userPrincipal.getId());
+        User user = userRepository.findById(userPrincipal.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userPrincipal.getId()));
+        try {
+            documentService.moveDocument(workspaceId, id, request.getParentId(), user);
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejected move of document {}: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok().build();
+    }
+
     @PatchMapping("/order")
     public ResponseEntity<Void> updateOrder(
             @PathVariable Long workspaceId,
@@ -283,6 +422,28 @@ public class DocumentController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 문서 서브트리 복제 작업 시작 (하위 문서/속성/값 포함)
+     * 작업은 백그라운드에서 진행되며, 반환된 jobId로 진행률을 조회합니다.
+     */
+    @PostMapping("/{documentId}/duplicate")
+    public ResponseEntity<DocumentDuplicateJobResponse> duplicateDocument(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long workspaceId,
+            @PathVariable Long documentId) {
+        log.debug("Duplicate document request: {} in workspace: {} by user: {}", documentId, workspaceId, userPrincipal.getId());
+        return ResponseEntity.accepted().body(documentDuplicateService.startDuplicate(
+                workspaceId, documentId, userPrincipal.getId(), userPrincipal.getEmail()));
+    }
+
+    @GetMapping("/duplicate-jobs/{jobId}")
+    public ResponseEntity<DocumentDuplicateJobResponse> getDuplicateJob(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long workspaceId,
+            @PathVariable String jobId) {
+        return ResponseEntity.ok(documentDuplicateService.getJob(jobId, userPrincipal.getId()));
+    }
+
     @PostMapping("/{documentId}/invite")
     public ResponseEntity<Void> inviteToDocument(
             @CurrentUser UserPrincipal userPrincipal,
@@ -374,6 +535,82 @@ public class DocumentController {
         return ResponseEntity.ok(documentService.getChildDocumentsPaged(parentId, user, pageable, sortField, sortDir, sortPropertyId));
     }
 
+    /**
+     * 자식 문서 서버 측 조회 (TABLE/GALLERY 뷰의 필터/정렬/그룹)
+     * 조건을 SQL로 평가해 요청한 구간의 행과 전체 건수(그룹 지정 시 그룹별 건수)만 반환합니다.
+     */
+    @PostMapping("/{parentId}/children/query")
+    public ResponseEntity<DocumentQueryDtos.QueryResponse> queryChildDocuments(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long workspaceId,
+            @PathVariable Long parentId,
+            @RequestBody DocumentQueryDtos.QueryRequest request) {
+        try {
+            return ResponseEntity.ok(documentQueryService.queryChildren(workspaceId, parentId, userPrincipal.getId(), request));
+        } catch (IllegalArgumentException e) {
+            // 알 수 없는 필드/연산자, 잘못된 필터 값
+            log.debug("Invalid child document query: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 자식 문서 행 구간 조회 (가상 스크롤 TABLE 뷰)
+     * 한 번의 왕복으로 구간의 행과 보이는 속성 값만 행 단위로 묶어 반환합니다.
+     */
+    @PostMapping("/{parentId}/children/window")
+    public ResponseEntity<DocumentQueryDtos.WindowResponse> windowChildDocuments(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long workspaceId,
+            @PathVariable Long parentId,
+            @RequestBody DocumentQueryDtos.WindowRequest request) {
+        try {
+            return ResponseEntity.ok(documentQueryService.windowChildren(workspaceId, parentId, userPrincipal.getId(), request));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서, 정렬과 함께 보낸 커서, 잘못된 필터
+            log.debug("Invalid child document window: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 데이터베이스 변경분 조회 (since 이후 바뀐 자식 문서/속성/태그 옵션/값과 삭제 기록)
+     * since 없이 호출하면 현재 seq만 반환하며, resync=true이면 전체를 다시 불러와야 합니다.
+     */
+    @GetMapping("/{parentId}/changes")
+    public ResponseEntity<DocumentChangeDtos.ChangesResponse> getDocumentChanges(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long workspaceId,
+            @PathVariable Long parentId,
+            @RequestParam(required = false) Long since) {
+        try {
+            return ResponseEntity.ok(documentChangeFeedService.getChanges(workspaceId, parentId, userPrincipal.getId(), since));
+        } catch (IllegalArgumentException e) {
+            // 음수 since
+            log.debug("Invalid change feed request: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * 자식 문서 열 집계 (표 하단/갤러리 요약)
+     * NUMBER는 합계/평균/최소/최대, DATE는 최소/최대, TAG는 옵션별 개수를 SQL로 계산해 반환합니다.
+     */
+    @PostMapping("/{parentId}/children/aggregate")
+    public ResponseEntity<DocumentQueryDtos.AggregateResponse> aggregateChildDocuments(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long workspaceId,
+            @PathVariable Long parentId,
+            @RequestBody DocumentQueryDtos.AggregateRequest request) {
+        try {
+            return ResponseEntity.ok(documentQueryService.aggregate(workspaceId, parentId, userPrincipal.getId(), request));
+        } catch (IllegalArgumentException e) {
+            // 집계 대상 열 누락/알 수 없는 필드, 잘못된 필터
+            log.debug("Invalid child document aggregate: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PatchMapping("/{parentId}/children/order")
     public ResponseEntity<Void> updateChildOrder(
             @CurrentUser UserPrincipal userPrincipal,
@@ -447,34 +684,36 @@ public class DocumentController {
     @PostMapping("/{documentId}/properties/{propertyId}/value")
     public AddOrUpdateValueResponse addOrUpdateValue(@PathVariable Long documentId, @PathVariable Long propertyId, @RequestBody AddOrUpdateValueRequest request) {
         var value = documentPropertyValueService.addOrUpdateValue(documentId, propertyId, request.getValue());
-        // 최신 메타 합성: 문서 vs 값 중 더 최신(updatedAt/by)
-        var docOpt = documentRepository.findById(documentId);
-        LocalDateTime latestAt = null;
-        String latestBy = null;
-        if (docOpt.isPresent()) {
-            var doc = docOpt.get();
-            latestAt = doc.getUpdatedAt();
-            latestBy = doc.getUpdatedBy();
-        }
-        var latestValueOpt = documentPropertyValueService.findLatestValue(documentId);
-        if (latestValueOpt.isPresent()) {
-            var pv = latestValueOpt.get();
-            var pvAt = pv.getUpdatedAt();
-            if (pvAt != null && (latestAt == null || pvAt.isAfter(latestAt))) {
-                latestAt = pvAt;
-                latestBy = pv.getUpdatedBy();
-            }
-        }
+        // 방금 저장한 값이 문서의 최종 수정 메타이므로 추가 조회 없이 응답
         return AddOrUpdateValueResponse.builder()
                 .id(value.getId())
                 .documentId(documentId)
                 .propertyId(propertyId)
                 .value(value.getValue())
-                .updatedAt(latestAt)
-                .updatedBy(latestBy)
+                .updatedAt(value.getUpdatedAt())
+                .updatedBy(value.getUpdatedBy())
                 .build();
     }
 
+    /**
+     * 속성 값 일괄 저장 (여러 셀 붙여넣기)
+     * 유효한 셀을 한 트랜잭션에서 upsert하고 셀별 결과와 값이 바뀐 행의 최종 수정 메타를 반환합니다.
+     */
+    @PostMapping("/property-values/batch")
+    public ResponseEntity<PropertyValueBatchDtos.Response> upsertPropertyValues(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long workspaceId,
+            @RequestBody PropertyValueBatchDtos.Request request) {
+        try {
+            return ResponseEntity.ok(documentPropertyValueBatchService.upsertValues(
+                    workspaceId, userPrincipal.getId(), userPrincipal.getEmail(), request.getCells()));
+        } catch (IllegalArgumentException e) {
+            // 셀 수 초과, 빈 셀
+            log.debug("Invalid property value batch: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // 문서의 모든 속성 값 조회
     @GetMapping("/{documentId}/property-values")
     public List<DocumentPropertyValueDto> getPropertyValuesByDocument(@PathVariable Long documentId) {
@@ -501,17 +740,10 @@ public class DocumentController {
                 .collect(Collectors.toList());
     }
 
-    // 자식 문서들의 모든 속성 값 조회
+    // 자식 문서들의 모든 속성 값 조회 (테이블 열 캐시)
     @GetMapping("/{parentId}/children/property-values")
     public List<DocumentPropertyValueDto> getPropertyValuesByChildDocuments(@PathVariable Long parentId) {
-        return documentPropertyValueService.getValuesByChildDocuments(parentId).stream()
-                .map(v -> DocumentPropertyValueDto.builder()
-                        .id(v.getId())
-                        .documentId(v.getDocument().getId())
-                        .propertyId(v.getProperty().getId())
-                        .value(v.getValue())
-                        .build())
-                .collect(Collectors.toList());
+        return documentTableCacheService.getChildValues(parentId);
     }
 
     // --- 컬럼 너비 변경 API ---
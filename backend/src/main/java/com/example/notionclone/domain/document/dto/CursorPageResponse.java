@@ -0,0 +1,19 @@
+package com.example.notionclone.domain.document.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ * nextCursor를 그대로 다음 요청의 cursor 파라미터로 전달하면 이어서 조회됩니다.
+ */
+@Getter
+@Builder
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 마지막 페이지이면 null
+}
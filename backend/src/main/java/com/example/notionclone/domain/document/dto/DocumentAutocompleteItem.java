@@ -0,0 +1,18 @@
+package com.example.notionclone.domain.document.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 페이지 멘션/빠른 찾기 자동완성 항목 (최근 수정순)
+ */
+@Getter
+@Builder
+public class DocumentAutocompleteItem {
+    private Long id;
+    private String title;
+    private String viewType;
+    private LocalDateTime lastModifiedAt;
+}
@@ -0,0 +1,59 @@
+package com.example.notionclone.domain.document.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class DocumentBlockDtos {
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BlockItem {
+        private String blockId;
+        private String type;
+        private String content; // 최상위 노드 HTML 조각
+        private Integer sortOrder;
+    }
+
+    /**
+     * 블록 단위 변경 연산
+     * op: insert | update | delete | move
+     * afterBlockId: insert/move 시 앞에 올 블록 (null이면 맨 앞)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Operation {
+        private String op;
+        private String blockId;
+        private String afterBlockId;
+        private String type;
+        private String content;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PatchRequest {
+        private List<Operation> operations;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PatchResponse {
+        private int applied;
+        private LocalDateTime updatedAt;
+        private String updatedBy;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.notionclone.domain.document.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 데이터베이스 변경 피드(since 이후 변경분) DTO
+ */
+public class DocumentChangeDtos {
+
+    /**
+     * 삭제 기록 (entityType: DOCUMENT | PROPERTY | VALUE | TAG_OPTION, 휴지통으로 이동/다른 부모로 이동한 문서 포함)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Tombstone {
+        private String entityType;
+        private Long id;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TagOption {
+        private Long id;
+        private Long propertyId;
+        private String label;
+        private String color;
+        private Integer sortOrder;
+    }
+
+    /**
+     * 변경분 응답
+     * - seq: 다음 요청의 since로 사용할 번호
+     * - resync: since가 보관 기간 밖이거나 변경이 너무 많아 전체를 다시 불러와야 함 (이때 변경 목록은 비어 있음)
+     * - values: since 이후 바뀐 값 + 변경된 문서의 전체 값 (복원/이동으로 다시 나타난 행을 채우기 위함)
+     * - 같은 항목이 deleted와 변경 목록에 모두 있으면 변경 목록이 최신
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ChangesResponse {
+        private long since;
+        private long seq;
+        private boolean resync;
+        private List<DocumentListResponse> documents;
+        private List<DocumentPropertyDto> properties;
+        private List<TagOption> tagOptions;
+        private List<DocumentPropertyValueDto> values;
+        private List<Tombstone> deleted;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.notionclone.domain.document.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 무한 스크롤용 키셋 커서
+ * (sortOrder, id) 위치를 클라이언트에는 불투명한 토큰으로 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class DocumentCursor {
+    private final int sortOrder;
+    private final long id;
+
+    /**
+     * 첫 페이지 조회용 커서 (모든 문서보다 앞선 위치)
+     */
+    public static DocumentCursor first() {
+        return new DocumentCursor(Integer.MIN_VALUE, 0L);
+    }
+
+    public static DocumentCursor of(Integer sortOrder, Long id) {
+        return new DocumentCursor(sortOrder != null ? sortOrder : 0, id);
+    }
+
+    public String encode() {
+        String raw = sortOrder + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 커서로 복원합니다. 토큰이 없으면 첫 페이지 커서를 반환합니다.
+     */
+    public static DocumentCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return first();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            return new DocumentCursor(Integer.parseInt(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.notionclone.domain.document.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서브트리 복제 작업 상태 (status: QUEUED / RUNNING / COMPLETED / FAILED)
+ */
+@Getter
+@Builder
+public class DocumentDuplicateJobResponse {
+    private String jobId;
+    private Long sourceDocumentId;
+    /** 복제된 최상위 문서 ID (완료 후) */
+    private Long documentId;
+    private String status;
+    private int total;
+    private int copied;
+    private String error;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
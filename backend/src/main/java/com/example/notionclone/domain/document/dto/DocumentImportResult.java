@@ -0,0 +1,21 @@
+package com.example.notionclone.domain.document.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 워크스페이스 가져오기 결과 (적재 건수와 처리량)
+ */
+@Getter
+@Builder
+public class DocumentImportResult {
+    private long documents;
+    private long properties;
+    private long tagOptions;
+    private long values;
+    private long permissions;
+    /** 참조 대상이 없거나 형식이 잘못되어 건너뛴 레코드 수 */
+    private long skipped;
+    private long elapsedMs;
+    private long rowsPerSecond;
+}
@@ -0,0 +1,43 @@
+package com.example.notionclone.domain.document.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * ?fields= 목록 API에서 선택 가능한 필드
+ * path가 있는 필드는 SQL에서 해당 컬럼만 조회하고, 없는 필드(isShared)는 요청된 경우에만 배치 계산합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DocumentListField {
+    ID("id", "d.id"),
+    TITLE("title", "d.title"),
+    PARENT_ID("parentId", "d.parent.id"),
+    VIEW_TYPE("viewType", "d.viewType"),
+    USER_ID("userId", "d.user.id"),
+    WORKSPACE_ID("workspaceId", "d.workspace.id"),
+    SORT_ORDER("sortOrder", "d.sortOrder"),
+    CREATED_AT("createdAt", "d.createdAt"),
+    CREATED_BY("createdBy", "d.createdBy"),
+    UPDATED_AT("updatedAt", "COALESCE(d.lastModifiedAt, d.updatedAt)"),
+    UPDATED_BY("updatedBy", "CASE WHEN d.lastModifiedAt IS NULL THEN d.updatedBy ELSE d.lastModifiedBy END"),
+    HAS_CHILDREN("hasChildren", "CASE WHEN d.liveChildCount > 0 THEN true ELSE false END"),
+    IS_SHARED("isShared", null);
+
+    private final String fieldName;
+    private final String path; // JPQL 경로 (별칭 d), 계산 필드는 null
+
+    public boolean isColumn() {
+        return path != null;
+    }
+
+    public static Optional<DocumentListField> fromFieldName(String name) {
+        String trimmed = name == null ? "" : name.trim();
+        return Arrays.stream(values())
+                .filter(f -> f.fieldName.equalsIgnoreCase(trimmed))
+                .findFirst();
+    }
+}
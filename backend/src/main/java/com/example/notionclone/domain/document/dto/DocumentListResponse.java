@@ -47,8 +47,8 @@ public class DocumentListResponse {
                 .workspaceId(document.getWorkspace() != null ? document.getWorkspace().getId() : null)
                 .hasChildren(hasChildren)
                 .sortOrder(document.getSortOrder())
-                .updatedAt(document.getUpdatedAt())
-                .updatedBy(document.getUpdatedBy())
+                .updatedAt(document.getLastModifiedAt())
+                .updatedBy(document.getLastModifiedBy())
                 .createdAt(document.getCreatedAt())
                 .createdBy(document.getCreatedBy())
                 .isShared(isShared)
@@ -0,0 +1,193 @@
+package com.example.notionclone.domain.document.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TABLE/GALLERY 뷰 서버 측 필터/정렬/그룹 조회 DTO
+ */
+public class DocumentQueryDtos {
+
+    /**
+     * 필터 조건
+     * 대상은 propertyId(부모 문서의 속성) 또는 field(title | createdAt | updatedAt | createdBy | updatedBy) 중 하나
+     * operator: contains | not_contains | equals | not_equals | starts_with | gt | gte | lt | lte | is_empty | is_not_empty
+     * (TAG 속성의 value는 태그 옵션 ID, DATE는 yyyy-MM-dd 또는 yyyy-MM-ddTHH:mm)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Filter {
+        private Long propertyId;
+        private String field;
+        private String operator;
+        private String value;
+    }
+
+    /**
+     * 정렬 조건 (빈 값은 방향과 관계없이 항상 뒤로)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Sort {
+        private Long propertyId;
+        private String field;
+        private String direction; // asc | desc
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class GroupBy {
+        private Long propertyId;
+        private String field;
+    }
+
+    /**
+     * 조회 요청 (conjunction: and | or, 필터 간 결합 방식)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class QueryRequest {
+        private List<Filter> filters;
+        private String conjunction;
+        private List<Sort> sorts;
+        private GroupBy groupBy;
+        private Integer offset;
+        private Integer limit;
+    }
+
+    /**
+     * 그룹별 행 수 (key가 null이면 값이 없는 행, TAG는 태그 옵션 ID별이라 한 행이 여러 그룹에 포함될 수 있음)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Group {
+        private String key;
+        private long count;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class QueryResponse {
+        private List<DocumentListResponse> rows;
+        private long total;
+        private int offset;
+        private int limit;
+        private List<Group> groups;
+    }
+
+    /**
+     * 가상 스크롤용 행 구간 요청
+     * - propertyIds: 화면에 보이는 속성 (없으면 전체 속성)
+     * - 정렬이 없으면 cursor(이전 응답의 nextCursor)로 이어 읽고, 정렬이 있으면 offset 사용
+     * - includeTotal: 전체 행 수 계산 여부 (기본: 첫 구간에서만)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class WindowRequest {
+        private List<Filter> filters;
+        private String conjunction;
+        private List<Sort> sorts;
+        private List<Long> propertyIds;
+        private String cursor;
+        private Integer offset;
+        private Integer limit;
+        private Boolean includeTotal;
+    }
+
+    /**
+     * 구간의 한 행 (values: 속성 ID → 값, 값이 없는 속성은 생략)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class WindowRow {
+        private DocumentListResponse document;
+        private Map<Long, String> values;
+    }
+
+    /**
+     * 행 구간 응답 (nextCursor가 null이면 마지막 구간이거나 offset 방식, total은 요청 시에만)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class WindowResponse {
+        private List<WindowRow> rows;
+        private Long total;
+        private int offset;
+        private int limit;
+        private String nextCursor;
+    }
+
+    /**
+     * 열 집계 요청 (대상은 propertyId 또는 field, filters/conjunction은 조회 요청과 같은 의미)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AggregateRequest {
+        private Long propertyId;
+        private String field;
+        private List<Filter> filters;
+        private String conjunction;
+    }
+
+    /**
+     * 열 집계 결과
+     * - 공통: total(행 수), filled(값이 있는 행 수), empty
+     * - NUMBER: sum, avg, min, max
+     * - DATE(생성/수정 일시 포함): earliest, latest
+     * - TAG: distribution (태그 옵션 ID별 행 수)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AggregateResponse {
+        private Long propertyId;
+        private String field;
+        private String type;
+        private long total;
+        private long filled;
+        private long empty;
+        private BigDecimal sum;
+        private BigDecimal avg;
+        private BigDecimal min;
+        private BigDecimal max;
+        private LocalDateTime earliest;
+        private LocalDateTime latest;
+        private List<Group> distribution;
+    }
+}
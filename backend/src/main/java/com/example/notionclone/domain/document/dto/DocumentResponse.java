@@ -37,7 +37,6 @@ public class DocumentResponse {
         return DocumentResponse.builder()
                 .id(document.getId())
                 .title(document.getTitle())
-                .content(document.getContent())
                 .parentId(document.getParent() != null ? document.getParent().getId() : null)
                 .viewType(document.getViewType().name())
                 .userId(document.getUser().getId())
@@ -71,6 +70,11 @@ public class DocumentResponse {
         return response;
     }
 
+    // 본문은 단건 조회/생성/수정 응답에서만 채움 (목록 응답은 본문 미포함)
+    public void setContent(String content) {
+        this.content = content;
+    }
+
     public void setProperties(List<DocumentPropertyDto> properties) {
         this.properties = properties;
     }
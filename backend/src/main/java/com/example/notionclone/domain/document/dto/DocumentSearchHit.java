@@ -0,0 +1,17 @@
+package com.example.notionclone.domain.document.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 전문 검색 결과 항목 (점수 내림차순)
+ */
+@Getter
+@Builder
+public class DocumentSearchHit {
+    private Long id;
+    private String title;
+    private Long parentId;
+    private String viewType;
+    private double score;
+}
@@ -0,0 +1,8 @@
+package com.example.notionclone.domain.document.dto;
+
+import lombok.Getter;
+
+@Getter
+public class MoveDocumentRequest {
+    private Long parentId; // null이면 루트로 이동
+}
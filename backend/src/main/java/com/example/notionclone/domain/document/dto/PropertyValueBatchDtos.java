@@ -0,0 +1,73 @@
+package com.example.notionclone.domain.document.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 속성 값 일괄 저장(여러 셀 붙여넣기) DTO
+ */
+public class PropertyValueBatchDtos {
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Cell {
+        private Long documentId;
+        private Long propertyId;
+        private String value;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Request {
+        private List<Cell> cells;
+    }
+
+    /**
+     * 셀별 결과 (status: OK | NOT_FOUND | INVALID_PROPERTY | FORBIDDEN, 요청 순서와 같음)
+     * 같은 셀이 여러 번 오면 마지막 값이 저장되며 모두 같은 valueId를 가집니다.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CellResult {
+        private Long documentId;
+        private Long propertyId;
+        private Long valueId;
+        private String value;
+        private String status;
+    }
+
+    /**
+     * 값이 바뀐 행(문서)의 최종 수정 메타
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RowMeta {
+        private Long documentId;
+        private LocalDateTime updatedAt;
+        private String updatedBy;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+        private List<CellResult> results;
+        private List<RowMeta> rows;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.notionclone.domain.document.entity;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 대용량 텍스트(문서 본문, 버전 스냅샷 JSON) 압축 저장 컨버터 (TEXT → bytea)
+ *
+ * 저장 형식
+ * - THRESHOLD_BYTES 미만이거나 압축 이득이 없으면 UTF-8 바이트 그대로 저장 (기존 TEXT 데이터를 변환한 값과 동일)
+ * - 그 외에는 [0x00][코덱][원본 길이(4바이트)][압축 데이터] 형식으로 저장
+ * PostgreSQL TEXT는 NUL 문자를 담을 수 없으므로 첫 바이트 0x00으로 압축 여부를 구분합니다.
+ *
+ * 원본/저장 바이트 수와 압축률을 Micrometer 메트릭으로 기록합니다.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+    static final int THRESHOLD_BYTES = 1024;
+    private static final byte MAGIC = 0x00;
+    private static final byte CODEC_DEFLATE = 0x01;
+    private static final int HEADER_BYTES = 6;
+
+    private static final Counter RAW_BYTES = Counter.builder("document.codec.raw.bytes")
+            .description("압축 대상 원본 바이트 수")
+            .register(Metrics.globalRegistry);
+    private static final Counter STORED_BYTES = Counter.builder("document.codec.stored.bytes")
+            .description("압축 후 저장된 바이트 수")
+            .register(Metrics.globalRegistry);
+    private static final DistributionSummary RATIO = DistributionSummary.builder("document.codec.compression.ratio")
+            .description("압축된 값의 원본/저장 크기 비율")
+            .register(Metrics.globalRegistry);
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        byte[] raw = attribute.getBytes(StandardCharsets.UTF_8);
+        // NUL로 시작하는 값은 헤더와 구분되지 않으므로 크기와 무관하게 압축 형식으로 저장
+        boolean storeRaw = raw.length < THRESHOLD_BYTES && (raw.length == 0 || raw[0] != MAGIC);
+        byte[] stored = storeRaw ? raw : compress(raw);
+        RAW_BYTES.increment(raw.length);
+        STORED_BYTES.increment(stored.length);
+        if (stored != raw) {
+            RATIO.record((double) raw.length / stored.length);
+        }
+        return stored;
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        if (dbData.length < HEADER_BYTES || dbData[0] != MAGIC) {
+            return new String(dbData, StandardCharsets.UTF_8);
+        }
+        if (dbData[1] != CODEC_DEFLATE) {
+            throw new IllegalStateException("Unknown compression codec: " + dbData[1]);
+        }
+        int originalLength = ByteBuffer.wrap(dbData, 2, 4).getInt();
+        return new String(inflate(dbData, originalLength), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 압축 결과가 원본보다 크거나 같으면 원본을 그대로 반환 (원본이 NUL로 시작하는 경우 제외)
+     */
+    private static byte[] compress(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2 + HEADER_BYTES);
+            out.write(MAGIC);
+            out.write(CODEC_DEFLATE);
+            out.writeBytes(ByteBuffer.allocate(4).putInt(raw.length).array());
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+                if (out.size() >= raw.length && raw[0] != MAGIC) {
+                    return raw;
+                }
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] dbData, int originalLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(dbData, HEADER_BYTES, dbData.length - HEADER_BYTES);
+            byte[] result = new byte[originalLength];
+            int offset = 0;
+            while (offset < originalLength && !inflater.finished()) {
+                int n = inflater.inflate(result, offset, originalLength - offset);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += n;
+            }
+            if (offset != originalLength) {
+                throw new IllegalStateException("Corrupted compressed text: expected " + originalLength + " bytes, got " + offset);
+            }
+            return result;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted compressed text", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.example.notionclone.domain.workspace.entity.Workspace;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,9 +25,6 @@ public class Document extends BaseEntity {
     @Column(nullable = false)
     private String title;
 
-    @Column(columnDefinition = "TEXT")
-    private String content;
-
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "workspace_id")
     private Workspace workspace;
@@ -54,6 +52,35 @@ public class Document extends BaseEntity {
     @JoinColumn(name = "parent_id")
     private Document parent;
 
+    /**
+     * 계층 경로 (materialized path) 예: "/1/5/23/"
+     * 루트부터 자신까지의 ID를 담아 서브트리/조상 조회를 단일 인덱스 쿼리로 처리합니다.
+     * (text_pattern_ops 인덱스는 DatabaseMigrationConfig에서 생성)
+     */
+    @Column(name = "path", length = 1024)
+    private String path;
+
+    @Column(name = "depth")
+    private Integer depth;
+
+    /**
+     * 휴지통에 없는 직계 자식 문서 수 (비정규화)
+     * 엔티티 저장으로 덮어쓰지 않도록 읽기 전용으로 매핑하고, DocumentRepository의 증감/재계산 쿼리로만 갱신합니다.
+     */
+    @Column(name = "live_child_count", insertable = false, updatable = false,
+            columnDefinition = "integer not null default 0")
+    private int liveChildCount;
+
+    /**
+     * 문서 또는 속성 값 중 가장 최근 수정 시각/수정자 (비정규화)
+     * 문서 변경은 저장 시 콜백에서, 속성 값 변경은 DocumentRepository.touchLastModified로 같은 트랜잭션에서 갱신합니다.
+     */
+    @Column(name = "last_modified_at")
+    private LocalDateTime lastModifiedAt;
+
+    @Column(name = "last_modified_by")
+    private String lastModifiedBy;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "view_type", nullable = false)
     private ViewType viewType;
@@ -66,19 +93,8 @@ public class Document extends BaseEntity {
     @OneToMany(mappedBy = "document", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<DocumentProperty> properties = new ArrayList<>();
 
-    public Document(String title, String content) {
-        this(title, content, null);
-    }
-
-    public Document(String title, String content, Workspace workspace) {
+    public void updateTitle(String title) {
         this.title = title;
-        this.content = content;
-        this.workspace = workspace;
-    }
-
-    public void update(String title, String content) {
-        this.title = title;
-        this.content = content;
     }
 
     public void setWorkspace(Workspace workspace) {
@@ -101,6 +117,72 @@ public class Document extends BaseEntity {
         this.parent = parent;
     }
 
+    public void setSortOrder(Integer sortOrder) {
+        this.sortOrder = sortOrder;
+    }
+
+    /**
+     * 최초 저장 시 ID가 확정된 뒤 부모 경로를 기준으로 경로/깊이를 채웁니다.
+     * 변경분은 같은 트랜잭션의 flush에서 UPDATE로 반영됩니다.
+     */
+    @PostPersist
+    void initPath() {
+        if (path != null) {
+            return;
+        }
+        if (parent == null) {
+            this.path = "/" + id + "/";
+            this.depth = 0;
+        } else if (parent.getPath() != null) {
+            this.path = parent.getPath() + id + "/";
+            this.depth = parent.getDepth() + 1;
+        }
+    }
+
+    /**
+     * 감사(auditing) 리스너가 updatedAt/updatedBy를 채운 뒤 호출되므로 그 값을 최종 수정 메타로 반영합니다.
+     */
+    @PrePersist
+    @PreUpdate
+    void syncLastModified() {
+        LocalDateTime updatedAt = getUpdatedAt();
+        if (updatedAt != null && (lastModifiedAt == null || updatedAt.isAfter(lastModifiedAt))) {
+            this.lastModifiedAt = updatedAt;
+            this.lastModifiedBy = getUpdatedBy();
+        }
+    }
+
+    public boolean hasLiveChildren() {
+        return liveChildCount > 0;
+    }
+
+    public LocalDateTime getLastModifiedAt() {
+        return lastModifiedAt != null ? lastModifiedAt : getUpdatedAt();
+    }
+
+    public String getLastModifiedBy() {
+        return lastModifiedAt != null ? lastModifiedBy : getUpdatedBy();
+    }
+
+    /**
+     * 조상 문서 ID 목록 (루트 → 직계 부모 순). 경로가 없으면 빈 목록
+     */
+    public List<Long> getAncestorIds() {
+        List<Long> ids = new ArrayList<>();
+        if (path == null) {
+            return ids;
+        }
+        for (String part : path.split("/")) {
+            if (!part.isEmpty()) {
+                ids.add(Long.parseLong(part));
+            }
+        }
+        if (!ids.isEmpty()) {
+            ids.remove(ids.size() - 1); // 자기 자신 제외
+        }
+        return ids;
+    }
+
     public ViewType getViewType() {
         return viewType;
     }
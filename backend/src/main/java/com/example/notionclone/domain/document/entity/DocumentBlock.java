@@ -0,0 +1,44 @@
+package com.example.notionclone.domain.document.entity;
+
+import com.example.notionclone.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+
+/**
+ * 문서 본문 블록 (최상위 노드 단위 HTML 조각)
+ * 블록 키는 클라이언트가 부여하는 안정적인 ID이며, 순서는 간격 기반 sort_order로 유지합니다.
+ * 블록 하나를 고치면 해당 행만 UPDATE 되도록 변경된 컬럼만 기록합니다.
+ */
+@Entity
+@Table(name = "document_blocks",
+        uniqueConstraints = @UniqueConstraint(name = "uk_document_blocks_key", columnNames = {"document_id", "block_key"}),
+        indexes = @Index(name = "idx_document_blocks_order", columnList = "document_id, sort_order"))
+@DynamicUpdate
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DocumentBlock extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "document_id", nullable = false)
+    private Document document;
+
+    @Column(name = "block_key", nullable = false, length = 64)
+    private String blockKey;
+
+    @Column(name = "sort_order", nullable = false)
+    private Integer sortOrder;
+
+    @Column(length = 50)
+    private String type;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "bytea")
+    private String content;
+}
@@ -0,0 +1,32 @@
+package com.example.notionclone.domain.document.entity;
+
+import com.example.notionclone.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 문서 본문
+ * 목록/트리/권한 검사에서 본문을 읽지 않도록 documents와 분리된 테이블에 보관하며,
+ * 문서 ID를 그대로 기본 키로 사용합니다. (조회는 DocumentContentService를 통해서만)
+ */
+@Entity
+@Table(name = "document_contents")
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class DocumentContent extends BaseEntity {
+    @Id
+    @Column(name = "document_id")
+    private Long documentId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "document_id")
+    private Document document;
+
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "bytea")
+    private String body;
+}
@@ -3,7 +3,18 @@ package com.example.notionclone.domain.document.entity;
 import com.example.notionclone.domain.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 문서별 속성 값 (EAV)
+ *
+ * 원본 값(value)과 함께 속성 타입에 맞는 타입 컬럼을 저장해 필터/정렬이 (property_id, 타입 값) 인덱스를 사용하도록 합니다.
+ * typedVersion이 null인 행(벌크 INSERT 등)은 백필 작업이 채웁니다.
+ */
 @Entity
 @Table(name = "document_property_values")
 @Getter
@@ -26,4 +37,30 @@ public class DocumentPropertyValue extends BaseEntity {
 
     @Column(columnDefinition = "TEXT")
     private String value;
+
+    @Column(name = "value_number", columnDefinition = "numeric")
+    private BigDecimal valueNumber;
+
+    @Column(name = "value_date")
+    private LocalDateTime valueDate;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "value_tag_ids", columnDefinition = "bigint[]")
+    private Long[] valueTagIds;
+
+    @Column(name = "typed_version")
+    private Short typedVersion;
+
+    /**
+     * 저장 직전에 원본 값을 속성 타입에 맞춰 타입 컬럼으로 변환합니다.
+     */
+    @PrePersist
+    @PreUpdate
+    void syncTypedValue() {
+        PropertyType type = property != null ? property.getType() : null;
+        this.valueNumber = type == PropertyType.NUMBER ? TypedPropertyValues.toNumber(value) : null;
+        this.valueDate = type == PropertyType.DATE ? TypedPropertyValues.toDate(value) : null;
+        this.valueTagIds = type == PropertyType.TAG ? TypedPropertyValues.toTagIds(value) : null;
+        this.typedVersion = TypedPropertyValues.VERSION;
+    }
 } 
\ No newline at end of file
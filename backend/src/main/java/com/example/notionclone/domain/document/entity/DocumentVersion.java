@@ -44,13 +44,17 @@ public class DocumentVersion extends BaseEntity {
     @Column(name = "title_column_width", nullable = false)
     private Integer titleColumnWidth;
 
-    @Column(columnDefinition = "TEXT")
+    // 스냅샷 본문/JSON은 CompressedTextConverter로 압축 저장 (bytea)
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "bytea")
     private String content; // PAGE 전용
 
-    @Column(name = "properties_json", columnDefinition = "TEXT")
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "properties_json", columnDefinition = "bytea")
     private String propertiesJson; // 컬럼 메타 (id/name/type/sortOrder/width 등)
 
-    @Column(name = "property_values_json", columnDefinition = "TEXT")
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "property_values_json", columnDefinition = "bytea")
     private String propertyValuesJson; // propertyId -> value
 
     @Column(name = "snapshot_hash", length = 64, nullable = false)
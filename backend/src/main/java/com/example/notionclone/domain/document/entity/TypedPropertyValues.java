@@ -0,0 +1,83 @@
+package com.example.notionclone.domain.document.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 속성 값(TEXT)을 타입별 인덱스 컬럼(value_number / value_date / value_tag_ids) 값으로 변환
+ *
+ * 형식이 맞지 않는 값은 null로 변환되어 필터/정렬에서 빈 값으로 취급됩니다.
+ * 엔티티 저장 시점과 기존 데이터 백필에서 같은 규칙을 사용합니다.
+ */
+public final class TypedPropertyValues {
+    /** 변환 규칙 버전 (규칙을 바꾸면 올리고 typed_version을 NULL로 초기화해 백필로 재계산) */
+    public static final short VERSION = 1;
+
+    private static final Pattern NUMBER = Pattern.compile("[-+]?([0-9]+\\.?[0-9]*|\\.[0-9]+)([eE][-+]?[0-9]{1,4})?");
+    private static final Pattern DATE = Pattern.compile("[0-9]{4}-[0-9]{2}-[0-9]{2}");
+    private static final Pattern DATE_TIME = Pattern.compile("[0-9]{4}-[0-9]{2}-[0-9]{2}[T ][0-9]{2}:[0-9]{2}(:[0-9]{2})?");
+    private static final Pattern TAG_ID = Pattern.compile("\"?([0-9]{1,18})\"?");
+
+    private TypedPropertyValues() {
+    }
+
+    public static BigDecimal toNumber(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (!NUMBER.matcher(trimmed).matches()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(trimmed);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public static LocalDateTime toDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            if (DATE.matcher(trimmed).matches()) {
+                return LocalDate.parse(trimmed).atStartOfDay();
+            }
+            if (DATE_TIME.matcher(trimmed).matches()) {
+                return LocalDateTime.parse(trimmed.replace(' ', 'T'));
+            }
+        } catch (DateTimeParseException e) {
+            // 2024-02-30 같은 존재하지 않는 날짜
+        }
+        return null;
+    }
+
+    /**
+     * TAG 값(옵션 ID JSON 배열, 예: [3,5] 또는 ["3","5"])을 ID 배열로 변환 (빈 배열/형식 오류는 null)
+     */
+    public static Long[] toTagIds(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (trimmed.length() < 3 || trimmed.charAt(0) != '[' || trimmed.charAt(trimmed.length() - 1) != ']') {
+            return null;
+        }
+        List<Long> ids = new ArrayList<>();
+        for (String element : trimmed.substring(1, trimmed.length() - 1).split(",")) {
+            var matcher = TAG_ID.matcher(element.trim());
+            if (!matcher.matches()) {
+                return null;
+            }
+            ids.add(Long.parseLong(matcher.group(1)));
+        }
+        return ids.toArray(Long[]::new);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.notionclone.domain.document.repository;
+
+import com.example.notionclone.domain.document.entity.DocumentBlock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DocumentBlockRepository extends JpaRepository<DocumentBlock, Long> {
+
+    List<DocumentBlock> findByDocumentIdOrderBySortOrderAscIdAsc(Long documentId);
+
+    Optional<DocumentBlock> findByDocumentIdAndBlockKey(Long documentId, String blockKey);
+
+    boolean existsByDocumentId(Long documentId);
+
+    /**
+     * 블록 본문만 순서대로 조회 (전체 본문 조립용)
+     */
+    @Query("SELECT b.content FROM DocumentBlock b WHERE b.document.id = :documentId ORDER BY b.sortOrder, b.id")
+    List<String> findContentsByDocumentId(@Param("documentId") Long documentId);
+
+    /**
+     * 블록의 현재 정렬 키 (재배치 이후에도 최신 값을 읽도록 스칼라로 조회)
+     */
+    @Query("SELECT b.sortOrder FROM DocumentBlock b WHERE b.document.id = :documentId AND b.blockKey = :blockKey")
+    Optional<Integer> findSortOrderByBlockKey(@Param("documentId") Long documentId, @Param("blockKey") String blockKey);
+
+    /**
+     * 주어진 키 바로 다음 블록의 정렬 키
+     */
+    @Query("SELECT MIN(b.sortOrder) FROM DocumentBlock b WHERE b.document.id = :documentId AND b.sortOrder > :sortOrder")
+    Integer findNextSortOrder(@Param("documentId") Long documentId, @Param("sortOrder") int sortOrder);
+
+    @Query("SELECT MIN(b.sortOrder) FROM DocumentBlock b WHERE b.document.id = :documentId")
+    Integer findFirstSortOrder(@Param("documentId") Long documentId);
+
+    @Modifying
+    @Query("UPDATE DocumentBlock b SET b.sortOrder = :sortOrder WHERE b.document.id = :documentId AND b.blockKey = :blockKey")
+    int updateSortOrder(@Param("documentId") Long documentId,
+                        @Param("blockKey") String blockKey,
+                        @Param("sortOrder") int sortOrder);
+
+    @Modifying
+    @Query("DELETE FROM DocumentBlock b WHERE b.document.id = :documentId")
+    int deleteByDocumentId(@Param("documentId") Long documentId);
+}
@@ -0,0 +1,40 @@
+package com.example.notionclone.domain.document.repository;
+
+import com.example.notionclone.domain.document.entity.DocumentContent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Repository
+public interface DocumentContentRepository extends JpaRepository<DocumentContent, Long> {
+
+    /**
+     * 본문 문자열만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     */
+    @Query("SELECT c.body FROM DocumentContent c WHERE c.documentId = :documentId")
+    Optional<String> findBodyByDocumentId(@Param("documentId") Long documentId);
+
+    /**
+     * 내보내기용 본문 커서 (문서 스트림과 같은 순서라 문서별로 병합해 읽을 수 있음)
+     * 각 행은 [document_id, 압축된 본문 bytea]이며, 블록으로 나뉜 문서는 블록 순서대로 여러 행입니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query(value = "SELECT s.document_id, s.body FROM (" +
+                   "  SELECT c.document_id, c.body, 0 AS sort_order, 0 AS id FROM document_contents c" +
+                   "  WHERE NOT EXISTS (SELECT 1 FROM document_blocks b WHERE b.document_id = c.document_id)" +
+                   "  UNION ALL" +
+                   "  SELECT b.document_id, b.content, b.sort_order, b.id FROM document_blocks b" +
+                   ") s JOIN documents d ON d.id = s.document_id " +
+                   "WHERE " + DocumentRepository.VISIBLE_DOCUMENT_SQL + DocumentRepository.EXPORT_ORDER + ", s.sort_order, s.id",
+           nativeQuery = true)
+    Stream<Object[]> streamVisibleBodiesForExport(@Param("workspaceId") Long workspaceId,
+                                                  @Param("userId") Long userId,
+                                                  @Param("status") String status);
+}
@@ -0,0 +1,19 @@
+package com.example.notionclone.domain.document.repository;
+
+import com.example.notionclone.domain.document.dto.DocumentListField;
+
+import java.util.List;
+
+/**
+ * 필드 선택 조회용 커스텀 리포지토리 (DocumentRepository 프래그먼트)
+ */
+public interface DocumentProjectionRepository {
+
+    /**
+     * 사용자에게 보이는 문서의 지정 컬럼만 조회합니다.
+     *
+     * @param columns 조회할 컬럼 필드 (계산 필드 제외), 결과 배열의 순서와 동일
+     * @return 컬럼 값 배열 목록 (sortOrder, id 순)
+     */
+    List<Object[]> findVisibleDocumentColumns(Long workspaceId, Long userId, List<DocumentListField> columns);
+}
@@ -0,0 +1,35 @@
+package com.example.notionclone.domain.document.repository;
+
+import com.example.notionclone.domain.document.dto.DocumentListField;
+import com.example.notionclone.domain.permission.entity.PermissionStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class DocumentProjectionRepositoryImpl implements DocumentProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Object[]> findVisibleDocumentColumns(Long workspaceId, Long userId, List<DocumentListField> columns) {
+        // 선택 필드는 enum에 정의된 경로만 사용하므로 사용자 입력이 쿼리에 직접 들어가지 않음
+        String select = columns.stream()
+                .map(DocumentListField::getPath)
+                .collect(Collectors.joining(", "));
+        String jpql = "SELECT " + select + " FROM Document d WHERE " + DocumentRepository.VISIBLE_DOCUMENT_CONDITION +
+                "ORDER BY COALESCE(d.sortOrder, 0) ASC, d.id ASC";
+
+        return entityManager.createQuery(jpql, Tuple.class)
+                .setParameter("workspaceId", workspaceId)
+                .setParameter("userId", userId)
+                .setParameter("status", PermissionStatus.ACCEPTED)
+                .getResultList()
+                .stream()
+                .map(Tuple::toArray)
+                .collect(Collectors.toList());
+    }
+}
@@ -3,6 +3,13 @@ package com.example.notionclone.domain.document.repository;
 import com.example.notionclone.domain.document.entity.DocumentProperty;
 import com.example.notionclone.domain.document.entity.Document;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import com.example.notionclone.domain.permission.entity.PermissionStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import java.util.stream.Stream;
 import java.util.List;
 
 public interface DocumentPropertyRepository extends JpaRepository<DocumentProperty, Long> {
@@ -11,4 +18,14 @@ public interface DocumentPropertyRepository extends JpaRepository<DocumentProper
     List<DocumentProperty> findByDocumentIdIn(List<Long> documentIds);
     List<DocumentProperty> findByDocumentIdOrderBySortOrderAsc(Long documentId);
     List<DocumentProperty> findByDocumentOrderBySortOrder(Document document);
-} 
\ No newline at end of file
+
+    /**
+     * 내보내기용 속성 정의 커서 조회 (사용자에게 보이는 문서의 속성만)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT dp FROM DocumentProperty dp JOIN dp.document d WHERE " + DocumentRepository.VISIBLE_DOCUMENT_CONDITION +
+           "ORDER BY d.id, dp.sortOrder, dp.id")
+    Stream<DocumentProperty> streamVisiblePropertiesForExport(@Param("workspaceId") Long workspaceId,
+                                                              @Param("userId") Long userId,
+                                                              @Param("status") PermissionStatus status);
+}
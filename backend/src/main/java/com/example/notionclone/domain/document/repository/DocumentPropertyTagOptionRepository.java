@@ -2,9 +2,26 @@ package com.example.notionclone.domain.document.repository;
 
 import com.example.notionclone.domain.document.entity.DocumentPropertyTagOption;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import com.example.notionclone.domain.permission.entity.PermissionStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import java.util.stream.Stream;
 import java.util.List;
 
 public interface DocumentPropertyTagOptionRepository extends JpaRepository<DocumentPropertyTagOption, Long> {
     List<DocumentPropertyTagOption> findByPropertyId(Long propertyId);
     void deleteByPropertyId(Long propertyId);
-} 
\ No newline at end of file
+
+    /**
+     * 내보내기용 태그 옵션 커서 조회 (사용자에게 보이는 문서의 속성 옵션만)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT t FROM DocumentPropertyTagOption t JOIN t.property dp JOIN dp.document d WHERE " +
+           DocumentRepository.VISIBLE_DOCUMENT_CONDITION + "ORDER BY dp.id, t.sortOrder, t.id")
+    Stream<DocumentPropertyTagOption> streamVisibleTagOptionsForExport(@Param("workspaceId") Long workspaceId,
+                                                                       @Param("userId") Long userId,
+                                                                       @Param("status") PermissionStatus status);
+}
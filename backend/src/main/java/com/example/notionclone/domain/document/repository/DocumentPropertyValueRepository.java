@@ -6,7 +6,11 @@ import com.example.notionclone.domain.document.entity.DocumentProperty;
 import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 public interface DocumentPropertyValueRepository extends JpaRepository<DocumentPropertyValue, Long> {
@@ -19,11 +23,14 @@ public interface DocumentPropertyValueRepository extends JpaRepository<DocumentP
     long deleteByDocumentId(Long documentId);
     long deleteByDocumentIdIn(List<Long> documentIds);
 
-    // 최신 값 한 건(단일 문서)
-    Optional<DocumentPropertyValue> findTopByDocumentIdOrderByUpdatedAtDesc(Long documentId);
-
-    // 다건 최적화: 문서별 최신 updatedAt 집계
-    @Query("SELECT v.document.id as documentId, MAX(v.updatedAt) as latestUpdatedAt " +
-           "FROM DocumentPropertyValue v WHERE v.document.id IN :docIds GROUP BY v.document.id")
-    List<Object[]> findLatestUpdatedAtByDocumentIds(@Param("docIds") List<Long> documentIds);
-} 
\ No newline at end of file
+    /**
+     * 내보내기용 속성 값 커서 조회 (문서 스트림과 같은 순서라 문서별로 병합해 읽을 수 있음)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query(value = "SELECT v.* FROM document_property_values v JOIN documents d ON d.id = v.document_id " +
+                   "WHERE " + DocumentRepository.VISIBLE_DOCUMENT_SQL + DocumentRepository.EXPORT_ORDER + ", v.property_id",
+           nativeQuery = true)
+    Stream<DocumentPropertyValue> streamVisibleValuesForExport(@Param("workspaceId") Long workspaceId,
+                                                               @Param("userId") Long userId,
+                                                               @Param("status") String status);
+}
@@ -3,15 +3,48 @@ package com.example.notionclone.domain.document.repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.example.notionclone.domain.document.entity.Document;
+import com.example.notionclone.domain.permission.entity.PermissionStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
-public interface DocumentRepository extends JpaRepository<Document, Long> {
+public interface DocumentRepository extends JpaRepository<Document, Long>, DocumentProjectionRepository {
+
+    /**
+     * 사용자에게 보이는 문서 조건 (워크스페이스 내, 휴지통 제외, 소유 또는 ACCEPTED 권한 보유)
+     * 소유 문서와 공유받은 문서를 DB에서 한 번에 병합하기 위해 여러 쿼리에서 공유합니다.
+     * 파라미터: :workspaceId, :userId, :status
+     */
+    String VISIBLE_DOCUMENT_CONDITION =
+            "d.workspace.id = :workspaceId " +
+            "AND d.isTrashed = false " +
+            "AND (d.user.id = :userId OR EXISTS (" +
+            "  SELECT p.id FROM Permission p WHERE p.document = d AND p.user.id = :userId AND p.status = :status)) ";
+
+    /**
+     * VISIBLE_DOCUMENT_CONDITION의 네이티브 SQL 버전 (documents 별칭 d, :status는 문자열)
+     */
+    String VISIBLE_DOCUMENT_SQL =
+            "d.workspace_id = :workspaceId " +
+            "AND d.is_trashed = false " +
+            "AND (d.user_id = :userId OR EXISTS (" +
+            "  SELECT 1 FROM permissions p WHERE p.document_id = d.id AND p.user_id = :userId AND p.status = :status)) ";
+
+    /**
+     * 내보내기 순서: 경로를 바이트 순서(COLLATE "C")로 정렬하면 부모 바로 뒤에 서브트리가 오는 깊이 우선 순서가 됨
+     */
+    String EXPORT_ORDER = "ORDER BY d.path COLLATE \"C\" NULLS LAST, d.id";
     
     List<Document> findByWorkspaceId(Long workspaceId);
     
@@ -25,10 +58,6 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
     @Query("SELECT d FROM Document d LEFT JOIN FETCH d.workspace WHERE d.id = :id")
     Document findByIdWithWorkspace(@Param("id") Long id);
 
-    @Modifying
-    @Query("UPDATE Document d SET d.sortOrder = :sortOrder WHERE d.workspace.id = :workspaceId AND d.id = :docId")
-    void updateSortOrder(@Param("workspaceId") Long workspaceId, @Param("docId") Long docId, @Param("sortOrder") int sortOrder);
-
     @Modifying
     @Query("DELETE FROM Document d WHERE d.workspace.id = :workspaceId AND d.isTrashed = true")
     void deleteAllTrashedByWorkspaceId(@Param("workspaceId") Long workspaceId);
@@ -43,30 +72,101 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
 
     Page<Document> findByParentIdAndIsTrashedFalseOrderBySortOrderAscIdAsc(Long parentId, Pageable pageable);
 
-    boolean existsByParentIdAndIsTrashedFalse(Long parentId);
 
     List<Document> findByParentId(Long parentId);
 
-    @Modifying
-    @Query("UPDATE Document d SET d.sortOrder = :sortOrder WHERE d.parent.id = :parentId AND d.id = :docId")
-    void updateChildSortOrder(@Param("parentId") Long parentId, @Param("docId") Long docId, @Param("sortOrder") int sortOrder);
+    /**
+     * 서브트리 조회 (자기 자신 제외, 얕은 깊이부터)
+     * materialized path 접두사 검색으로 트리 깊이와 무관하게 단일 인덱스 쿼리로 처리합니다.
+     *
+     * @param path 루트 문서의 경로 (예: "/1/5/")
+     */
+    @Query("SELECT d FROM Document d WHERE d.path LIKE CONCAT(:path, '_%') ORDER BY d.depth ASC, d.id ASC")
+    List<Document> findDescendantsByPath(@Param("path") String path);
 
     /**
-     * N+1 문제 해결을 위한 배치 쿼리
-     * 여러 문서의 hasChildren 정보를 한 번의 쿼리로 조회합니다.
-     * 
-     * @param documentIds 문서 ID 목록
-     * @return 문서 ID와 hasChildren 여부의 매핑
+     * 서브트리 문서 ID 조회 (자기 자신 제외, 엔티티 미로딩)
      */
-    @Query("SELECT d.id, COUNT(c.id) > 0 " +
-           "FROM Document d " +
-           "LEFT JOIN Document c ON d.id = c.parent.id AND c.isTrashed = false " +
-           "WHERE d.id IN :documentIds " +
-           "GROUP BY d.id")
-    List<Object[]> findHasChildrenByDocumentIds(@Param("documentIds") List<Long> documentIds);
+    @Query("SELECT d.id FROM Document d WHERE d.path LIKE CONCAT(:path, '_%')")
+    List<Long> findDescendantIdsByPath(@Param("path") String path);
+
+    /**
+     * 서브트리 일괄 휴지통 처리/복원 (자기 자신 제외)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Document d SET d.isTrashed = :trashed WHERE d.path LIKE CONCAT(:path, '_%')")
+    int updateTrashedByPath(@Param("path") String path, @Param("trashed") boolean trashed);
+
+    /**
+     * 서브트리 이동 시 경로/깊이 일괄 갱신 (자기 자신 포함)
+     *
+     * @param oldPath 이동 전 루트 경로
+     * @param newPath 이동 후 루트 경로
+     * @param depthDelta 깊이 변화량
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Document d SET d.path = CONCAT(:newPath, SUBSTRING(d.path, LENGTH(:oldPath) + 1)), " +
+           "d.depth = d.depth + :depthDelta " +
+           "WHERE d.path LIKE CONCAT(:oldPath, '%')")
+    int movePath(@Param("oldPath") String oldPath, @Param("newPath") String newPath, @Param("depthDelta") int depthDelta);
+
+    /**
+     * 문서 ID별 소유자 ID 조회 (조상 권한 상속 검사용, 본문 미로딩)
+     *
+     * @return [documentId, userId] 형태의 Object 배열 리스트
+     */
+    @Query("SELECT d.id, d.user.id FROM Document d WHERE d.id IN :ids")
+    List<Object[]> findOwnerIdsByIds(@Param("ids") List<Long> ids);
+
+    /**
+     * 속성 값 변경 시 문서의 최종 수정 메타 갱신 (더 최신인 경우에만)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Document d SET d.lastModifiedAt = :modifiedAt, d.lastModifiedBy = :modifiedBy " +
+           "WHERE d.id = :id AND (d.lastModifiedAt IS NULL OR d.lastModifiedAt < :modifiedAt)")
+    int touchLastModified(@Param("id") Long id,
+                          @Param("modifiedAt") LocalDateTime modifiedAt,
+                          @Param("modifiedBy") String modifiedBy);
+
+    /**
+     * 직계 자식 수 증감 (자식 생성/휴지통/복원/이동 시)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE documents SET live_child_count = GREATEST(live_child_count + :delta, 0) WHERE id = :id",
+           nativeQuery = true)
+    int adjustLiveChildCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * 서브트리(자신 포함) 문서들의 직계 자식 수 재계산 (서브트리 일괄 휴지통 처리 후)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE documents d SET live_child_count = " +
+                   "(SELECT COUNT(*) FROM documents c WHERE c.parent_id = d.id AND c.is_trashed = false) " +
+                   "WHERE d.path LIKE CONCAT(:path, '%')",
+           nativeQuery = true)
+    int recountLiveChildrenByPath(@Param("path") String path);
+
+    /**
+     * 지정 문서들의 직계 자식 수 재계산 (경로 미구축 문서용)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE documents d SET live_child_count = " +
+                   "(SELECT COUNT(*) FROM documents c WHERE c.parent_id = d.id AND c.is_trashed = false) " +
+                   "WHERE d.id IN (:ids)",
+           nativeQuery = true)
+    int recountLiveChildren(@Param("ids") List<Long> ids);
 
     List<Document> findByTitleContainingIgnoreCase(String searchTerm);
 
+    /**
+     * 주어진 문서 중 사용자에게 보이는 문서 ID (검색 결과 권한 필터)
+     */
+    @Query("SELECT d.id FROM Document d WHERE " + VISIBLE_DOCUMENT_CONDITION + "AND d.id IN :ids")
+    List<Long> findVisibleDocumentIdsIn(@Param("workspaceId") Long workspaceId,
+                                        @Param("userId") Long userId,
+                                        @Param("status") PermissionStatus status,
+                                        @Param("ids") Collection<Long> ids);
+
     /**
      * 테이블 문서 목록 조회용 경량 쿼리
      * DummyDataTestPanel에서 테이블 문서 선택을 위한 최소 필드만 조회
@@ -80,4 +180,56 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
            "AND d.isTrashed = false " +
            "ORDER BY d.sortOrder ASC, d.id ASC")
     List<Object[]> findTableDocumentsByWorkspaceId(@Param("workspaceId") Long workspaceId);
-} 
\ No newline at end of file
+
+    /**
+     * 사용자에게 보이는 문서(소유 + 공유받은 문서)를 중복 없이 정렬된 전체 목록으로 조회합니다.
+     */
+    @Query("SELECT d FROM Document d WHERE " + VISIBLE_DOCUMENT_CONDITION +
+           "ORDER BY COALESCE(d.sortOrder, 0) ASC, d.id ASC")
+    List<Document> findVisibleDocuments(@Param("workspaceId") Long workspaceId,
+                                        @Param("userId") Long userId,
+                                        @Param("status") PermissionStatus status);
+
+    /**
+     * 사용자에게 보이는 문서(소유 + 공유받은 문서)를 DB에서 병합/정렬/페이지 처리하여 조회합니다.
+     * 전체 개수는 동일 조건의 COUNT 쿼리로 계산하므로 워크스페이스 크기와 무관하게 한 페이지만 메모리에 올라옵니다.
+     */
+    @Query(value = "SELECT d FROM Document d WHERE " + VISIBLE_DOCUMENT_CONDITION +
+                   "ORDER BY COALESCE(d.sortOrder, 0) ASC, d.id ASC",
+           countQuery = "SELECT COUNT(d) FROM Document d WHERE " + VISIBLE_DOCUMENT_CONDITION)
+    Page<Document> findVisibleDocuments(@Param("workspaceId") Long workspaceId,
+                                        @Param("userId") Long userId,
+                                        @Param("status") PermissionStatus status,
+                                        Pageable pageable);
+
+    /**
+     * 무한 스크롤용 키셋 페이지 조회
+     * 사용자가 소유하거나 ACCEPTED 권한을 가진 문서 중 (sortOrder, id) 커서 이후의 문서를 SQL에서 바로 탐색합니다.
+     * OFFSET을 사용하지 않고, 행 비교 조건이 idx_documents_workspace_keyset의 범위 시작점이 되므로
+     * 몇 번째 페이지든 동일한 비용으로 조회됩니다.
+     *
+     * @param status 권한 상태 (PermissionStatus 이름)
+     * @param sortOrder 커서의 sortOrder (null은 0으로 취급)
+     * @param lastId 커서의 문서 ID
+     * @param pageable 조회 개수 (정렬은 쿼리에서 고정)
+     */
+    @Query(value = "SELECT d.* FROM documents d WHERE " + VISIBLE_DOCUMENT_SQL +
+                   "AND (COALESCE(d.sort_order, 0), d.id) > (:sortOrder, :lastId) " +
+                   "ORDER BY COALESCE(d.sort_order, 0) ASC, d.id ASC",
+           nativeQuery = true)
+    Slice<Document> findVisibleDocumentsAfterCursor(@Param("workspaceId") Long workspaceId,
+                                                    @Param("userId") Long userId,
+                                                    @Param("status") String status,
+                                                    @Param("sortOrder") int sortOrder,
+                                                    @Param("lastId") long lastId,
+                                                    Pageable pageable);
+
+    /**
+     * 내보내기용 서버 측 커서 조회 (트랜잭션 안에서 소비, fetch size 단위로만 메모리에 올라옴)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(value = "SELECT d.* FROM documents d WHERE " + VISIBLE_DOCUMENT_SQL + EXPORT_ORDER, nativeQuery = true)
+    Stream<Document> streamVisibleDocumentsForExport(@Param("workspaceId") Long workspaceId,
+                                                     @Param("userId") Long userId,
+                                                     @Param("status") String status);
+}
@@ -5,17 +5,35 @@ import com.example.notionclone.domain.document.entity.DocumentVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 
 @Repository
 public interface DocumentVersionRepository extends JpaRepository<DocumentVersion, Long> {
-    Page<DocumentVersion> findByDocumentOrderByCreatedAtDesc(Document document, Pageable pageable);
-    Optional<DocumentVersion> findFirstByDocumentAndSnapshotHash(Document document, String snapshotHash);
-    long deleteByDocumentAndCreatedAtBefore(Document document, LocalDateTime threshold);
+    boolean existsByDocumentAndSnapshotHash(Document document, String snapshotHash);
     long deleteByDocument(Document document);
+
+    /**
+     * 버전 목록 조회 (압축된 본문/JSON 컬럼은 읽지 않음)
+     *
+     * @return [id, title, viewType, titleColumnWidth, createdBy, createdAt] 형태의 Object 배열 페이지
+     */
+    @Query(value = "SELECT v.id, v.title, v.viewType, v.titleColumnWidth, v.createdBy, v.createdAt " +
+                   "FROM DocumentVersion v WHERE v.document = :document ORDER BY v.createdAt DESC",
+           countQuery = "SELECT COUNT(v) FROM DocumentVersion v WHERE v.document = :document")
+    Page<Object[]> findSummariesByDocument(@Param("document") Document document, Pageable pageable);
+
+    /**
+     * 보관 기간이 지난 버전 일괄 삭제 (엔티티 로딩/압축 해제 없이 단일 DELETE)
+     */
+    @Modifying
+    @Query("DELETE FROM DocumentVersion v WHERE v.document = :document AND v.createdAt < :threshold")
+    int deleteByDocumentAndCreatedAtBefore(@Param("document") Document document,
+                                           @Param("threshold") LocalDateTime threshold);
 }
 
 
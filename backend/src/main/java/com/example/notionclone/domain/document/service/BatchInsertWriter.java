@@ -0,0 +1,105 @@
+package com.example.notionclone.domain.document.service;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 다중 행 INSERT 버퍼
+ *
+ * 행을 모아 "INSERT ... VALUES (...), (...), ..." 한 문장으로 기록합니다.
+ * IDENTITY 키 엔티티는 Hibernate가 배치로 묶지 못하므로, 대량 적재는 ID를 미리 받아 이 버퍼로 직접 씁니다.
+ * 컬럼마다 java.sql.Types를 지정해 null 바인딩 시 드라이버가 타입을 다시 묻지 않도록 합니다.
+ */
+final class BatchInsertWriter {
+    // PostgreSQL 바인드 파라미터 상한(32767) 안에서 문장당 행 수를 정함
+    private static final int MAX_PARAMETERS = 30_000;
+    private static final int MAX_ROWS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String prefix;
+    private final String rowPlaceholder;
+    private final int[] sqlTypes;
+    private final int rowsPerStatement;
+    private final List<Object[]> rows;
+    private final List<Runnable> beforeFlush = new ArrayList<>();
+    private String fullStatement;
+    private long written;
+
+    BatchInsertWriter(JdbcTemplate jdbcTemplate, String table, String[] columns, int[] sqlTypes) {
+        if (columns.length != sqlTypes.length) {
+            throw new IllegalArgumentException("Column and type counts differ for " + table);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.prefix = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ";
+        this.rowPlaceholder = "(" + "?, ".repeat(columns.length - 1) + "?)";
+        this.sqlTypes = sqlTypes;
+        this.rowsPerStatement = Math.min(MAX_ROWS, MAX_PARAMETERS / columns.length);
+        this.rows = new ArrayList<>(rowsPerStatement);
+    }
+
+    /**
+     * 이 버퍼를 기록하기 전에 먼저 기록해야 하는 버퍼 지정 (외래 키가 가리키는 행을 먼저 기록)
+     */
+    BatchInsertWriter after(BatchInsertWriter parent) {
+        beforeFlush.add(parent::flush);
+        return this;
+    }
+
+    void add(Object... values) {
+        rows.add(values);
+        if (rows.size() >= rowsPerStatement) {
+            flush();
+        }
+    }
+
+    void flush() {
+        if (rows.isEmpty()) {
+            return;
+        }
+        beforeFlush.forEach(Runnable::run);
+        String sql = rows.size() == rowsPerStatement ? fullStatement() : statement(rows.size());
+        jdbcTemplate.update(sql, this::bind);
+        written += rows.size();
+        rows.clear();
+    }
+
+    long written() {
+        return written;
+    }
+
+    private void bind(PreparedStatement ps) throws SQLException {
+        int index = 1;
+        for (Object[] row : rows) {
+            for (int i = 0; i < sqlTypes.length; i++) {
+                if (row[i] == null) {
+                    ps.setNull(index++, sqlTypes[i]);
+                } else {
+                    ps.setObject(index++, row[i], sqlTypes[i]);
+                }
+            }
+        }
+    }
+
+    private String fullStatement() {
+        if (fullStatement == null) {
+            fullStatement = statement(rowsPerStatement);
+        }
+        return fullStatement;
+    }
+
+    private String statement(int rowCount) {
+        StringBuilder sql = new StringBuilder(prefix.length() + rowCount * (rowPlaceholder.length() + 2));
+        sql.append(prefix);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(rowPlaceholder);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.config.CacheConfig;
+import com.example.notionclone.config.ReplicaRoutingDataSource;
+import com.example.notionclone.domain.document.dto.DocumentAutocompleteItem;
+import com.example.notionclone.domain.permission.entity.PermissionStatus;
+import com.example.notionclone.domain.permission.repository.PermissionRepository;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 페이지 멘션/빠른 찾기 자동완성 서비스
+ *
+ * - 워크스페이스별 제목 접두사 색인(DocumentTitleIndex)을 첫 조회 시 DB에서 구축하고 메모리에서만 조회합니다.
+ * - 가시성은 목록 API와 같은 조건(소유 또는 ACCEPTED 권한, 휴지통 제외)이며,
+ *   소유자는 색인에 함께 보관하고 공유 문서 ID 집합은 사용자별 캐시(DOCUMENT_VISIBILITY)에서 읽습니다.
+ * - 변경은 DocumentSearchService.markChanged와 같은 시점(커밋 이후)에 전달받아 주기적으로 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentAutocompleteService {
+    private static final int MAX_LIMIT = 50;
+    private static final int LOAD_CHUNK_SIZE = 2000;
+
+    private static final String DOCUMENT_SELECT =
+            "SELECT id, workspace_id, title, user_id, view_type, is_trashed, " +
+            "COALESCE(last_modified_at, updated_at, created_at) AS modified_at FROM documents ";
+
+    private static final Timer QUERY_TIMER = Timer.builder("document.autocomplete.query")
+            .description("자동완성 조회 시간 (메모리 색인)")
+            .publishPercentiles(0.5, 0.99)
+            .register(Metrics.globalRegistry);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PermissionRepository permissionRepository;
+    private final CacheManager cacheManager;
+    private final Map<Long, DocumentTitleIndex> indexes = new ConcurrentHashMap<>();
+    private final Set<Long> pendingDocumentIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 제목의 단어가 prefix로 시작하는 문서 중 사용자에게 보이는 문서를 최근 수정순으로 조회
+     */
+    public List<DocumentAutocompleteItem> autocomplete(Long workspaceId, Long userId, String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        DocumentTitleIndex index = indexFor(workspaceId);
+        Set<Long> sharedIds = sharedDocumentIds(workspaceId, userId);
+        long owner = userId;
+        return QUERY_TIMER.record(() -> index.lookup(prefix, size, ownerId -> ownerId == owner, sharedIds::contains)
+                .stream()
+                .map(match -> DocumentAutocompleteItem.builder()
+                        .id(match.docId())
+                        .title(match.title())
+                        .viewType(match.viewType())
+                        .lastModifiedAt(match.modifiedAt() > 0 ? new Timestamp(match.modifiedAt()).toLocalDateTime() : null)
+                        .build())
+                .toList());
+    }
+
+    /**
+     * 변경된 문서를 반영 대상으로 등록 (이미 커밋된 변경만 전달받음)
+     */
+    void markChanged(Collection<Long> documentIds) {
+        if (!indexes.isEmpty()) {
+            pendingDocumentIds.addAll(documentIds);
+        }
+    }
+
+    public void invalidateWorkspace(Long workspaceId) {
+        indexes.remove(workspaceId);
+    }
+
+    public void invalidateAll() {
+        indexes.clear();
+    }
+
+    /**
+     * 커밋된 변경을 색인에 반영하고, 변경 슬롯이 많이 쌓인 색인은 정렬 배열을 다시 구축
+     */
+    @Scheduled(fixedDelayString = "${autocomplete.flush-interval-ms:500}")
+    public void flushChanges() {
+        if (!pendingDocumentIds.isEmpty()) {
+            List<Long> ids = new ArrayList<>(pendingDocumentIds);
+            pendingDocumentIds.removeAll(ids);
+            try {
+                for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+                    applyChanges(ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size())));
+                }
+            } catch (RuntimeException e) {
+                // 반영 실패 시 다음 주기에 다시 시도
+                pendingDocumentIds.addAll(ids);
+                log.warn("자동완성 색인 반영 실패 ({}건): {}", ids.size(), e.getMessage());
+            }
+        }
+        for (DocumentTitleIndex index : indexes.values()) {
+            if (index.needsCompaction()) {
+                index.compact();
+            }
+        }
+    }
+
+    private void applyChanges(List<Long> ids) {
+        Map<Long, Row> rows = new HashMap<>();
+        for (Row row : loadRows("WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())))) {
+            rows.put(row.id(), row);
+        }
+        for (Long id : ids) {
+            Row row = rows.get(id);
+            for (Map.Entry<Long, DocumentTitleIndex> e : indexes.entrySet()) {
+                if (row != null && !row.trashed() && e.getKey().equals(row.workspaceId())) {
+                    e.getValue().put(row.id(), row.title(), row.ownerId(), row.viewType(), row.modifiedAt());
+                } else {
+                    e.getValue().remove(id);
+                }
+            }
+        }
+    }
+
+    private DocumentTitleIndex indexFor(Long workspaceId) {
+        DocumentTitleIndex index = indexes.computeIfAbsent(workspaceId, id -> new DocumentTitleIndex());
+        if (!index.isReady()) {
+            synchronized (index) {
+                if (!index.isReady()) {
+                    build(workspaceId, index);
+                }
+            }
+        }
+        return index;
+    }
+
+    private void build(Long workspaceId, DocumentTitleIndex index) {
+        long start = System.currentTimeMillis();
+        List<DocumentTitleIndex.Match> documents = new ArrayList<>();
+        Map<Long, Long> owners = new HashMap<>();
+        long lastId = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Row> rows = loadRows("WHERE workspace_id = ? AND is_trashed = false AND id > ? ORDER BY id LIMIT ?",
+                    ps -> {
+                        ps.setLong(1, workspaceId);
+                        ps.setLong(2, afterId);
+                        ps.setInt(3, LOAD_CHUNK_SIZE);
+                    });
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (Row row : rows) {
+                documents.add(new DocumentTitleIndex.Match(row.id(), row.title(), row.viewType(), row.modifiedAt()));
+                owners.put(row.id(), row.ownerId());
+            }
+            lastId = rows.get(rows.size() - 1).id();
+        }
+        index.load(documents, owners);
+        log.info("자동완성 색인 구축: workspaceId={}, {}건 ({}ms)", workspaceId, index.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 사용자가 ACCEPTED 권한으로 공유받은 워크스페이스 문서 ID 집합 (권한 변경 시 DocumentListCacheService가 제거)
+     */
+    private Set<Long> sharedDocumentIds(Long workspaceId, Long userId) {
+        Cache cache = cacheManager.getCache(CacheConfig.DOCUMENT_VISIBILITY);
+        return cache.get(workspaceId + "_" + userId, () -> ReplicaRoutingDataSource.onPrimary(() -> Set.copyOf(
+                permissionRepository.findAcceptedDocumentIdsByUserAndWorkspace(userId, PermissionStatus.ACCEPTED, workspaceId))));
+    }
+
+    private record Row(long id, Long workspaceId, String title, long ownerId, String viewType,
+                       boolean trashed, long modifiedAt) {
+    }
+
+    private List<Row> loadRows(String condition, PreparedStatementSetter parameters) {
+        return jdbcTemplate.query(DOCUMENT_SELECT + condition, parameters, (rs, rowNum) -> {
+            Timestamp modifiedAt = rs.getTimestamp("modified_at");
+            return new Row(
+                    rs.getLong("id"),
+                    rs.getObject("workspace_id", Long.class),
+                    rs.getString("title"),
+                    rs.getLong("user_id"),
+                    rs.getString("view_type"),
+                    rs.getBoolean("is_trashed"),
+                    modifiedAt != null ? modifiedAt.getTime() : 0L);
+        });
+    }
+}
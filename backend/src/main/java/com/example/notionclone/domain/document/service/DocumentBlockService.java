@@ -0,0 +1,225 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.domain.document.dto.DocumentBlockDtos;
+import com.example.notionclone.domain.document.entity.Document;
+import com.example.notionclone.domain.document.entity.DocumentBlock;
+import com.example.notionclone.domain.document.repository.DocumentBlockRepository;
+import com.example.notionclone.domain.document.repository.DocumentRepository;
+import com.example.notionclone.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * 블록 단위 문서 본문 편집 서비스
+ *
+ * 본문을 최상위 노드 단위 블록으로 나눠 저장하고, 삽입/수정/삭제/이동 연산마다 해당 블록 행만 기록합니다.
+ * 큰 문서에서 문단 하나를 고쳐도 전체 본문을 다시 쓰지 않습니다.
+ * 블록이 없는 문서의 기존 본문은 첫 패치 시 단일 블록(레거시 키)으로 옮겨집니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentBlockService {
+    private static final int MAX_BLOCK_KEY_LENGTH = 64;
+
+    private final DocumentBlockRepository blockRepository;
+    private final DocumentRepository documentRepository;
+    private final DocumentContentService documentContentService;
+    private final SortRankService sortRankService;
+    private final DocumentSearchService documentSearchService;
+    private final AuditorAware<String> auditorAware;
+
+    @Transactional(readOnly = true)
+    public List<DocumentBlockDtos.BlockItem> getBlocks(Long documentId) {
+        List<DocumentBlock> blocks = blockRepository.findByDocumentIdOrderBySortOrderAscIdAsc(documentId);
+        if (blocks.isEmpty()) {
+            // 아직 블록으로 나뉘지 않은 문서는 기존 본문을 단일 블록으로 노출 (첫 패치 시 같은 키로 저장됨)
+            String body = documentContentService.getContent(documentId);
+            if (body == null || body.isEmpty()) {
+                return List.of();
+            }
+            return List.of(DocumentBlockDtos.BlockItem.builder()
+                    .blockId(legacyBlockKey(documentId))
+                    .content(body)
+                    .sortOrder(SortRankService.STEP)
+                    .build());
+        }
+        return blocks.stream()
+                .map(block -> DocumentBlockDtos.BlockItem.builder()
+                        .blockId(block.getBlockKey())
+                        .type(block.getType())
+                        .content(block.getContent())
+                        .sortOrder(block.getSortOrder())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 블록 연산을 요청 순서대로 적용 (하나라도 실패하면 전체 롤백)
+     */
+    @Transactional
+    public DocumentBlockDtos.PatchResponse applyPatch(Long documentId, List<DocumentBlockDtos.Operation> operations) {
+        Document document = documentRepository.findById(documentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Document not found with id: " + documentId));
+        if (operations == null || operations.isEmpty()) {
+            return DocumentBlockDtos.PatchResponse.builder()
+                    .applied(0)
+                    .updatedAt(document.getLastModifiedAt())
+                    .updatedBy(document.getLastModifiedBy())
+                    .build();
+        }
+
+        ensureBlocks(document);
+        for (DocumentBlockDtos.Operation operation : operations) {
+            String op = operation.getOp() == null ? "" : operation.getOp().toLowerCase(Locale.ROOT);
+            switch (op) {
+                case "insert" -> insert(document, operation);
+                case "update" -> update(documentId, operation);
+                case "delete" -> delete(documentId, operation);
+                case "move" -> move(documentId, operation);
+                default -> throw new IllegalArgumentException("Unknown block operation: " + operation.getOp());
+            }
+        }
+        blockRepository.flush();
+
+        LocalDateTime modifiedAt = LocalDateTime.now();
+        String modifiedBy = auditorAware.getCurrentAuditor().orElse(null);
+        documentRepository.touchLastModified(documentId, modifiedAt, modifiedBy);
+        documentSearchService.markChanged(documentId);
+        log.debug("블록 패치 적용: documentId={}, {}건", documentId, operations.size());
+        return DocumentBlockDtos.PatchResponse.builder()
+                .applied(operations.size())
+                .updatedAt(modifiedAt)
+                .updatedBy(modifiedBy)
+                .build();
+    }
+
+    private void insert(Document document, DocumentBlockDtos.Operation operation) {
+        String blockKey = requireBlockKey(operation);
+        if (blockRepository.findSortOrderByBlockKey(document.getId(), blockKey).isPresent()) {
+            throw new IllegalArgumentException("Block already exists: " + blockKey);
+        }
+        int sortOrder = allocateSortOrder(document.getId(), operation.getAfterBlockId());
+        blockRepository.save(DocumentBlock.builder()
+                .document(document)
+                .blockKey(blockKey)
+                .sortOrder(sortOrder)
+                .type(operation.getType())
+                .content(operation.getContent() != null ? operation.getContent() : "")
+                .build());
+    }
+
+    private void update(Long documentId, DocumentBlockDtos.Operation operation) {
+        DocumentBlock block = findBlock(documentId, requireBlockKey(operation));
+        if (operation.getContent() != null) {
+            block.setContent(operation.getContent());
+        }
+        if (operation.getType() != null) {
+            block.setType(operation.getType());
+        }
+    }
+
+    private void delete(Long documentId, DocumentBlockDtos.Operation operation) {
+        blockRepository.delete(findBlock(documentId, requireBlockKey(operation)));
+    }
+
+    private void move(Long documentId, DocumentBlockDtos.Operation operation) {
+        String blockKey = requireBlockKey(operation);
+        if (blockKey.equals(operation.getAfterBlockId())) {
+            throw new IllegalArgumentException("Block cannot be moved after itself: " + blockKey);
+        }
+        findBlock(documentId, blockKey);
+        // 엔티티의 정렬 키는 재배치 이후 오래된 값일 수 있으므로 직접 UPDATE
+        int sortOrder = allocateSortOrder(documentId, operation.getAfterBlockId());
+        blockRepository.updateSortOrder(documentId, blockKey, sortOrder);
+    }
+
+    /**
+     * afterBlockId 바로 뒤(null이면 맨 앞)에 들어갈 정렬 키 계산, 간격이 없으면 재배치 후 다시 계산
+     */
+    private int allocateSortOrder(Long documentId, String afterBlockKey) {
+        Integer sortOrder = findGap(documentId, afterBlockKey);
+        if (sortOrder == null) {
+            blockRepository.flush();
+            sortRankService.respaceBlocks(documentId);
+            sortOrder = findGap(documentId, afterBlockKey);
+        }
+        if (sortOrder == null) {
+            throw new IllegalStateException("No sort order available for block in document " + documentId);
+        }
+        return sortOrder;
+    }
+
+    private Integer findGap(Long documentId, String afterBlockKey) {
+        Integer before = null;
+        if (afterBlockKey != null) {
+            before = blockRepository.findSortOrderByBlockKey(documentId, afterBlockKey)
+                    .orElseThrow(() -> new ResourceNotFoundException("Block not found: " + afterBlockKey));
+        }
+        Integer after = before == null
+                ? blockRepository.findFirstSortOrder(documentId)
+                : blockRepository.findNextSortOrder(documentId, before);
+
+        long candidate;
+        if (before == null && after == null) {
+            candidate = SortRankService.STEP;
+        } else if (before == null) {
+            candidate = (long) after - SortRankService.STEP;
+        } else if (after == null) {
+            candidate = (long) before + SortRankService.STEP;
+        } else {
+            if ((long) after - before < 2) {
+                return null;
+            }
+            candidate = before + ((long) after - before) / 2;
+        }
+        return candidate >= Integer.MIN_VALUE && candidate <= Integer.MAX_VALUE ? (int) candidate : null;
+    }
+
+    /**
+     * 블록이 없는 문서라면 기존 본문을 레거시 키의 단일 블록으로 옮김
+     */
+    private void ensureBlocks(Document document) {
+        if (blockRepository.existsByDocumentId(document.getId())) {
+            return;
+        }
+        String body = documentContentService.detachBody(document.getId());
+        if (body == null || body.isEmpty()) {
+            return;
+        }
+        blockRepository.save(DocumentBlock.builder()
+                .document(document)
+                .blockKey(legacyBlockKey(document.getId()))
+                .sortOrder(SortRankService.STEP)
+                .content(body)
+                .build());
+    }
+
+    private DocumentBlock findBlock(Long documentId, String blockKey) {
+        return blockRepository.findByDocumentIdAndBlockKey(documentId, blockKey)
+                .orElseThrow(() -> new ResourceNotFoundException("Block not found: " + blockKey));
+    }
+
+    private static String requireBlockKey(DocumentBlockDtos.Operation operation) {
+        String blockKey = operation.getBlockId();
+        if (blockKey == null || blockKey.isBlank()) {
+            throw new IllegalArgumentException("blockId is required for block operation: " + operation.getOp());
+        }
+        if (blockKey.length() > MAX_BLOCK_KEY_LENGTH) {
+            throw new IllegalArgumentException("blockId is too long: " + blockKey.length());
+        }
+        return blockKey;
+    }
+
+    static String legacyBlockKey(Long documentId) {
+        return "body-" + documentId;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.notionclone.domain.document.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 문서 일괄 하드 삭제 파이프라인
+ *
+ * 문서 단위 엔티티 삭제(값 → 버전 → 권한 조회/삭제 → 문서) 대신,
+ * 깊은 문서부터 정렬한 ID 목록을 청크로 나눠 청크마다 몇 개의 집합 기반 DELETE만 실행합니다.
+ * 자식이 항상 부모보다 먼저 삭제되므로 parent_id FK를 위반하지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentBulkDeleteService {
+    static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final DocumentSearchService documentSearchService;
+
+    /**
+     * 주어진 문서들을 현재 트랜잭션 안에서 삭제합니다. (휴지통 비우기/영구 삭제처럼 원자성이 필요한 경우)
+     * 호출 측은 JPA 변경분을 먼저 flush 해야 합니다.
+     *
+     * @return 테이블별 삭제 건수
+     */
+    public Map<String, Integer> deleteDocuments(Collection<Long> documentIds) {
+        Map<String, Integer> counts = newCounts();
+        if (documentIds == null || documentIds.isEmpty()) {
+            return counts;
+        }
+        List<Long> ordered = orderDeepestFirst(documentIds);
+        for (int from = 0; from < ordered.size(); from += CHUNK_SIZE) {
+            deleteChunk(ordered.subList(from, Math.min(from + CHUNK_SIZE, ordered.size())), counts);
+        }
+        documentSearchService.markChanged(ordered);
+        return counts;
+    }
+
+    /**
+     * 워크스페이스의 모든 문서를 청크 단위의 독립 트랜잭션으로 삭제합니다.
+     * 청크마다 커밋하므로 잠금 유지 시간이 짧고, 중단되더라도 이미 삭제된 청크는 유지됩니다.
+     *
+     * @return 테이블별 삭제 건수
+     */
+    public Map<String, Integer> purgeWorkspace(Long workspaceId) {
+        List<Long> ordered = jdbcTemplate.queryForList(
+                "SELECT id FROM documents WHERE workspace_id = ? ORDER BY depth DESC NULLS FIRST, id DESC",
+                Long.class, workspaceId);
+        Map<String, Integer> counts = newCounts();
+        if (ordered.isEmpty()) {
+            return counts;
+        }
+
+        TransactionTemplate chunkTx = new TransactionTemplate(transactionManager);
+        chunkTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        long start = System.currentTimeMillis();
+        int total = ordered.size();
+        for (int from = 0; from < total; from += CHUNK_SIZE) {
+            List<Long> chunk = ordered.subList(from, Math.min(from + CHUNK_SIZE, total));
+            chunkTx.executeWithoutResult(status -> deleteChunk(chunk, counts));
+            log.info("워크스페이스 {} 문서 삭제 진행: {}/{}", workspaceId, from + chunk.size(), total);
+        }
+        log.info("워크스페이스 {} 문서 삭제 완료: {} ({}ms)", workspaceId, counts, System.currentTimeMillis() - start);
+        return counts;
+    }
+
+    private List<Long> orderDeepestFirst(Collection<Long> documentIds) {
+        return jdbcTemplate.query(
+                "SELECT id FROM documents WHERE id = ANY(?) ORDER BY depth DESC NULLS FIRST, id DESC",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", documentIds.toArray())),
+                (rs, rowNum) -> rs.getLong(1));
+    }
+
+    private void deleteChunk(List<Long> ids, Map<String, Integer> counts) {
+        // 삭제되는 문서 중 휴지통에 없던 문서만큼 남아 있는 부모의 자식 수 차감
+        update("UPDATE documents p SET live_child_count = GREATEST(p.live_child_count - c.cnt, 0) " +
+                "FROM (SELECT parent_id, COUNT(*) AS cnt FROM documents " +
+                "      WHERE id = ANY(?) AND is_trashed = false AND parent_id IS NOT NULL GROUP BY parent_id) c " +
+                "WHERE p.id = c.parent_id", ids, 1);
+
+        // FK 순서: 값 → 태그 옵션 → 속성 → 버전 → 권한 → 본문 → 문서
+        counts.merge("values", update(
+                "DELETE FROM document_property_values WHERE document_id = ANY(?) " +
+                "OR property_id IN (SELECT id FROM document_properties WHERE document_id = ANY(?))", ids, 2), Integer::sum);
+        counts.merge("tagOptions", update(
+                "DELETE FROM document_property_tag_option " +
+                "WHERE property_id IN (SELECT id FROM document_properties WHERE document_id = ANY(?))", ids, 1), Integer::sum);
+        counts.merge("properties", update("DELETE FROM document_properties WHERE document_id = ANY(?)", ids, 1), Integer::sum);
+        counts.merge("versions", update("DELETE FROM document_versions WHERE document_id = ANY(?)", ids, 1), Integer::sum);
+        counts.merge("permissions", update("DELETE FROM permissions WHERE document_id = ANY(?)", ids, 1), Integer::sum);
+        counts.merge("blocks", update("DELETE FROM document_blocks WHERE document_id = ANY(?)", ids, 1), Integer::sum);
+        counts.merge("contents", update("DELETE FROM document_contents WHERE document_id = ANY(?)", ids, 1), Integer::sum);
+        counts.merge("documents", update("DELETE FROM documents WHERE id = ANY(?)", ids, 1), Integer::sum);
+    }
+
+    /**
+     * ID 배열을 지정한 개수의 파라미터 위치에 바인딩하여 실행
+     */
+    private int update(String sql, List<Long> ids, int parameterCount) {
+        return jdbcTemplate.update(sql, ps -> {
+            Array array = ps.getConnection().createArrayOf("bigint", ids.toArray());
+            for (int i = 1; i <= parameterCount; i++) {
+                ps.setArray(i, array);
+            }
+        });
+    }
+
+    private Map<String, Integer> newCounts() {
+        return new LinkedHashMap<>();
+    }
+}
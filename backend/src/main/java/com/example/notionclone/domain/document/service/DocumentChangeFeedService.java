@@ -0,0 +1,225 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.domain.document.dto.DocumentChangeDtos;
+import com.example.notionclone.domain.document.dto.DocumentListResponse;
+import com.example.notionclone.domain.document.dto.DocumentPropertyDto;
+import com.example.notionclone.domain.document.dto.DocumentPropertyValueDto;
+import com.example.notionclone.domain.document.entity.Document;
+import com.example.notionclone.domain.document.repository.DocumentPropertyRepository;
+import com.example.notionclone.domain.document.repository.DocumentRepository;
+import com.example.notionclone.domain.permission.entity.PermissionType;
+import com.example.notionclone.domain.permission.service.PermissionService;
+import com.example.notionclone.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 데이터베이스(부모 문서)별 변경 피드
+ *
+ * 트리거가 기록한 change_seq(DatabaseMigrationConfig.installChangeFeed)로 since 이후 바뀐 자식 문서/속성/태그 옵션/값과
+ * 삭제 기록만 반환해, 데이터베이스를 다시 열 때 전체 목록 대신 변경분만 내려받을 수 있게 합니다.
+ *
+ * - 클라이언트는 since 없이 현재 seq를 받은 뒤 전체를 불러오고, 이후 since=seq로 변경분을 요청
+ *   (그 사이 변경은 다시 전달될 수 있으나 같은 항목의 덮어쓰기라 무해)
+ * - 헤드 seq를 가장 먼저 읽으므로 seq 이하 변경은 모두 커밋되어 이후 쿼리에 보임
+ * - 삭제 기록은 보관 기간(change-feed.tombstone-retention-hours) 후 정리하며, 그보다 오래된 since는 resync 응답
+ * - 기록은 커밋 시점에 남으므로 복제/가져오기 같은 긴 트랜잭션도 작업 내내 헤드를 잠그지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentChangeFeedService {
+    static final int MAX_CHANGED_ROWS = 5000;
+
+    private static final Timer CHANGES_TIMER = Timer.builder("document.table.changes")
+            .description("테이블 뷰 변경분 조회 시간")
+            .register(Metrics.globalRegistry);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DocumentRepository documentRepository;
+    private final DocumentPropertyRepository propertyRepository;
+    private final PermissionService permissionService;
+
+    @Value("${change-feed.tombstone-retention-hours:168}")
+    private long retentionHours;
+
+    @Transactional(readOnly = true)
+    public DocumentChangeDtos.ChangesResponse getChanges(Long workspaceId, Long parentId, Long userId, Long since) {
+        Document parent = documentRepository.findById(parentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Document not found with id: " + parentId));
+        if (parent.getWorkspace() == null || !workspaceId.equals(parent.getWorkspace().getId())) {
+            throw new ResourceNotFoundException("Document not found in workspace: " + parentId);
+        }
+        permissionService.checkPermission(workspaceId, parentId, userId, PermissionType.READ);
+        if (since != null && since < 0) {
+            throw new IllegalArgumentException("since must be >= 0");
+        }
+
+        return CHANGES_TIMER.record(() -> {
+            long[] head = jdbcTemplate.query(
+                    "SELECT seq, purged_seq FROM document_change_heads WHERE database_id = ?",
+                    rs -> rs.next() ? new long[]{rs.getLong(1), rs.getLong(2)} : new long[]{0, 0},
+                    parentId);
+            long seq = head[0];
+            if (since == null || since >= seq) {
+                return empty(since != null ? since : seq, seq, false);
+            }
+            if (since < head[1]) {
+                return empty(since, seq, true);
+            }
+
+            List<Long> liveIds = new ArrayList<>();
+            Map<String, DocumentChangeDtos.Tombstone> deleted = new LinkedHashMap<>();
+            jdbcTemplate.query(
+                    "SELECT id, is_trashed FROM documents WHERE parent_id = ? AND change_seq > ? ORDER BY change_seq LIMIT ?",
+                    rs -> {
+                        if (rs.getBoolean(2)) {
+                            addTombstone(deleted, "DOCUMENT", rs.getLong(1));
+                        } else {
+                            liveIds.add(rs.getLong(1));
+                        }
+                    },
+                    parentId, since, MAX_CHANGED_ROWS + 1);
+            if (liveIds.size() + deleted.size() > MAX_CHANGED_ROWS) {
+                return empty(since, seq, true);
+            }
+
+            Set<Long> liveIdSet = new HashSet<>(liveIds);
+            jdbcTemplate.query(
+                    "SELECT entity_type, entity_id FROM document_change_tombstones WHERE database_id = ? AND seq > ? ORDER BY seq",
+                    rs -> {
+                        String type = rs.getString(1);
+                        long id = rs.getLong(2);
+                        // 이동 후 되돌아온 문서처럼 삭제 이후 다시 변경된 항목은 변경 목록이 최신
+                        if (!("DOCUMENT".equals(type) && liveIdSet.contains(id))) {
+                            addTombstone(deleted, type, id);
+                        }
+                    },
+                    parentId, since);
+
+            List<Long> propertyIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM document_properties WHERE document_id = ? AND change_seq > ?",
+                    Long.class, parentId, since);
+            List<DocumentPropertyDto> properties = propertyIds.isEmpty() ? List.of()
+                    : propertyRepository.findAllById(propertyIds).stream().map(DocumentPropertyDto::from).toList();
+
+            List<DocumentChangeDtos.TagOption> tagOptions = jdbcTemplate.query(
+                    "SELECT o.id, o.property_id, o.label, o.color, o.sort_order FROM document_property_tag_option o " +
+                    "JOIN document_properties p ON p.id = o.property_id WHERE p.document_id = ? AND o.change_seq > ?",
+                    (rs, rowNum) -> DocumentChangeDtos.TagOption.builder()
+                            .id(rs.getLong(1))
+                            .propertyId(rs.getLong(2))
+                            .label(rs.getString(3))
+                            .color(rs.getString(4))
+                            .sortOrder((Integer) rs.getObject(5))
+                            .build(),
+                    parentId, since);
+
+            return DocumentChangeDtos.ChangesResponse.builder()
+                    .since(since)
+                    .seq(seq)
+                    .resync(false)
+                    .documents(loadDocuments(liveIds))
+                    .properties(properties)
+                    .tagOptions(tagOptions)
+                    .values(loadValues(parentId, since, liveIds))
+                    .deleted(new ArrayList<>(deleted.values()))
+                    .build();
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 기록 정리 (데이터베이스별로 정리한 최대 seq를 purged_seq에 남겨 오래된 since를 resync로 응답)
+     */
+    @Scheduled(fixedDelayString = "${change-feed.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = jdbcTemplate.update(
+                "WITH purged AS (DELETE FROM document_change_tombstones WHERE deleted_at < ? RETURNING database_id, seq) " +
+                "UPDATE document_change_heads h SET purged_seq = GREATEST(h.purged_seq, p.max_seq) " +
+                "FROM (SELECT database_id, MAX(seq) AS max_seq FROM purged GROUP BY database_id) p " +
+                "WHERE h.database_id = p.database_id",
+                Timestamp.valueOf(LocalDateTime.now().minusHours(retentionHours)));
+        if (purged > 0) {
+            log.info("변경 피드 삭제 기록 정리: {}개 데이터베이스", purged);
+        }
+    }
+
+    private List<DocumentListResponse> loadDocuments(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return documentRepository.findAllById(ids).stream()
+                .map(document -> DocumentListResponse.fromDocument(document, document.hasLiveChildren(), false))
+                .toList();
+    }
+
+    /**
+     * since 이후 바뀐 값 + 변경된 문서의 전체 값 (값 ID 기준 중복 제거)
+     */
+    private List<DocumentPropertyValueDto> loadValues(Long parentId, long since, List<Long> changedDocumentIds) {
+        Map<Long, DocumentPropertyValueDto> values = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT v.id, v.document_id, v.property_id, v.value FROM document_property_values v " +
+                "JOIN document_properties p ON p.id = v.property_id WHERE p.document_id = ? AND v.change_seq > ?",
+                rs -> {
+                    values.put(rs.getLong(1), valueDto(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getString(4)));
+                },
+                parentId, since);
+        if (!changedDocumentIds.isEmpty()) {
+            jdbcTemplate.query(con -> {
+                var ps = con.prepareStatement(
+                        "SELECT v.id, v.document_id, v.property_id, v.value FROM document_property_values v " +
+                        "JOIN document_properties p ON p.id = v.property_id WHERE p.document_id = ? AND v.document_id = ANY(?)");
+                ps.setLong(1, parentId);
+                ps.setArray(2, con.createArrayOf("bigint", changedDocumentIds.toArray()));
+                return ps;
+            }, rs -> {
+                values.putIfAbsent(rs.getLong(1), valueDto(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getString(4)));
+            });
+        }
+        return new ArrayList<>(values.values());
+    }
+
+    private static DocumentPropertyValueDto valueDto(long id, long documentId, long propertyId, String value) {
+        return DocumentPropertyValueDto.builder()
+                .id(id)
+                .documentId(documentId)
+                .propertyId(propertyId)
+                .value(value)
+                .build();
+    }
+
+    private static void addTombstone(Map<String, DocumentChangeDtos.Tombstone> deleted, String type, long id) {
+        deleted.putIfAbsent(type + ":" + id, DocumentChangeDtos.Tombstone.builder().entityType(type).id(id).build());
+    }
+
+    private static DocumentChangeDtos.ChangesResponse empty(long since, long seq, boolean resync) {
+        return DocumentChangeDtos.ChangesResponse.builder()
+                .since(since)
+                .seq(seq)
+                .resync(resync)
+                .documents(List.of())
+                .properties(List.of())
+                .tagOptions(List.of())
+                .values(List.of())
+                .deleted(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.notionclone.domain.document.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * documents.live_child_count 검증/복구 작업
+ *
+ * 자식 수는 생성/휴지통/복원/이동/삭제 시 증감으로 유지되므로,
+ * 직접 SQL 수정이나 배치 삽입 등으로 어긋난 값을 실제 자식 수와 비교해 일괄 보정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentChildCountService {
+    private static final String ACTUAL_COUNTS =
+            "SELECT d.id, d.live_child_count AS stored, COALESCE(c.cnt, 0) AS actual FROM documents d " +
+            "LEFT JOIN (SELECT parent_id, COUNT(*) AS cnt FROM documents " +
+            "           WHERE is_trashed = false AND parent_id IS NOT NULL GROUP BY parent_id) c ON c.parent_id = d.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장된 자식 수와 실제 자식 수가 다른 문서 수
+     */
+    @Transactional(readOnly = true)
+    public int countMismatches() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (" + ACTUAL_COUNTS + ") m WHERE m.stored <> m.actual", Integer.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 어긋난 문서의 자식 수를 실제 값으로 보정
+     *
+     * @return 보정된 문서 수
+     */
+    @Transactional
+    public int repair() {
+        long start = System.currentTimeMillis();
+        int repaired = jdbcTemplate.update(
+                "UPDATE documents d SET live_child_count = m.actual FROM (" + ACTUAL_COUNTS + ") m " +
+                "WHERE d.id = m.id AND m.stored <> m.actual");
+        if (repaired > 0) {
+            log.warn("문서 자식 수 보정: {}건 ({}ms)", repaired, System.currentTimeMillis() - start);
+        } else {
+            log.debug("문서 자식 수 검증 완료: 불일치 없음 ({}ms)", System.currentTimeMillis() - start);
+        }
+        return repaired;
+    }
+
+    /**
+     * 특정 부모 문서의 자식 수 재계산 (배치 삽입 이후 등)
+     */
+    @Transactional
+    public void recount(Long parentId) {
+        jdbcTemplate.update(
+                "UPDATE documents d SET live_child_count = " +
+                "(SELECT COUNT(*) FROM documents c WHERE c.parent_id = d.id AND c.is_trashed = false) WHERE d.id = ?",
+                parentId);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.domain.document.entity.Document;
+import com.example.notionclone.domain.document.entity.DocumentBlock;
+import com.example.notionclone.domain.document.entity.DocumentContent;
+import com.example.notionclone.domain.document.repository.DocumentBlockRepository;
+import com.example.notionclone.domain.document.repository.DocumentContentRepository;
+import com.example.notionclone.domain.document.repository.DocumentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 문서 본문 조회/저장 서비스
+ * 본문은 단건 조회/생성/수정/버전 복구처럼 명시적으로 필요한 경로에서만 읽고 씁니다.
+ * 블록으로 나뉜 문서(document_blocks)는 블록을 순서대로 이어 붙인 값이 본문이며, 전체 본문 저장도 블록 단위로 반영합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DocumentContentService {
+    private final DocumentContentRepository contentRepository;
+    private final DocumentBlockRepository blockRepository;
+    private final DocumentRepository documentRepository;
+    private final DocumentSearchService documentSearchService;
+    private final AuditorAware<String> auditorAware;
+
+    @Transactional(readOnly = true)
+    public String getContent(Long documentId) {
+        List<String> blocks = blockRepository.findContentsByDocumentId(documentId);
+        if (!blocks.isEmpty()) {
+            return String.join("", blocks);
+        }
+        return contentRepository.findBodyByDocumentId(documentId).orElse(null);
+    }
+
+    /**
+     * 본문 전체 저장 (없으면 생성). 변경된 경우 문서의 최종 수정 메타도 함께 갱신합니다.
+     * 블록으로 나뉜 문서는 본문을 최상위 노드 단위로 나눠 기존 블록과 비교하고, 달라진 블록 행만 기록합니다.
+     */
+    @Transactional
+    public void saveContent(Document document, String body) {
+        List<DocumentBlock> blocks = blockRepository.findByDocumentIdOrderBySortOrderAscIdAsc(document.getId());
+        if (!blocks.isEmpty()) {
+            if (saveBlocks(document, blocks, body != null ? body : "")) {
+                blockRepository.flush();
+                documentRepository.touchLastModified(document.getId(), LocalDateTime.now(),
+                        auditorAware.getCurrentAuditor().orElse(null));
+                documentSearchService.markChanged(document.getId());
+            }
+            return;
+        }
+        DocumentContent content = contentRepository.findById(document.getId()).orElse(null);
+        if (content == null) {
+            if (body == null) {
+                return;
+            }
+            content = DocumentContent.builder()
+                    .document(document)
+                    .body(body)
+                    .build();
+        } else if (Objects.equals(content.getBody(), body)) {
+            return;
+        } else {
+            content.setBody(body);
+        }
+        // flush로 감사 필드(updatedAt/By)를 확정한 뒤 문서의 최종 수정 메타에 반영
+        DocumentContent saved = contentRepository.saveAndFlush(content);
+        if (saved.getUpdatedAt() != null) {
+            documentRepository.touchLastModified(document.getId(), saved.getUpdatedAt(), saved.getUpdatedBy());
+        }
+        documentSearchService.markChanged(document.getId());
+    }
+
+    /**
+     * 새 본문 조각과 기존 블록을 비교해 반영 (변경이 없으면 false)
+     * 앞뒤로 내용이 같은 블록은 그대로 두고, 가운데 구간만 기존 블록 재사용(UPDATE) + 삭제/삽입합니다.
+     * 새 블록은 이웃 정렬 키 사이에 배치하며, 간격이 부족하면 전체 블록의 정렬 키를 다시 부여합니다.
+     */
+    private boolean saveBlocks(Document document, List<DocumentBlock> blocks, String body) {
+        List<String> segments = HtmlBlockSplitter.split(body);
+        int prefix = 0;
+        while (prefix < blocks.size() && prefix < segments.size()
+                && Objects.equals(blocks.get(prefix).getContent(), segments.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < blocks.size() - prefix && suffix < segments.size() - prefix
+                && Objects.equals(blocks.get(blocks.size() - 1 - suffix).getContent(), segments.get(segments.size() - 1 - suffix))) {
+            suffix++;
+        }
+        List<DocumentBlock> oldMiddle = new ArrayList<>(blocks.subList(prefix, blocks.size() - suffix));
+        List<String> newMiddle = segments.subList(prefix, segments.size() - suffix);
+        if (oldMiddle.isEmpty() && newMiddle.isEmpty()) {
+            return false;
+        }
+
+        int reused = Math.min(oldMiddle.size(), newMiddle.size());
+        for (int i = 0; i < reused; i++) {
+            oldMiddle.get(i).setContent(newMiddle.get(i));
+        }
+        blockRepository.deleteAll(oldMiddle.subList(reused, oldMiddle.size()));
+
+        List<String> inserted = newMiddle.subList(reused, newMiddle.size());
+        if (inserted.isEmpty()) {
+            return true;
+        }
+        DocumentBlock before = reused > 0 ? oldMiddle.get(reused - 1) : prefix > 0 ? blocks.get(prefix - 1) : null;
+        DocumentBlock after = suffix > 0 ? blocks.get(blocks.size() - suffix) : null;
+        long lower = before != null ? before.getSortOrder() : after != null ? (long) after.getSortOrder() - (long) SortRankService.STEP * (inserted.size() + 1) : 0;
+        long upper = after != null ? after.getSortOrder() : lower + (long) SortRankService.STEP * (inserted.size() + 1);
+        long gap = (upper - lower) / (inserted.size() + 1);
+
+        List<DocumentBlock> created = new ArrayList<>(inserted.size());
+        for (int i = 0; i < inserted.size(); i++) {
+            created.add(DocumentBlock.builder()
+                    .document(document)
+                    .blockKey("b-" + UUID.randomUUID())
+                    .sortOrder(0)
+                    .content(inserted.get(i))
+                    .build());
+        }
+        if (gap >= 1 && lower >= Integer.MIN_VALUE && upper <= Integer.MAX_VALUE) {
+            for (int i = 0; i < created.size(); i++) {
+                created.get(i).setSortOrder((int) (lower + gap * (i + 1)));
+            }
+        } else {
+            List<DocumentBlock> ordered = new ArrayList<>(blocks.subList(0, prefix));
+            ordered.addAll(oldMiddle.subList(0, reused));
+            ordered.addAll(created);
+            ordered.addAll(blocks.subList(blocks.size() - suffix, blocks.size()));
+            for (int i = 0; i < ordered.size(); i++) {
+                ordered.get(i).setSortOrder(SortRankService.STEP * (i + 1));
+            }
+        }
+        blockRepository.saveAll(created);
+        return true;
+    }
+
+    /**
+     * 단일 본문을 떼어내 반환 (블록 저장으로 전환할 때 사용)
+     */
+    @Transactional
+    public String detachBody(Long documentId) {
+        return contentRepository.findById(documentId)
+                .map(content -> {
+                    String body = content.getBody();
+                    contentRepository.delete(content);
+                    return body;
+                })
+                .orElse(null);
+    }
+}
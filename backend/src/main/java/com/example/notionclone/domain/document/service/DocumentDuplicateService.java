@@ -0,0 +1,369 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.domain.document.dto.DocumentDuplicateJobResponse;
+import com.example.notionclone.domain.document.entity.Document;
+import com.example.notionclone.domain.document.repository.DocumentRepository;
+import com.example.notionclone.domain.permission.entity.PermissionStatus;
+import com.example.notionclone.domain.permission.entity.PermissionType;
+import com.example.notionclone.domain.permission.service.PermissionService;
+import com.example.notionclone.exception.ResourceNotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 문서 서브트리 깊은 복제 (백그라운드 작업)
+ *
+ * 대상 문서와 휴지통에 없는 하위 문서 전체를 본문/블록/속성/태그 옵션/속성 값까지 복제합니다.
+ * 문서 단위 엔티티 저장 대신 임시 매핑 테이블(원본 ID → 시퀀스에서 받은 새 ID)을 만들고
+ * 깊이 순으로 나눈 청크마다 테이블별 INSERT ... SELECT 한 문장씩으로 복사합니다.
+ *
+ * - 복제본은 원본 바로 뒤의 형제로 배치되고, 모든 문서의 소유자는 요청한 사용자
+ * - 요청자가 읽을 수 없는 하위 문서(와 그 아래)는 복제하지 않음
+ * - 하위 문서의 값이 가리키는 부모 속성/태그 옵션 ID는 복제본의 ID로 치환 (서브트리 밖 속성은 그대로 참조)
+ * - 전체가 한 트랜잭션이라 실패 시 아무것도 남지 않으며, 진행률은 청크마다 갱신되어 작업 조회 API로 확인
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentDuplicateService {
+    static final int CHUNK_SIZE = 1000;
+    private static final int WORKER_THREADS = 2;
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final String COPY_SUFFIX = " (사본)";
+
+    private static final Timer DUPLICATE_TIMER = Timer.builder("document.duplicate")
+            .description("서브트리 복제 작업 소요 시간")
+            .register(Metrics.globalRegistry);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final DocumentRepository documentRepository;
+    private final PermissionService permissionService;
+    private final DocumentSearchService documentSearchService;
+    private final DocumentListCacheService documentListCacheService;
+    private final DocumentTableCacheService documentTableCacheService;
+
+    // 완료된 작업도 조회할 수 있도록 일정 시간 보관
+    private final Cache<String, Job> jobs = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(1))
+            .maximumSize(10_000)
+            .build();
+    private final AtomicInteger threadCounter = new AtomicInteger();
+    private final ExecutorService executor = Executors.newFixedThreadPool(WORKER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "document-duplicate-" + threadCounter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 작업 상태 (진행 중 필드는 작업 스레드가 갱신)
+     */
+    private static final class Job {
+        final String id;
+        final Long workspaceId;
+        final Long userId;
+        final Long sourceDocumentId;
+        volatile String status = "QUEUED";
+        volatile int total;
+        volatile int copied;
+        volatile Long documentId;
+        volatile String error;
+        volatile LocalDateTime startedAt;
+        volatile LocalDateTime finishedAt;
+
+        Job(Long workspaceId, Long userId, Long sourceDocumentId) {
+            this.id = UUID.randomUUID().toString();
+            this.workspaceId = workspaceId;
+            this.userId = userId;
+            this.sourceDocumentId = sourceDocumentId;
+        }
+    }
+
+    /**
+     * 복제 작업 등록 (권한 확인 후 즉시 반환, 복제는 작업 스레드에서 진행)
+     */
+    public DocumentDuplicateJobResponse startDuplicate(Long workspaceId, Long documentId, Long userId, String userEmail) {
+        Document source = documentRepository.findById(documentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Document not found with id: " + documentId));
+        if (source.getWorkspace() == null || !workspaceId.equals(source.getWorkspace().getId())) {
+            throw new ResourceNotFoundException("Document not found in workspace: " + documentId);
+        }
+        if (source.isTrashed()) {
+            throw new IllegalArgumentException("Trashed document cannot be duplicated: " + documentId);
+        }
+        permissionService.checkPermission(workspaceId, documentId, userId, PermissionType.READ);
+        Long parentId = source.getParent() != null ? source.getParent().getId() : null;
+        permissionService.checkPermission(workspaceId, parentId, userId, PermissionType.WRITE);
+
+        Job job = new Job(workspaceId, userId, documentId);
+        jobs.put(job.id, job);
+        executor.execute(() -> run(job, userEmail));
+        return toResponse(job);
+    }
+
+    public DocumentDuplicateJobResponse getJob(String jobId, Long userId) {
+        Job job = jobs.getIfPresent(jobId);
+        if (job == null || !job.userId.equals(userId)) {
+            throw new ResourceNotFoundException("Duplicate job not found: " + jobId);
+        }
+        return toResponse(job);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Job job, String userEmail) {
+        job.status = "RUNNING";
+        job.startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        try {
+            List<Long> newIds = new TransactionTemplate(transactionManager).execute(status -> duplicate(job, userEmail));
+            if (newIds != null) {
+                documentSearchService.markChanged(newIds);
+            }
+            job.status = "COMPLETED";
+            log.info("문서 서브트리 복제 완료: sourceId={}, newId={}, 문서 {}건 ({}ms)", job.sourceDocumentId, job.documentId,
+                    job.total, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            job.status = "FAILED";
+            job.error = e.getMessage();
+            log.error("문서 서브트리 복제 실패: sourceId={}", job.sourceDocumentId, e);
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+            DUPLICATE_TIMER.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 안에서 서브트리를 복제
+     *
+     * @return 새로 만든 문서 ID 목록
+     */
+    private List<Long> duplicate(Job job, String userEmail) {
+        Document source = documentRepository.findById(job.sourceDocumentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Document not found with id: " + job.sourceDocumentId));
+        Document parent = source.getParent();
+        Long parentId = parent != null ? parent.getId() : null;
+        if (source.getPath() == null || (parent != null && parent.getPath() == null)) {
+            throw new IllegalStateException("Document path is not initialized: " + source.getId());
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        createMappingTables();
+        jdbcTemplate.update(
+                "INSERT INTO duplicate_documents (source_id, id, parent_source_id) " +
+                "SELECT d.id, nextval(pg_get_serial_sequence('documents', 'id')), d.parent_id FROM documents d " +
+                "WHERE d.path LIKE ? AND d.is_trashed = false",
+                source.getPath() + "%");
+        excludeUnreadable(source, job.userId);
+
+        // 새 ID 기준 경로/깊이/부모 계산 (휴지통에 있는 문서 아래의 문서는 닿지 않으므로 제외)
+        String rootPrefix = parent != null ? parent.getPath() : "/";
+        int rootDepth = parent != null ? parent.getDepth() + 1 : 0;
+        jdbcTemplate.update(
+                "WITH RECURSIVE tree AS (" +
+                "  SELECT m.source_id, m.id, CAST(? AS bigint) AS parent_id, CAST(? || m.id || '/' AS varchar) AS path, " +
+                "         CAST(? AS integer) AS depth FROM duplicate_documents m WHERE m.source_id = ?" +
+                "  UNION ALL" +
+                "  SELECT m.source_id, m.id, t.id, CAST(t.path || m.id || '/' AS varchar), t.depth + 1" +
+                "  FROM duplicate_documents m JOIN tree t ON m.parent_source_id = t.source_id" +
+                ") " +
+                "UPDATE duplicate_documents m SET parent_id = tree.parent_id, path = tree.path, depth = tree.depth " +
+                "FROM tree WHERE m.source_id = tree.source_id",
+                parentId, rootPrefix, rootDepth, source.getId());
+        jdbcTemplate.update("DELETE FROM duplicate_documents WHERE path IS NULL");
+        jdbcTemplate.update(
+                "UPDATE duplicate_documents m SET ord = o.rn FROM (" +
+                "  SELECT source_id, row_number() OVER (ORDER BY depth, source_id) AS rn FROM duplicate_documents" +
+                ") o WHERE m.source_id = o.source_id");
+        jdbcTemplate.update(
+                "INSERT INTO duplicate_properties (source_id, id) " +
+                "SELECT p.id, nextval(pg_get_serial_sequence('document_properties', 'id')) FROM document_properties p " +
+                "JOIN duplicate_documents m ON m.source_id = p.document_id");
+        jdbcTemplate.update(
+                "INSERT INTO duplicate_tag_options (source_key, source_id, id) " +
+                "SELECT o.id::text, o.id, nextval(pg_get_serial_sequence('document_property_tag_option', 'id')) " +
+                "FROM document_property_tag_option o JOIN duplicate_properties pm ON pm.source_id = o.property_id");
+        // 임시 테이블은 autovacuum 통계가 없으므로 조인 전에 직접 수집
+        jdbcTemplate.execute("ANALYZE duplicate_documents");
+        jdbcTemplate.execute("ANALYZE duplicate_properties");
+        jdbcTemplate.execute("ANALYZE duplicate_tag_options");
+
+        Integer total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM duplicate_documents", Integer.class);
+        job.total = total != null ? total : 0;
+        job.documentId = jdbcTemplate.queryForObject(
+                "SELECT id FROM duplicate_documents WHERE source_id = ?", Long.class, source.getId());
+
+        String title = truncate((source.getTitle() != null ? source.getTitle() : "") + COPY_SUFFIX, MAX_TITLE_LENGTH);
+        Integer sortOrder = siblingSortOrder(source, parentId);
+        for (int from = 1; from <= job.total; from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE - 1, job.total);
+            copyChunk(from, to, source.getId(), title, sortOrder, job.userId, userEmail, now);
+            job.copied = to;
+        }
+
+        // 복제본 내부의 자식 수 재계산 후 새 최상위 문서만큼 원본 부모의 자식 수 증가
+        jdbcTemplate.update(
+                "UPDATE documents d SET live_child_count = c.cnt FROM (" +
+                "  SELECT m.parent_id, COUNT(*) AS cnt FROM duplicate_documents m " +
+                "  WHERE m.source_id <> ? GROUP BY m.parent_id" +
+                ") c WHERE d.id = c.parent_id",
+                source.getId());
+        if (parentId != null) {
+            documentRepository.adjustLiveChildCount(parentId, 1);
+        }
+        documentListCacheService.evictWorkspace(job.workspaceId);
+        documentTableCacheService.invalidate(parentId);
+        return jdbcTemplate.queryForList("SELECT id FROM duplicate_documents", Long.class);
+    }
+
+    /**
+     * 요청자가 읽을 수 없는 하위 문서를 복제 대상에서 제외 (PermissionService.checkPermission의 READ 규칙과 같음)
+     * 직접 권한이 있으면 ACCEPTED인 경우만, 없으면 바로 위 부모의 소유자이거나 부모에 ACCEPTED 권한이 있을 때 읽을 수 있습니다.
+     * 제외된 문서의 하위 문서는 경로 계산에서 부모를 찾지 못해 함께 빠집니다. 워크스페이스 소유자는 모두 읽을 수 있습니다.
+     */
+    private void excludeUnreadable(Document source, Long userId) {
+        if (source.getWorkspace().getUser().getId().equals(userId)) {
+            return;
+        }
+        String accepted = PermissionStatus.ACCEPTED.name();
+        int excluded = jdbcTemplate.update(
+                "DELETE FROM duplicate_documents m USING documents d " +
+                "WHERE d.id = m.source_id AND m.source_id <> ? AND NOT (CASE " +
+                "  WHEN EXISTS (SELECT 1 FROM permissions p WHERE p.document_id = d.id AND p.user_id = ?) " +
+                "  THEN EXISTS (SELECT 1 FROM permissions p WHERE p.document_id = d.id AND p.user_id = ? AND p.status = ?) " +
+                "  ELSE d.parent_id IS NOT NULL AND (" +
+                "    EXISTS (SELECT 1 FROM documents pd WHERE pd.id = d.parent_id AND pd.user_id = ?) " +
+                "    OR EXISTS (SELECT 1 FROM permissions pp WHERE pp.document_id = d.parent_id AND pp.user_id = ? AND pp.status = ?)) " +
+                "END)",
+                source.getId(), userId, userId, accepted, userId, userId, accepted);
+        if (excluded > 0) {
+            log.info("읽기 권한이 없는 하위 문서 복제 제외: sourceId={}, {}건", source.getId(), excluded);
+        }
+    }
+
+    private void createMappingTables() {
+        jdbcTemplate.execute("CREATE TEMP TABLE duplicate_documents (source_id bigint PRIMARY KEY, id bigint NOT NULL, " +
+                "parent_source_id bigint, parent_id bigint, path varchar(1024), depth integer, ord integer) ON COMMIT DROP");
+        jdbcTemplate.execute("CREATE TEMP TABLE duplicate_properties (source_id bigint PRIMARY KEY, id bigint NOT NULL) ON COMMIT DROP");
+        jdbcTemplate.execute("CREATE TEMP TABLE duplicate_tag_options " +
+                "(source_key text PRIMARY KEY, source_id bigint NOT NULL, id bigint NOT NULL) ON COMMIT DROP");
+    }
+
+    /**
+     * 깊이 순 [from, to] 범위 문서와 그 본문/블록/권한/속성/태그 옵션/값 복사
+     * 부모는 항상 같거나 앞선 청크에 있으므로 parent_id/속성 FK를 위반하지 않습니다.
+     */
+    private void copyChunk(int from, int to, Long rootId, String rootTitle, Integer rootSortOrder,
+                           Long userId, String userEmail, Timestamp now) {
+        jdbcTemplate.update(
+                "INSERT INTO documents (id, title, workspace_id, user_id, sort_order, is_trashed, title_column_width, is_locked, " +
+                "  parent_id, path, depth, live_child_count, view_type, last_modified_at, last_modified_by, " +
+                "  created_by, created_at, updated_by, updated_at) " +
+                "SELECT m.id, CASE WHEN m.source_id = ? THEN ? ELSE d.title END, d.workspace_id, ?, " +
+                "  CASE WHEN m.source_id = ? THEN ? ELSE d.sort_order END, false, d.title_column_width, d.is_locked, " +
+                "  m.parent_id, m.path, m.depth, 0, d.view_type, ?, ?, ?, ?, ?, ? " +
+                "FROM duplicate_documents m JOIN documents d ON d.id = m.source_id WHERE m.ord BETWEEN ? AND ?",
+                rootId, rootTitle, userId, rootId, rootSortOrder, now, userEmail, userEmail, now, userEmail, now, from, to);
+        jdbcTemplate.update(
+                "INSERT INTO document_contents (document_id, body, created_by, created_at, updated_by, updated_at) " +
+                "SELECT m.id, c.body, ?, ?, ?, ? " +
+                "FROM duplicate_documents m JOIN document_contents c ON c.document_id = m.source_id WHERE m.ord BETWEEN ? AND ?",
+                userEmail, now, userEmail, now, from, to);
+        jdbcTemplate.update(
+                "INSERT INTO document_blocks (document_id, block_key, sort_order, type, content, created_by, created_at, updated_by, updated_at) " +
+                "SELECT m.id, b.block_key, b.sort_order, b.type, b.content, ?, ?, ?, ? " +
+                "FROM duplicate_documents m JOIN document_blocks b ON b.document_id = m.source_id WHERE m.ord BETWEEN ? AND ?",
+                userEmail, now, userEmail, now, from, to);
+        jdbcTemplate.update(
+                "INSERT INTO permissions (user_id, document_id, permission_type, status, created_by, created_at, updated_by, updated_at) " +
+                "SELECT ?, m.id, 'OWNER', 'ACCEPTED', ?, ?, ?, ? FROM duplicate_documents m WHERE m.ord BETWEEN ? AND ?",
+                userId, userEmail, now, userEmail, now, from, to);
+        jdbcTemplate.update(
+                "INSERT INTO document_properties (id, document_id, name, type, sort_order, width, created_by, created_at, updated_by, updated_at) " +
+                "SELECT pm.id, m.id, p.name, p.type, p.sort_order, p.width, ?, ?, ?, ? " +
+                "FROM duplicate_documents m JOIN document_properties p ON p.document_id = m.source_id " +
+                "JOIN duplicate_properties pm ON pm.source_id = p.id WHERE m.ord BETWEEN ? AND ?",
+                userEmail, now, userEmail, now, from, to);
+        jdbcTemplate.update(
+                "INSERT INTO document_property_tag_option (id, property_id, label, color, sort_order, created_by, created_at, updated_by, updated_at) " +
+                "SELECT t.id, pm.id, o.label, o.color, o.sort_order, ?, ?, ?, ? " +
+                "FROM duplicate_documents m JOIN document_properties p ON p.document_id = m.source_id " +
+                "JOIN duplicate_properties pm ON pm.source_id = p.id " +
+                "JOIN document_property_tag_option o ON o.property_id = p.id " +
+                "JOIN duplicate_tag_options t ON t.source_id = o.id WHERE m.ord BETWEEN ? AND ?",
+                userEmail, now, userEmail, now, from, to);
+        // TAG 값은 옵션 ID 배열이므로 복제된 속성이면 새 옵션 ID로 치환 (타입 컬럼은 원본 값을 그대로, TAG 배열은 치환 결과로)
+        jdbcTemplate.update(
+                "INSERT INTO document_property_values (document_id, property_id, value, value_number, value_date, value_tag_ids, " +
+                "typed_version, created_by, created_at, updated_by, updated_at) " +
+                "SELECT m.id, COALESCE(pm.id, v.property_id), " +
+                "  CASE WHEN tag.ids IS NOT NULL THEN array_to_json(tag.ids)::text ELSE v.value END, " +
+                "  v.value_number, v.value_date, CASE WHEN tag.ids IS NOT NULL THEN NULLIF(tag.ids, '{}') ELSE v.value_tag_ids END, " +
+                "  v.typed_version, ?, ?, ?, ? " +
+                "FROM duplicate_documents m JOIN document_property_values v ON v.document_id = m.source_id " +
+                "JOIN document_properties p ON p.id = v.property_id " +
+                "LEFT JOIN duplicate_properties pm ON pm.source_id = v.property_id " +
+                "CROSS JOIN LATERAL (SELECT CASE WHEN pm.id IS NOT NULL AND p.type = 'TAG' AND v.value IS JSON ARRAY THEN ARRAY(" +
+                "    SELECT t.id FROM json_array_elements_text(v.value::json) WITH ORDINALITY AS e(v, ord) " +
+                "    JOIN duplicate_tag_options t ON t.source_key = e.v ORDER BY e.ord) END AS ids) tag " +
+                "WHERE m.ord BETWEEN ? AND ?",
+                userEmail, now, userEmail, now, from, to);
+    }
+
+    /**
+     * 원본과 다음 형제 사이의 정렬 키 (간격이 없으면 원본과 같은 키)
+     */
+    private Integer siblingSortOrder(Document source, Long parentId) {
+        if (source.getSortOrder() == null) {
+            return null;
+        }
+        Integer next = jdbcTemplate.queryForObject(
+                "SELECT MIN(sort_order) FROM documents WHERE workspace_id = ? AND parent_id IS NOT DISTINCT FROM ? " +
+                "AND sort_order > ? AND is_trashed = false",
+                Integer.class, source.getWorkspace().getId(), parentId, source.getSortOrder());
+        long current = source.getSortOrder();
+        long candidate = next == null ? current + SortRankService.STEP : current + ((long) next - current) / 2;
+        return candidate > current && candidate <= Integer.MAX_VALUE ? (int) candidate : source.getSortOrder();
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private static DocumentDuplicateJobResponse toResponse(Job job) {
+        return DocumentDuplicateJobResponse.builder()
+                .jobId(job.id)
+                .sourceDocumentId(job.sourceDocumentId)
+                // 커밋 전에는 복제본이 보이지 않으므로 완료 후에만 노출
+                .documentId("COMPLETED".equals(job.status) ? job.documentId : null)
+                .status(job.status)
+                .total(job.total)
+                .copied(job.copied)
+                .error(job.error)
+                .startedAt(job.startedAt)
+                .finishedAt(job.finishedAt)
+                .build();
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.domain.document.entity.CompressedTextConverter;
+import com.example.notionclone.domain.document.entity.Document;
+import com.example.notionclone.domain.document.entity.DocumentProperty;
+import com.example.notionclone.domain.document.entity.DocumentPropertyTagOption;
+import com.example.notionclone.domain.document.entity.DocumentPropertyValue;
+import com.example.notionclone.domain.document.entity.PropertyType;
+import com.example.notionclone.domain.document.repository.DocumentContentRepository;
+import com.example.notionclone.domain.document.repository.DocumentPropertyRepository;
+import com.example.notionclone.domain.document.repository.DocumentPropertyTagOptionRepository;
+import com.example.notionclone.domain.document.repository.DocumentPropertyValueRepository;
+import com.example.notionclone.domain.document.repository.DocumentRepository;
+import com.example.notionclone.domain.permission.entity.PermissionStatus;
+import com.example.notionclone.domain.workspace.entity.Workspace;
+import com.example.notionclone.domain.workspace.repository.WorkspaceRepository;
+import com.example.notionclone.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 워크스페이스 스트리밍 내보내기 (NDJSON / Markdown ZIP)
+ *
+ * 문서·속성 값·속성 정의·태그 옵션을 서버 측 커서(Stream + fetch size)로 읽으면서 바로 응답 스트림에 씁니다.
+ * 워크스페이스 전체를 목록으로 만들지 않고, 일정 건수마다 영속성 컨텍스트를 비워 메모리 사용량이 문서 수와 무관합니다.
+ * 내보내기 대상은 목록 API와 같이 사용자에게 보이는 문서(소유/ACCEPTED 권한, 휴지통 제외)입니다.
+ *
+ * - 문서·속성 값·본문(단일 본문 또는 블록)은 같은 순서(경로 깊이 우선)로 정렬된 세 커서를 병합해 문서별로 함께 기록
+ * - REPEATABLE_READ 트랜잭션으로 여러 커서가 같은 스냅샷을 읽도록 보장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentExportService {
+    private static final int CLEAR_INTERVAL = 200;
+    private static final int MAX_FILE_NAME_LENGTH = 80;
+    private static final CompressedTextConverter BODY_CONVERTER = new CompressedTextConverter();
+
+    private final DocumentRepository documentRepository;
+    private final DocumentPropertyRepository propertyRepository;
+    private final DocumentPropertyValueRepository propertyValueRepository;
+    private final DocumentPropertyTagOptionRepository tagOptionRepository;
+    private final DocumentContentRepository contentRepository;
+    private final WorkspaceRepository workspaceRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * NDJSON 내보내기: 한 줄에 하나의 레코드 (type: workspace / document / property / tagOption)
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void exportNdjson(Long workspaceId, Long userId, OutputStream out) throws IOException {
+        Workspace workspace = findWorkspace(workspaceId);
+        long start = System.currentTimeMillis();
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        writeLine(generator, new WorkspaceRecord("workspace", workspace.getId(), workspace.getName(), LocalDateTime.now()));
+
+        int documents = forEachDocument(workspaceId, userId, (document, values, content) -> {
+            List<ValueRecord> valueRecords = new ArrayList<>(values.size());
+            for (DocumentPropertyValue value : values) {
+                valueRecords.add(new ValueRecord(value.getProperty().getId(), value.getValue()));
+            }
+            writeLine(generator, new DocumentRecord(
+                    "document",
+                    document.getId(),
+                    document.getParent() != null ? document.getParent().getId() : null,
+                    document.getTitle(),
+                    document.getViewType() != null ? document.getViewType().name() : null,
+                    document.getSortOrder(),
+                    document.getCreatedBy(),
+                    document.getCreatedAt(),
+                    document.getLastModifiedBy(),
+                    document.getLastModifiedAt(),
+                    content,
+                    valueRecords));
+        });
+
+        try (Stream<DocumentProperty> properties = propertyRepository.streamVisiblePropertiesForExport(
+                workspaceId, userId, PermissionStatus.ACCEPTED)) {
+            int[] count = {0};
+            properties.forEach(property -> {
+                writeLine(generator, new PropertyRecord("property", property.getId(), property.getDocument().getId(),
+                        property.getName(), property.getType().name(), property.getSortOrder(), property.getWidth()));
+                clearPeriodically(++count[0]);
+            });
+        }
+        entityManager.clear();
+
+        try (Stream<DocumentPropertyTagOption> options = tagOptionRepository.streamVisibleTagOptionsForExport(
+                workspaceId, userId, PermissionStatus.ACCEPTED)) {
+            int[] count = {0};
+            options.forEach(option -> {
+                writeLine(generator, new TagOptionRecord("tagOption", option.getId(), option.getProperty().getId(),
+                        option.getLabel(), option.getColor(), option.getSortOrder()));
+                clearPeriodically(++count[0]);
+            });
+        }
+        generator.flush();
+        log.info("NDJSON 내보내기 완료: workspaceId={}, 문서 {}건 ({}ms)", workspaceId, documents, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Markdown ZIP 내보내기: 문서마다 "제목 (id).md", 하위 문서는 같은 이름의 폴더 아래에 배치
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void exportMarkdownZip(Long workspaceId, Long userId, OutputStream out) throws IOException {
+        Workspace workspace = findWorkspace(workspaceId);
+        long start = System.currentTimeMillis();
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        String root = fileName(workspace.getName(), workspace.getId()) + "/";
+        // 경로 순서로 읽으므로 현재 문서의 조상 폴더만 스택에 유지하면 됨 (메모리는 트리 깊이에 비례)
+        Deque<Folder> folders = new ArrayDeque<>();
+        // 속성 정의/태그 라벨은 속성 수에 비례하므로 내보내기 동안 캐시 (영속성 컨텍스트를 비워도 유지)
+        Map<Long, PropertyInfo> properties = new HashMap<>();
+        Map<Long, Map<Long, String>> tagLabels = new HashMap<>();
+
+        int documents = forEachDocument(workspaceId, userId, (document, values, content) -> {
+            String path = document.getPath();
+            while (!folders.isEmpty() && (path == null || !path.startsWith(folders.peek().path()))) {
+                folders.pop();
+            }
+            String directory = folders.isEmpty() ? root : folders.peek().directory();
+            String name = fileName(document.getTitle(), document.getId());
+
+            StringBuilder markdown = new StringBuilder();
+            markdown.append("# ").append(document.getTitle() == null ? "" : document.getTitle()).append("\n\n");
+            for (DocumentPropertyValue value : values) {
+                PropertyInfo property = properties.computeIfAbsent(value.getProperty().getId(), this::loadProperty);
+                markdown.append(property.name()).append(": ")
+                        .append(formatValue(property, value.getValue(), tagLabels)).append("  \n");
+            }
+            if (!values.isEmpty()) {
+                markdown.append('\n');
+            }
+            markdown.append(HtmlMarkdownConverter.toMarkdown(content)).append('\n');
+
+            try {
+                zip.putNextEntry(new ZipEntry(directory + name + ".md"));
+                zip.write(markdown.toString().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (path != null) {
+                folders.push(new Folder(path, directory + name + "/"));
+            }
+        });
+        zip.finish();
+        zip.flush();
+        log.info("Markdown 내보내기 완료: workspaceId={}, 문서 {}건 ({}ms)", workspaceId, documents, System.currentTimeMillis() - start);
+    }
+
+    private interface DocumentWriter {
+        void write(Document document, List<DocumentPropertyValue> values, String content);
+    }
+
+    /**
+     * 문서 커서와 속성 값/본문 커서를 함께 전진시키며 문서별 값과 본문을 전달 (문서마다 추가 조회 없음)
+     *
+     * @return 내보낸 문서 수
+     */
+    private int forEachDocument(Long workspaceId, Long userId, DocumentWriter writer) {
+        String status = PermissionStatus.ACCEPTED.name();
+        int count = 0;
+        try (Stream<Document> documents = documentRepository.streamVisibleDocumentsForExport(workspaceId, userId, status);
+             Stream<DocumentPropertyValue> values = propertyValueRepository.streamVisibleValuesForExport(workspaceId, userId, status);
+             Stream<Object[]> bodies = contentRepository.streamVisibleBodiesForExport(workspaceId, userId, status)) {
+            Iterator<DocumentPropertyValue> valueIterator = values.iterator();
+            DocumentPropertyValue pending = valueIterator.hasNext() ? valueIterator.next() : null;
+            Iterator<Object[]> bodyIterator = bodies.iterator();
+            Object[] pendingBody = bodyIterator.hasNext() ? bodyIterator.next() : null;
+            Iterator<Document> documentIterator = documents.iterator();
+            while (documentIterator.hasNext()) {
+                Document document = documentIterator.next();
+                List<DocumentPropertyValue> documentValues = new ArrayList<>();
+                while (pending != null && pending.getDocument().getId().equals(document.getId())) {
+                    documentValues.add(pending);
+                    pending = valueIterator.hasNext() ? valueIterator.next() : null;
+                }
+                // 블록 문서는 블록을 순서대로 이어 붙인 값이 본문 (DocumentContentService.getContent와 같은 규칙)
+                StringBuilder content = null;
+                while (pendingBody != null && ((Number) pendingBody[0]).longValue() == document.getId()) {
+                    String part = BODY_CONVERTER.convertToEntityAttribute((byte[]) pendingBody[1]);
+                    content = (content == null ? new StringBuilder() : content).append(part != null ? part : "");
+                    pendingBody = bodyIterator.hasNext() ? bodyIterator.next() : null;
+                }
+                writer.write(document, documentValues, content != null ? content.toString() : null);
+                clearPeriodically(++count);
+            }
+        }
+        entityManager.clear();
+        return count;
+    }
+
+    private void clearPeriodically(int count) {
+        if (count % CLEAR_INTERVAL == 0) {
+            entityManager.clear();
+        }
+    }
+
+    private void writeLine(JsonGenerator generator, Object record) {
+        try {
+            objectMapper.writeValue(generator, record);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 표시용 값 (TAG는 옵션 ID 배열을 라벨로 변환, 옵션 라벨은 속성별로 한 번만 조회)
+     */
+    private String formatValue(PropertyInfo property, String value, Map<Long, Map<Long, String>> tagLabels) {
+        if (value == null || property.type() != PropertyType.TAG) {
+            return value == null ? "" : value;
+        }
+        Map<Long, String> labels = tagLabels.computeIfAbsent(property.id(), propertyId -> {
+            Map<Long, String> map = new HashMap<>();
+            for (DocumentPropertyTagOption option : tagOptionRepository.findByPropertyId(propertyId)) {
+                map.put(option.getId(), option.getLabel());
+            }
+            return map;
+        });
+        try {
+            List<Long> ids = objectMapper.readValue(value, new TypeReference<List<Long>>() {});
+            return String.join(", ", ids.stream().map(id -> labels.getOrDefault(id, String.valueOf(id))).toList());
+        } catch (IOException e) {
+            return value;
+        }
+    }
+
+    private PropertyInfo loadProperty(Long propertyId) {
+        return propertyRepository.findById(propertyId)
+                .map(property -> new PropertyInfo(property.getId(), property.getName(), property.getType()))
+                .orElse(new PropertyInfo(propertyId, String.valueOf(propertyId), null));
+    }
+
+    private Workspace findWorkspace(Long workspaceId) {
+        return workspaceRepository.findById(workspaceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Workspace not found with id: " + workspaceId));
+    }
+
+    /**
+     * 파일 시스템에서 안전한 이름 (ID를 붙여 같은 제목 문서끼리 충돌하지 않게 함)
+     */
+    static String fileName(String title, Long id) {
+        String name = title == null ? "" : title.replaceAll("[\\\\/:*?\"<>|\\p{Cntrl}]", "_").trim();
+        if (name.isEmpty()) {
+            name = "Untitled";
+        }
+        if (name.length() > MAX_FILE_NAME_LENGTH) {
+            name = name.substring(0, MAX_FILE_NAME_LENGTH).trim();
+        }
+        return name + " (" + id + ")";
+    }
+
+    private record Folder(String path, String directory) {
+    }
+
+    private record PropertyInfo(Long id, String name, PropertyType type) {
+    }
+
+    private record WorkspaceRecord(String type, Long id, String name, LocalDateTime exportedAt) {
+    }
+
+    private record DocumentRecord(String type, Long id, Long parentId, String title, String viewType, Integer sortOrder,
+                                  String createdBy, LocalDateTime createdAt, String lastModifiedBy,
+                                  LocalDateTime lastModifiedAt, String content, List<ValueRecord> values) {
+    }
+
+    private record ValueRecord(Long propertyId, String value) {
+    }
+
+    private record PropertyRecord(String type, Long id, Long documentId, String name, String propertyType,
+                                  Integer sortOrder, Integer width) {
+    }
+
+    private record TagOptionRecord(String type, Long id, Long propertyId, String label, String color, Integer sortOrder) {
+    }
+}
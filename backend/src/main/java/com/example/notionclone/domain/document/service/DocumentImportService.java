@@ -0,0 +1,417 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.domain.document.dto.DocumentImportResult;
+import com.example.notionclone.domain.document.entity.CompressedTextConverter;
+import com.example.notionclone.domain.document.entity.PropertyType;
+import com.example.notionclone.domain.document.entity.TypedPropertyValues;
+import com.example.notionclone.domain.document.entity.ViewType;
+import com.example.notionclone.domain.permission.entity.PermissionStatus;
+import com.example.notionclone.domain.permission.entity.PermissionType;
+import com.example.notionclone.domain.workspace.repository.WorkspaceRepository;
+import com.example.notionclone.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 워크스페이스 대량 가져오기 (NDJSON)
+ *
+ * 내보내기(DocumentExportService) 형식의 NDJSON 스트림을 한 줄씩 읽으며 JPA를 거치지 않고 다중 행 INSERT로 적재합니다.
+ * IDENTITY 키는 Hibernate 배치 삽입이 불가능하므로, 각 테이블의 시퀀스에서 ID를 블록 단위로 미리 받아
+ * 원본 ID → 새 ID 매핑을 메모리(원시 long 해시)에 두고 참조를 바로 치환합니다.
+ *
+ * - 1차: 문서/본문/소유 권한/속성/태그 옵션을 부모 없이 삽입, 속성 값과 부모 링크는 임시 테이블에 적재
+ * - 2차: 임시 테이블로 parent_id, 경로/깊이, 자식 수를 집합 연산으로 채우고 속성 값을 옮김 (TAG 값의 옵션 ID도 치환)
+ * - 파일 안에 없는 부모를 가리키거나 순환 참조인 문서는 루트 문서가 되며, 정의되지 않은 문서/속성을 가리키는 레코드는 건너뜀
+ * - 전체가 한 트랜잭션이므로 도중에 실패하면 아무것도 남지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentImportService {
+    private static final int ID_BLOCK_SIZE = 1000;
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final int DEFAULT_TITLE_COLUMN_WIDTH = 288;
+    private static final int DEFAULT_PROPERTY_WIDTH = 192;
+
+    private static final Timer IMPORT_TIMER = Timer.builder("document.import")
+            .description("워크스페이스 가져오기 소요 시간")
+            .register(Metrics.globalRegistry);
+    private static final Counter IMPORT_ROWS = Counter.builder("document.import.rows")
+            .description("가져오기로 적재한 행 수")
+            .register(Metrics.globalRegistry);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final WorkspaceRepository workspaceRepository;
+    private final DocumentSearchService documentSearchService;
+    private final DocumentListCacheService documentListCacheService;
+    private final CompressedTextConverter compressedTextConverter = new CompressedTextConverter();
+
+    @Transactional
+    public DocumentImportResult importNdjson(Long workspaceId, Long userId, String userEmail, InputStream in) throws IOException {
+        if (!workspaceRepository.existsById(workspaceId)) {
+            throw new ResourceNotFoundException("Workspace not found with id: " + workspaceId);
+        }
+        long start = System.nanoTime();
+        createStagingTables();
+        ImportRun run = new ImportRun(workspaceId, userId, userEmail, Timestamp.valueOf(LocalDateTime.now()));
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in);
+             MappingIterator<JsonNode> records = objectMapper.readerFor(JsonNode.class).readValues(parser)) {
+            while (records.hasNextValue()) {
+                JsonNode record = records.nextValue();
+                switch (record.path("type").asText()) {
+                    case "document" -> run.document(record);
+                    case "property" -> run.property(record);
+                    case "tagOption" -> run.tagOption(record);
+                    case "workspace" -> { }
+                    default -> run.skipped++;
+                }
+            }
+        }
+        run.flushAll();
+
+        long values = resolve(run);
+        long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        long rows = run.documents.written() + run.contents.written() + run.permissions.written()
+                + run.properties.written() + run.tagOptions.written() + values;
+        IMPORT_TIMER.record(elapsedMs, TimeUnit.MILLISECONDS);
+        IMPORT_ROWS.increment(rows);
+
+        documentListCacheService.evictWorkspace(workspaceId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                documentSearchService.invalidateWorkspace(workspaceId);
+            }
+        });
+
+        DocumentImportResult result = DocumentImportResult.builder()
+                .documents(run.documents.written())
+                .properties(run.properties.written())
+                .tagOptions(run.tagOptions.written())
+                .values(values)
+                .permissions(run.permissions.written())
+                .skipped(run.skipped)
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(rows * 1000 / elapsedMs)
+                .build();
+        log.info("워크스페이스 가져오기 완료: workspaceId={}, 문서 {}건, 속성 {}건, 값 {}건, 건너뜀 {}건, {}행 ({}ms, {}행/초)",
+                workspaceId, result.getDocuments(), result.getProperties(), values, run.skipped,
+                rows, elapsedMs, result.getRowsPerSecond());
+        return result;
+    }
+
+    private void createStagingTables() {
+        jdbcTemplate.execute("CREATE TEMP TABLE import_documents (id bigint PRIMARY KEY, parent_id bigint) ON COMMIT DROP");
+        jdbcTemplate.execute("CREATE TEMP TABLE import_property_values " +
+                "(document_id bigint NOT NULL, property_id bigint NOT NULL, value text, value_number numeric, value_date timestamp) ON COMMIT DROP");
+        jdbcTemplate.execute("CREATE TEMP TABLE import_tag_option_ids (source_id text PRIMARY KEY, id bigint NOT NULL) ON COMMIT DROP");
+    }
+
+    /**
+     * 2차 처리: 부모 링크/경로/자식 수 채우기와 속성 값 이동
+     *
+     * @return 적재된 속성 값 수
+     */
+    private long resolve(ImportRun run) {
+        // 임시 테이블은 autovacuum 통계가 없으므로 조인 전에 직접 수집
+        jdbcTemplate.execute("ANALYZE import_documents");
+        jdbcTemplate.execute("ANALYZE import_property_values");
+        jdbcTemplate.execute("ANALYZE import_tag_option_ids");
+
+        jdbcTemplate.update(
+                "UPDATE documents d SET parent_id = i.parent_id FROM import_documents i " +
+                "JOIN import_documents p ON p.id = i.parent_id WHERE d.id = i.id");
+        jdbcTemplate.update(
+                "WITH RECURSIVE tree AS (" +
+                "  SELECT i.id, '/' || i.id || '/' AS path, 0 AS depth FROM import_documents i" +
+                "  WHERE NOT EXISTS (SELECT 1 FROM import_documents p WHERE p.id = i.parent_id)" +
+                "  UNION ALL" +
+                "  SELECT c.id, t.path || c.id || '/', t.depth + 1 FROM import_documents c JOIN tree t ON c.parent_id = t.id" +
+                ") " +
+                "UPDATE documents d SET path = tree.path, depth = tree.depth FROM tree WHERE d.id = tree.id");
+        // 순환 참조로 루트에서 닿지 않는 문서는 루트로 올림
+        int detached = jdbcTemplate.update(
+                "UPDATE documents d SET parent_id = NULL, path = '/' || d.id || '/', depth = 0 " +
+                "FROM import_documents i WHERE d.id = i.id AND d.path IS NULL");
+        if (detached > 0) {
+            log.warn("가져오기 중 순환 참조 문서를 루트로 이동: {}건", detached);
+        }
+        jdbcTemplate.update(
+                "UPDATE documents d SET live_child_count = c.cnt FROM (" +
+                "  SELECT parent_id, COUNT(*) AS cnt FROM documents " +
+                "  WHERE id IN (SELECT id FROM import_documents) AND parent_id IS NOT NULL GROUP BY parent_id" +
+                ") c WHERE d.id = c.parent_id");
+
+        // 정의되지 않은 속성을 가리키는 값은 조인에서 빠짐, TAG 값(옵션 ID 배열)은 새 옵션 ID로 치환
+        // 타입 컬럼: 숫자/날짜는 적재 시 변환해 둔 값 중 속성 타입에 맞는 것만, TAG는 치환된 옵션 ID 배열
+        return jdbcTemplate.update(
+                "INSERT INTO document_property_values (document_id, property_id, value, value_number, value_date, value_tag_ids, " +
+                "typed_version, created_by, created_at, updated_by, updated_at) " +
+                "SELECT s.document_id, s.property_id, CASE WHEN tag.ids IS NOT NULL THEN array_to_json(tag.ids)::text ELSE s.value END, " +
+                "  CASE WHEN p.type = 'NUMBER' THEN s.value_number END, CASE WHEN p.type = 'DATE' THEN s.value_date END, " +
+                "  NULLIF(tag.ids, '{}'), ?, ?, ?, ?, ? " +
+                "FROM import_property_values s JOIN document_properties p ON p.id = s.property_id " +
+                "CROSS JOIN LATERAL (SELECT CASE WHEN p.type = 'TAG' AND s.value IS JSON ARRAY THEN ARRAY(" +
+                "    SELECT t.id FROM json_array_elements_text(s.value::json) WITH ORDINALITY AS e(v, ord) " +
+                "    JOIN import_tag_option_ids t ON t.source_id = e.v ORDER BY e.ord) END AS ids) tag",
+                TypedPropertyValues.VERSION, run.userEmail, run.now, run.userEmail, run.now);
+    }
+
+    private String sequenceOf(String table) {
+        String sequence = jdbcTemplate.queryForObject("SELECT pg_get_serial_sequence(?, 'id')", String.class, table);
+        if (sequence == null) {
+            throw new IllegalStateException("No id sequence for table: " + table);
+        }
+        return sequence;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private static Integer intOrNull(JsonNode node) {
+        return node.isNumber() ? node.intValue() : null;
+    }
+
+    private static String textOrNull(JsonNode node) {
+        return node.isNull() || node.isMissingNode() ? null : node.asText();
+    }
+
+    /**
+     * 한 번의 가져오기 동안의 버퍼, ID 매핑, 건수
+     */
+    private final class ImportRun {
+        final Long workspaceId;
+        final Long userId;
+        final String userEmail;
+        final Timestamp now;
+
+        final IdAllocator documentIdAllocator = new IdAllocator(sequenceOf("documents"));
+        final IdAllocator propertyIdAllocator = new IdAllocator(sequenceOf("document_properties"));
+        final IdAllocator tagOptionIdAllocator = new IdAllocator(sequenceOf("document_property_tag_option"));
+
+        // 원본 ID → 새 ID (정의보다 참조가 먼저 나와도 같은 ID를 쓰도록 처음 본 시점에 할당)
+        final LongIdMap documentIds = new LongIdMap();
+        final LongIdMap propertyIds = new LongIdMap();
+        // 실제로 정의(삽입)된 원본 ID
+        final LongIdMap definedDocuments = new LongIdMap();
+        final LongIdMap definedProperties = new LongIdMap();
+        final LongIdMap definedTagOptions = new LongIdMap();
+
+        final BatchInsertWriter documents;
+        final BatchInsertWriter contents;
+        final BatchInsertWriter permissions;
+        final BatchInsertWriter properties;
+        final BatchInsertWriter tagOptions;
+        final BatchInsertWriter stagedDocuments;
+        final BatchInsertWriter stagedValues;
+        final BatchInsertWriter stagedTagOptionIds;
+        long skipped;
+
+        ImportRun(Long workspaceId, Long userId, String userEmail, Timestamp now) {
+            this.workspaceId = workspaceId;
+            this.userId = userId;
+            this.userEmail = userEmail;
+            this.now = now;
+            documents = new BatchInsertWriter(jdbcTemplate, "documents",
+                    new String[]{"id", "title", "workspace_id", "user_id", "sort_order", "is_trashed", "title_column_width",
+                            "is_locked", "view_type", "last_modified_at", "last_modified_by",
+                            "created_by", "created_at", "updated_by", "updated_at"},
+                    new int[]{Types.BIGINT, Types.VARCHAR, Types.BIGINT, Types.BIGINT, Types.INTEGER, Types.BOOLEAN, Types.INTEGER,
+                            Types.BOOLEAN, Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR,
+                            Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR, Types.TIMESTAMP});
+            contents = new BatchInsertWriter(jdbcTemplate, "document_contents",
+                    new String[]{"document_id", "body", "created_by", "created_at", "updated_by", "updated_at"},
+                    new int[]{Types.BIGINT, Types.BINARY, Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR, Types.TIMESTAMP})
+                    .after(documents);
+            permissions = new BatchInsertWriter(jdbcTemplate, "permissions",
+                    new String[]{"user_id", "document_id", "permission_type", "status", "created_by", "created_at", "updated_by", "updated_at"},
+                    new int[]{Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR, Types.TIMESTAMP})
+                    .after(documents);
+            properties = new BatchInsertWriter(jdbcTemplate, "document_properties",
+                    new String[]{"id", "document_id", "name", "type", "sort_order", "width", "created_by", "created_at", "updated_by", "updated_at"},
+                    new int[]{Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.INTEGER, Types.INTEGER,
+                            Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR, Types.TIMESTAMP})
+                    .after(documents);
+            tagOptions = new BatchInsertWriter(jdbcTemplate, "document_property_tag_option",
+                    new String[]{"id", "property_id", "label", "color", "sort_order", "created_by", "created_at", "updated_by", "updated_at"},
+                    new int[]{Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.INTEGER,
+                            Types.VARCHAR, Types.TIMESTAMP, Types.VARCHAR, Types.TIMESTAMP})
+                    .after(properties);
+            stagedDocuments = new BatchInsertWriter(jdbcTemplate, "import_documents",
+                    new String[]{"id", "parent_id"}, new int[]{Types.BIGINT, Types.BIGINT});
+            stagedValues = new BatchInsertWriter(jdbcTemplate, "import_property_values",
+                    new String[]{"document_id", "property_id", "value", "value_number", "value_date"},
+                    new int[]{Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.NUMERIC, Types.TIMESTAMP});
+            stagedTagOptionIds = new BatchInsertWriter(jdbcTemplate, "import_tag_option_ids",
+                    new String[]{"source_id", "id"}, new int[]{Types.VARCHAR, Types.BIGINT});
+        }
+
+        void document(JsonNode record) {
+            JsonNode sourceId = record.path("id");
+            if (!sourceId.canConvertToLong() || definedDocuments.get(sourceId.longValue()) >= 0) {
+                skipped++;
+                return;
+            }
+            definedDocuments.put(sourceId.longValue(), 1);
+            long id = documentIds.computeIfAbsent(sourceId.longValue(), documentIdAllocator);
+            JsonNode parent = record.path("parentId");
+            Long parentId = parent.canConvertToLong() ? documentIds.computeIfAbsent(parent.longValue(), documentIdAllocator) : null;
+
+            String title = truncate(record.path("title").asText(""), MAX_NAME_LENGTH);
+            Timestamp createdAt = timestamp(record.path("createdAt"), now);
+            Timestamp modifiedAt = timestamp(record.path("lastModifiedAt"), createdAt);
+            String createdBy = textOrDefault(record.path("createdBy"), userEmail);
+            String modifiedBy = textOrDefault(record.path("lastModifiedBy"), createdBy);
+            documents.add(id, title, workspaceId, userId, intOrNull(record.path("sortOrder")), false, DEFAULT_TITLE_COLUMN_WIDTH,
+                    false, viewType(record.path("viewType")).name(), modifiedAt, modifiedBy,
+                    createdBy, createdAt, modifiedBy, modifiedAt);
+            stagedDocuments.add(id, parentId);
+            permissions.add(userId, id, PermissionType.OWNER.name(), PermissionStatus.ACCEPTED.name(),
+                    userEmail, now, userEmail, now);
+
+            String content = textOrNull(record.path("content"));
+            if (content != null && !content.isEmpty()) {
+                contents.add(id, compressedTextConverter.convertToDatabaseColumn(content), createdBy, createdAt, modifiedBy, modifiedAt);
+            }
+            for (JsonNode value : record.path("values")) {
+                JsonNode propertyId = value.path("propertyId");
+                if (!propertyId.canConvertToLong()) {
+                    skipped++;
+                    continue;
+                }
+                // 속성 타입은 2차 처리에서 정해지므로 숫자/날짜 변환 값을 모두 적재
+                String text = textOrNull(value.path("value"));
+                LocalDateTime date = TypedPropertyValues.toDate(text);
+                stagedValues.add(id, propertyIds.computeIfAbsent(propertyId.longValue(), propertyIdAllocator),
+                        text, TypedPropertyValues.toNumber(text), date != null ? Timestamp.valueOf(date) : null);
+            }
+        }
+
+        void property(JsonNode record) {
+            JsonNode sourceId = record.path("id");
+            JsonNode documentId = record.path("documentId");
+            PropertyType type = propertyType(record.path("propertyType"));
+            if (!sourceId.canConvertToLong() || !documentId.canConvertToLong() || type == null
+                    || definedDocuments.get(documentId.longValue()) < 0
+                    || definedProperties.get(sourceId.longValue()) >= 0) {
+                skipped++;
+                return;
+            }
+            definedProperties.put(sourceId.longValue(), 1);
+            long id = propertyIds.computeIfAbsent(sourceId.longValue(), propertyIdAllocator);
+            Integer width = intOrNull(record.path("width"));
+            properties.add(id, documentIds.get(documentId.longValue()), truncate(record.path("name").asText(""), MAX_NAME_LENGTH),
+                    type.name(), intOrNull(record.path("sortOrder")), width != null ? width : DEFAULT_PROPERTY_WIDTH,
+                    userEmail, now, userEmail, now);
+        }
+
+        void tagOption(JsonNode record) {
+            JsonNode sourceId = record.path("id");
+            JsonNode propertyId = record.path("propertyId");
+            if (!sourceId.canConvertToLong() || !propertyId.canConvertToLong()
+                    || definedProperties.get(propertyId.longValue()) < 0
+                    || definedTagOptions.get(sourceId.longValue()) >= 0) {
+                skipped++;
+                return;
+            }
+            long id = tagOptionIdAllocator.getAsLong();
+            definedTagOptions.put(sourceId.longValue(), id);
+            tagOptions.add(id, propertyIds.get(propertyId.longValue()),
+                    truncate(textOrNull(record.path("label")), MAX_NAME_LENGTH),
+                    truncate(textOrNull(record.path("color")), MAX_NAME_LENGTH),
+                    intOrNull(record.path("sortOrder")), userEmail, now, userEmail, now);
+            stagedTagOptionIds.add(Long.toString(sourceId.longValue()), id);
+        }
+
+        void flushAll() {
+            documents.flush();
+            contents.flush();
+            permissions.flush();
+            properties.flush();
+            tagOptions.flush();
+            stagedDocuments.flush();
+            stagedValues.flush();
+            stagedTagOptionIds.flush();
+        }
+
+        private Timestamp timestamp(JsonNode node, Timestamp fallback) {
+            if (node.isNull() || node.isMissingNode()) {
+                return fallback;
+            }
+            try {
+                LocalDateTime value = objectMapper.treeToValue(node, LocalDateTime.class);
+                return value != null ? Timestamp.valueOf(value) : fallback;
+            } catch (IOException | RuntimeException e) {
+                return fallback;
+            }
+        }
+
+        private String textOrDefault(JsonNode node, String fallback) {
+            String text = textOrNull(node);
+            return text != null && !text.isBlank() ? truncate(text, MAX_NAME_LENGTH) : fallback;
+        }
+
+        private ViewType viewType(JsonNode node) {
+            try {
+                return ViewType.valueOf(node.asText("").toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return ViewType.PAGE;
+            }
+        }
+
+        private PropertyType propertyType(JsonNode node) {
+            try {
+                return PropertyType.from(node.asText(""));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 시퀀스에서 ID를 블록 단위로 미리 받아 두고 하나씩 나눠 주는 할당기
+     */
+    private final class IdAllocator implements LongSupplier {
+        private final String sequence;
+        private long[] block = new long[0];
+        private int next;
+
+        IdAllocator(String sequence) {
+            this.sequence = sequence;
+        }
+
+        @Override
+        public long getAsLong() {
+            if (next >= block.length) {
+                block = jdbcTemplate.queryForList("SELECT nextval(?::regclass) FROM generate_series(1, ?)",
+                        Long.class, sequence, ID_BLOCK_SIZE).stream().mapToLong(Long::longValue).toArray();
+                next = 0;
+            }
+            return block[next++];
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 문서 목록 캐시 무효화 서비스
+ *
+ * 캐시 키는 "{workspaceId}_{userId}" (페이지네이션은 "_{page}_{size}" 추가) 형태이므로
+ * 접두사 매칭으로 한 워크스페이스 또는 한 사용자의 엔트리만 제거합니다.
+ * 자동완성용 공유 문서 ID 캐시도 같은 키를 사용하므로 함께 제거됩니다.
+ * 다른 워크스페이스(테넌트)의 쓰기는 서로의 캐시에 영향을 주지 않습니다.
+ *
+ * 트랜잭션 안에서 호출되면 커밋 이후에 제거하여, 커밋 전 동시 조회가 이전 데이터를 다시 캐시하는 것을 막습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DocumentListCacheService {
+    private static final List<String> CACHE_NAMES = List.of(
+            CacheConfig.DOCUMENT_LIST, CacheConfig.DOCUMENT_LIST_PAGINATED, CacheConfig.DOCUMENT_VISIBILITY);
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 워크스페이스의 모든 사용자 목록 캐시 제거 (문서 생성/이동/삭제/제목 변경 등)
+     */
+    public void evictWorkspace(Long workspaceId) {
+        if (workspaceId == null) {
+            return;
+        }
+        String prefix = workspaceId + "_";
+        evictMatching(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * 한 사용자의 워크스페이스 목록 캐시 제거 (권한 수락/회수 등 가시성 변경)
+     */
+    public void evictUser(Long workspaceId, Long userId) {
+        if (workspaceId == null || userId == null) {
+            return;
+        }
+        String userKey = workspaceId + "_" + userId;
+        evictMatching(key -> key.equals(userKey) || key.startsWith(userKey + "_"));
+    }
+
+    private void evictMatching(Predicate<String> matcher) {
+        afterCommit(() -> {
+            for (String cacheName : CACHE_NAMES) {
+                Cache cache = cacheManager.getCache(cacheName);
+                if (cache instanceof CaffeineCache caffeineCache) {
+                    caffeineCache.getNativeCache().asMap().keySet()
+                            .removeIf(key -> matcher.test(key.toString()));
+                }
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -17,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,6 +28,8 @@ public class DocumentPropertyService {
     private final UserRepository userRepository;
     private final PermissionService permissionService;
     private final DocumentPropertyTagOptionRepository tagOptionRepository;
+    private final SortRankService sortRankService;
+    private final DocumentTableCacheService documentTableCacheService;
 
     @Transactional
     public DocumentProperty addProperty(Long documentId, String name, PropertyType type, Integer sortOrder) {
@@ -35,13 +38,26 @@ public class DocumentPropertyService {
         Long targetId = (document.getParent() != null) ? document.getParent().getId() : document.getId();
         Document targetDoc = documentRepository.findById(targetId)
                 .orElseThrow(() -> new ResourceNotFoundException("Document not found with id: " + targetId));
+        // 요청의 sortOrder는 목록 내 위치로 해석하고, 저장되는 정렬 키는 간격 기반으로 부여
+        List<DocumentProperty> existing = propertyRepository.findByDocumentIdOrderBySortOrderAsc(targetId);
+        Integer lastRank = existing.isEmpty() ? null : existing.get(existing.size() - 1).getSortOrder();
         DocumentProperty property = DocumentProperty.builder()
                 .document(targetDoc)
                 .name(name)
                 .type(type)
-                .sortOrder(sortOrder)
+                .sortOrder(lastRank != null ? lastRank + SortRankService.STEP : SortRankService.STEP)
                 .build();
-        return propertyRepository.save(property);
+        DocumentProperty saved = propertyRepository.save(property);
+
+        if (sortOrder != null && sortOrder >= 0 && sortOrder < existing.size()) {
+            List<Long> orderedIds = existing.stream().map(DocumentProperty::getId).collect(Collectors.toList());
+            orderedIds.add(sortOrder, saved.getId());
+            Integer rank = sortRankService.reorderProperties(targetId, orderedIds).get(saved.getId());
+            if (rank != null) {
+                saved.setSortOrder(rank);
+            }
+        }
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -67,6 +83,8 @@ public class DocumentPropertyService {
 
     @Transactional
     public void deleteProperty(Long propertyId) {
+        propertyRepository.findById(propertyId).ifPresent(property ->
+                documentTableCacheService.propertyRemoved(property.getDocument().getId(), propertyId));
         propertyRepository.deleteById(propertyId);
     }
 
@@ -137,19 +155,22 @@ public class DocumentPropertyService {
         Document doc = documentRepository.findById(documentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Document not found with id: " + documentId));
         Long targetId = (doc.getParent() != null) ? doc.getParent().getId() : doc.getId();
-        
-        for (int i = 0; i < propertyIds.size(); i++) {
-            Long propertyId = propertyIds.get(i);
-            DocumentProperty property = propertyRepository.findById(propertyId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Property not found: " + propertyId));
-            
+
+        // 존재 여부와 소속 문서를 한 번의 조회로 확인
+        Map<Long, Long> ownerByPropertyId = propertyRepository.findAllById(propertyIds).stream()
+                .collect(Collectors.toMap(DocumentProperty::getId, p -> p.getDocument().getId()));
+        for (Long propertyId : propertyIds) {
+            Long ownerId = ownerByPropertyId.get(propertyId);
+            if (ownerId == null) {
+                throw new ResourceNotFoundException("Property not found: " + propertyId);
+            }
             // 속성이 해당 문서에 속하는지 확인
-            if (!property.getDocument().getId().equals(targetId)) {
+            if (!ownerId.equals(targetId)) {
                 throw new IllegalArgumentException("Property does not belong to the specified document");
             }
-            
-            property.setSortOrder(i);
-            propertyRepository.save(property);
         }
+
+        // 순서가 바뀐 속성의 sortOrder만 갱신
+        sortRankService.reorderProperties(targetId, propertyIds);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.domain.document.entity.PropertyType;
+import com.example.notionclone.domain.document.entity.TypedPropertyValues;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 속성 값 타입 컬럼 백필
+ *
+ * typed_version이 비어 있는 행(컬럼 추가 이전 데이터, 타입 컬럼을 채우지 않은 벌크 INSERT)을 ID 순으로 조금씩 읽어
+ * 엔티티 저장 시와 같은 규칙(TypedPropertyValues)으로 변환합니다.
+ * 배치마다 커밋하고, 스케줄러 스레드를 오래 점유하지 않도록 한 번 실행에 RUN_BUDGET_MS 동안만 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentPropertyValueBackfillService {
+    static final int BATCH_SIZE = 2000;
+    private static final long RUN_BUDGET_MS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private record PendingValue(long id, PropertyType type, String value) {
+    }
+
+    @Scheduled(initialDelayString = "${property-values.backfill-initial-delay-ms:10000}",
+            fixedDelayString = "${property-values.backfill-interval-ms:5000}")
+    public void backfill() {
+        TransactionTemplate batchTx = new TransactionTemplate(transactionManager);
+        batchTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        long start = System.currentTimeMillis();
+        int total = 0;
+        try {
+            while (System.currentTimeMillis() - start < RUN_BUDGET_MS) {
+                Integer filled = batchTx.execute(status -> backfillBatch());
+                if (filled == null || filled == 0) {
+                    break;
+                }
+                total += filled;
+            }
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도
+            log.warn("속성 값 타입 컬럼 백필 실패: {}", e.getMessage());
+        }
+        if (total > 0) {
+            log.info("속성 값 타입 컬럼 백필: {}건 ({}ms)", total, System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * 대기 중인 값 한 배치를 변환합니다. 그 사이 JPA로 다시 저장된 행(typed_version이 채워짐)은 건너뜁니다.
+     *
+     * @return 읽은 행 수 (0이면 남은 작업 없음)
+     */
+    int backfillBatch() {
+        List<PendingValue> pending = jdbcTemplate.query(
+                "SELECT v.id, p.type, v.value FROM document_property_values v " +
+                "JOIN document_properties p ON p.id = v.property_id " +
+                "WHERE v.typed_version IS NULL ORDER BY v.id LIMIT ?",
+                (rs, rowNum) -> new PendingValue(rs.getLong(1), propertyType(rs.getString(2)), rs.getString(3)),
+                BATCH_SIZE);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE document_property_values SET value_number = ?, value_date = ?, value_tag_ids = ?, typed_version = ? " +
+                "WHERE id = ? AND typed_version IS NULL",
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        PendingValue row = pending.get(i);
+                        BigDecimal number = row.type() == PropertyType.NUMBER ? TypedPropertyValues.toNumber(row.value()) : null;
+                        LocalDateTime date = row.type() == PropertyType.DATE ? TypedPropertyValues.toDate(row.value()) : null;
+                        Long[] tagIds = row.type() == PropertyType.TAG ? TypedPropertyValues.toTagIds(row.value()) : null;
+                        ps.setObject(1, number, Types.NUMERIC);
+                        ps.setObject(2, date != null ? Timestamp.valueOf(date) : null, Types.TIMESTAMP);
+                        if (tagIds != null) {
+                            ps.setArray(3, ps.getConnection().createArrayOf("bigint", tagIds));
+                        } else {
+                            ps.setNull(3, Types.ARRAY);
+                        }
+                        ps.setShort(4, TypedPropertyValues.VERSION);
+                        ps.setLong(5, row.id());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return pending.size();
+                    }
+                });
+        return pending.size();
+    }
+
+    private static PropertyType propertyType(String type) {
+        try {
+            return type != null ? PropertyType.valueOf(type) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
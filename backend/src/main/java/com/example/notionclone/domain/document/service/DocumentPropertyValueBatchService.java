@@ -0,0 +1,273 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.domain.document.dto.PropertyValueBatchDtos;
+import com.example.notionclone.domain.document.entity.PropertyType;
+import com.example.notionclone.domain.document.entity.TypedPropertyValues;
+import com.example.notionclone.domain.permission.entity.PermissionType;
+import com.example.notionclone.domain.permission.service.PermissionService;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 속성 값 일괄 저장 (스프레드시트 범위 붙여넣기 등)
+ *
+ * 셀마다 조회/저장/재조회하던 단건 API 대신, 대상 문서/속성을 한 번에 읽어 검증한 뒤
+ * 유효한 셀을 다중 행 INSERT ... ON CONFLICT (document_id, property_id) DO UPDATE로 한 트랜잭션에 반영합니다.
+ *
+ * - 문서가 없거나 다른 워크스페이스/휴지통이면 NOT_FOUND, 속성이 문서(또는 부모 데이터베이스)의 것이 아니면 INVALID_PROPERTY,
+ *   쓰기 권한이 없으면 FORBIDDEN으로 셀별 결과에 표시하고 나머지 셀은 저장
+ * - 타입 컬럼(value_number 등)은 엔티티 저장과 같은 규칙으로 채움
+ * - 값이 바뀐 문서의 최종 수정 메타를 갱신해 행별로 반환
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentPropertyValueBatchService {
+    static final int MAX_CELLS = 10000;
+    private static final int ROWS_PER_STATEMENT = 1000;
+
+    private static final String STATUS_OK = "OK";
+    private static final String STATUS_NOT_FOUND = "NOT_FOUND";
+    private static final String STATUS_INVALID_PROPERTY = "INVALID_PROPERTY";
+    private static final String STATUS_FORBIDDEN = "FORBIDDEN";
+
+    private static final Timer BATCH_TIMER = Timer.builder("document.property_values.batch")
+            .description("속성 값 일괄 저장 시간")
+            .register(Metrics.globalRegistry);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PermissionService permissionService;
+    private final DocumentTableCacheService documentTableCacheService;
+
+    private record DocumentRow(Long parentId, Long workspaceId, boolean trashed) {
+    }
+
+    private record PropertyRow(Long documentId, PropertyType type) {
+    }
+
+    private record CellKey(long documentId, long propertyId) {
+    }
+
+    @Transactional
+    public PropertyValueBatchDtos.Response upsertValues(Long workspaceId, Long userId, String userEmail,
+                                                        List<PropertyValueBatchDtos.Cell> cells) {
+        if (cells == null || cells.isEmpty()) {
+            return PropertyValueBatchDtos.Response.builder().results(List.of()).rows(List.of()).build();
+        }
+        if (cells.size() > MAX_CELLS) {
+            throw new IllegalArgumentException("Too many cells in one batch (max " + MAX_CELLS + "): " + cells.size());
+        }
+        if (cells.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Batch contains an empty cell");
+        }
+        return BATCH_TIMER.record(() -> apply(workspaceId, userId, userEmail, cells));
+    }
+
+    private PropertyValueBatchDtos.Response apply(Long workspaceId, Long userId, String userEmail,
+                                                  List<PropertyValueBatchDtos.Cell> cells) {
+        Set<Long> documentIds = new HashSet<>();
+        Set<Long> propertyIds = new HashSet<>();
+        for (PropertyValueBatchDtos.Cell cell : cells) {
+            if (cell.getDocumentId() != null) {
+                documentIds.add(cell.getDocumentId());
+            }
+            if (cell.getPropertyId() != null) {
+                propertyIds.add(cell.getPropertyId());
+            }
+        }
+        Map<Long, DocumentRow> documents = loadDocuments(documentIds);
+        Map<Long, PropertyRow> properties = loadProperties(propertyIds);
+
+        // 셀 검증 (권한은 문서별로 한 번만 확인), 같은 셀이 반복되면 마지막 값만 저장
+        String[] statuses = new String[cells.size()];
+        Map<Long, Boolean> writable = new HashMap<>();
+        Map<CellKey, Integer> lastIndex = new LinkedHashMap<>();
+        for (int i = 0; i < cells.size(); i++) {
+            PropertyValueBatchDtos.Cell cell = cells.get(i);
+            DocumentRow document = cell.getDocumentId() != null ? documents.get(cell.getDocumentId()) : null;
+            PropertyRow property = cell.getPropertyId() != null ? properties.get(cell.getPropertyId()) : null;
+            if (document == null || document.trashed() || !workspaceId.equals(document.workspaceId())) {
+                statuses[i] = STATUS_NOT_FOUND;
+            } else if (property == null || !(property.documentId().equals(document.parentId())
+                    || property.documentId().equals(cell.getDocumentId()))) {
+                statuses[i] = STATUS_INVALID_PROPERTY;
+            } else if (!writable.computeIfAbsent(cell.getDocumentId(), id -> canWrite(workspaceId, id, userId))) {
+                statuses[i] = STATUS_FORBIDDEN;
+            } else {
+                statuses[i] = STATUS_OK;
+                lastIndex.put(new CellKey(cell.getDocumentId(), cell.getPropertyId()), i);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<CellKey, Long> valueIds = new HashMap<>();
+        List<Map.Entry<CellKey, Integer>> writes = new ArrayList<>(lastIndex.entrySet());
+        for (int from = 0; from < writes.size(); from += ROWS_PER_STATEMENT) {
+            upsertChunk(writes.subList(from, Math.min(from + ROWS_PER_STATEMENT, writes.size())),
+                    cells, properties, userEmail, now, valueIds);
+        }
+
+        Set<Long> touched = new HashSet<>();
+        lastIndex.keySet().forEach(key -> touched.add(key.documentId()));
+        List<PropertyValueBatchDtos.RowMeta> rows = touchLastModified(touched, userEmail, now);
+
+        List<PropertyValueBatchDtos.CellResult> results = new ArrayList<>(cells.size());
+        for (int i = 0; i < cells.size(); i++) {
+            PropertyValueBatchDtos.Cell cell = cells.get(i);
+            boolean ok = STATUS_OK.equals(statuses[i]);
+            CellKey key = ok ? new CellKey(cell.getDocumentId(), cell.getPropertyId()) : null;
+            results.add(PropertyValueBatchDtos.CellResult.builder()
+                    .documentId(cell.getDocumentId())
+                    .propertyId(cell.getPropertyId())
+                    .valueId(ok ? valueIds.get(key) : null)
+                    .value(ok ? cells.get(lastIndex.get(key)).getValue() : null)
+                    .status(statuses[i])
+                    .build());
+        }
+
+        // 커밋 후 테이블 열 캐시에 반영
+        lastIndex.forEach((key, index) -> documentTableCacheService.valueChanged(
+                documents.get(key.documentId()).parentId(), key.documentId(), key.propertyId(),
+                valueIds.get(key), cells.get(index).getValue()));
+
+        log.debug("속성 값 일괄 저장: 요청 {}셀, 저장 {}셀, 문서 {}건", cells.size(), lastIndex.size(), touched.size());
+        return PropertyValueBatchDtos.Response.builder().results(results).rows(rows).build();
+    }
+
+    private boolean canWrite(Long workspaceId, Long documentId, Long userId) {
+        try {
+            permissionService.checkPermission(workspaceId, documentId, userId, PermissionType.WRITE);
+            return true;
+        } catch (AccessDeniedException e) {
+            return false;
+        }
+    }
+
+    private void upsertChunk(List<Map.Entry<CellKey, Integer>> chunk, List<PropertyValueBatchDtos.Cell> cells,
+                             Map<Long, PropertyRow> properties, String userEmail, LocalDateTime now,
+                             Map<CellKey, Long> valueIds) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO document_property_values (document_id, property_id, value, value_number, value_date, " +
+                "value_tag_ids, typed_version, created_by, created_at, updated_by, updated_at) VALUES ");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        }
+        sql.append(" ON CONFLICT (document_id, property_id) DO UPDATE SET value = EXCLUDED.value, " +
+                "value_number = EXCLUDED.value_number, value_date = EXCLUDED.value_date, " +
+                "value_tag_ids = EXCLUDED.value_tag_ids, typed_version = EXCLUDED.typed_version, " +
+                "updated_by = EXCLUDED.updated_by, updated_at = EXCLUDED.updated_at " +
+                "RETURNING id, document_id, property_id");
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.query(sql.toString(), ps -> {
+            int p = 1;
+            for (Map.Entry<CellKey, Integer> write : chunk) {
+                CellKey key = write.getKey();
+                String value = cells.get(write.getValue()).getValue();
+                PropertyType type = properties.get(key.propertyId()).type();
+                BigDecimal number = type == PropertyType.NUMBER ? TypedPropertyValues.toNumber(value) : null;
+                LocalDateTime date = type == PropertyType.DATE ? TypedPropertyValues.toDate(value) : null;
+                Long[] tagIds = type == PropertyType.TAG ? TypedPropertyValues.toTagIds(value) : null;
+                ps.setLong(p++, key.documentId());
+                ps.setLong(p++, key.propertyId());
+                ps.setString(p++, value);
+                ps.setObject(p++, number, Types.NUMERIC);
+                ps.setObject(p++, date != null ? Timestamp.valueOf(date) : null, Types.TIMESTAMP);
+                if (tagIds != null) {
+                    ps.setArray(p++, ps.getConnection().createArrayOf("bigint", tagIds));
+                } else {
+                    ps.setNull(p++, Types.ARRAY);
+                }
+                ps.setShort(p++, TypedPropertyValues.VERSION);
+                ps.setString(p++, userEmail);
+                ps.setTimestamp(p++, timestamp);
+                ps.setString(p++, userEmail);
+                ps.setTimestamp(p++, timestamp);
+            }
+        }, rs -> {
+            valueIds.put(new CellKey(rs.getLong(2), rs.getLong(3)), rs.getLong(1));
+        });
+    }
+
+    /**
+     * 단건 저장(touchLastModified)과 같이 더 최신 메타가 없을 때만 갱신한 뒤 현재 메타를 반환
+     */
+    private List<PropertyValueBatchDtos.RowMeta> touchLastModified(Collection<Long> documentIds, String userEmail,
+                                                                   LocalDateTime now) {
+        if (documentIds.isEmpty()) {
+            return List.of();
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.update("UPDATE documents SET last_modified_at = ?, last_modified_by = ? " +
+                        "WHERE id = ANY(?) AND (last_modified_at IS NULL OR last_modified_at < ?)",
+                ps -> {
+                    ps.setTimestamp(1, timestamp);
+                    ps.setString(2, userEmail);
+                    ps.setArray(3, ps.getConnection().createArrayOf("bigint", documentIds.toArray()));
+                    ps.setTimestamp(4, timestamp);
+                });
+        return jdbcTemplate.query("SELECT id, last_modified_at, last_modified_by FROM documents WHERE id = ANY(?) ORDER BY id",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", documentIds.toArray())),
+                (rs, rowNum) -> {
+                    Timestamp modifiedAt = rs.getTimestamp(2);
+                    return PropertyValueBatchDtos.RowMeta.builder()
+                            .documentId(rs.getLong(1))
+                            .updatedAt(modifiedAt != null ? modifiedAt.toLocalDateTime() : null)
+                            .updatedBy(rs.getString(3))
+                            .build();
+                });
+    }
+
+    private Map<Long, DocumentRow> loadDocuments(Collection<Long> ids) {
+        Map<Long, DocumentRow> documents = new HashMap<>();
+        if (ids.isEmpty()) {
+            return documents;
+        }
+        jdbcTemplate.query("SELECT id, parent_id, workspace_id, is_trashed FROM documents WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())),
+                rs -> {
+                    documents.put(rs.getLong(1), new DocumentRow(
+                            rs.getObject(2, Long.class), rs.getObject(3, Long.class), rs.getBoolean(4)));
+                });
+        return documents;
+    }
+
+    private Map<Long, PropertyRow> loadProperties(Collection<Long> ids) {
+        Map<Long, PropertyRow> properties = new HashMap<>();
+        if (ids.isEmpty()) {
+            return properties;
+        }
+        jdbcTemplate.query("SELECT id, document_id, type FROM document_properties WHERE id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())),
+                rs -> {
+                    PropertyType type;
+                    try {
+                        type = PropertyType.valueOf(rs.getString(3));
+                    } catch (IllegalArgumentException | NullPointerException e) {
+                        type = null;
+                    }
+                    properties.put(rs.getLong(1), new PropertyRow(rs.getLong(2), type));
+                });
+        return properties;
+    }
+}
@@ -11,7 +11,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -19,6 +18,7 @@ public class DocumentPropertyValueService {
     private final DocumentPropertyValueRepository valueRepository;
     private final DocumentPropertyRepository propertyRepository;
     private final DocumentRepository documentRepository;
+    private final DocumentTableCacheService documentTableCacheService;
 
     @Transactional
     public DocumentPropertyValue addOrUpdateValue(Long documentId, Long propertyId, String value) {
@@ -38,12 +38,16 @@ public class DocumentPropertyValueService {
         } else {
             propertyValue.setValue(value);
         }
-        return valueRepository.save(propertyValue);
-    }
-
-    @Transactional(readOnly = true)
-    public Optional<DocumentPropertyValue> findLatestValue(Long documentId) {
-        return valueRepository.findTopByDocumentIdOrderByUpdatedAtDesc(documentId);
+        // flush로 감사 필드(updatedAt/By)를 확정한 뒤 문서의 최종 수정 메타에 반영
+        DocumentPropertyValue saved = valueRepository.saveAndFlush(propertyValue);
+        if (saved.getUpdatedAt() != null) {
+            documentRepository.touchLastModified(documentId, saved.getUpdatedAt(), saved.getUpdatedBy());
+        }
+        Document parent = saved.getDocument().getParent();
+        if (parent != null) {
+            documentTableCacheService.valueChanged(parent.getId(), documentId, propertyId, saved.getId(), saved.getValue());
+        }
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,618 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.domain.document.dto.DocumentCursor;
+import com.example.notionclone.domain.document.dto.DocumentListResponse;
+import com.example.notionclone.domain.document.dto.DocumentQueryDtos;
+import com.example.notionclone.domain.document.entity.Document;
+import com.example.notionclone.domain.document.entity.DocumentProperty;
+import com.example.notionclone.domain.document.repository.DocumentPropertyRepository;
+import com.example.notionclone.domain.document.repository.DocumentRepository;
+import com.example.notionclone.domain.permission.entity.PermissionType;
+import com.example.notionclone.domain.permission.service.PermissionService;
+import com.example.notionclone.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * TABLE/GALLERY 뷰 서버 측 조회 엔진
+ *
+ * 부모 문서의 자식 행을 속성 값 기준으로 필터/정렬/그룹화해 요청한 구간(offset, limit)만 반환합니다.
+ * 조건은 SQL로 변환되어 document_property_values에서 평가되며, 정렬/그룹/빈 값 조건은 참조하는 속성마다 (문서, 속성) 값 하나를 LATERAL 조인합니다.
+ *
+ * - NUMBER/DATE/TAG는 타입 컬럼(value_number / value_date / value_tag_ids)으로 비교/정렬 (형식이 맞지 않는 값은 빈 값)
+ * - 타입 컬럼 비교 조건은 (property_id, 타입 값) 인덱스를 타도록 EXISTS 세미 조인으로 변환
+ * - TAG 값(옵션 ID 배열)은 옵션 포함 여부로 필터, 첫 태그의 라벨로 정렬
+ * - 생성자/생성 일시 등 시스템 속성과 제목은 documents 컬럼을 직접 사용
+ * - 가상 스크롤용 구간 조회는 보이는 속성 값만 행 단위로 묶어 반환 (정렬이 없으면 키셋 커서)
+ * - 같은 조건으로 열 집계(개수/합계/평균/최소/최대, 태그 옵션별 개수)도 SQL에서 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentQueryService {
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 500;
+    static final int WINDOW_LIMIT = 100;
+
+    private static final Timer QUERY_TIMER = Timer.builder("document.table.query")
+            .description("테이블 뷰 서버 측 조회 시간")
+            .register(Metrics.globalRegistry);
+    private static final Timer WINDOW_TIMER = Timer.builder("document.table.window")
+            .description("테이블 뷰 행 구간(값 포함) 조회 시간")
+            .register(Metrics.globalRegistry);
+    private static final Timer AGGREGATE_TIMER = Timer.builder("document.table.aggregate")
+            .description("테이블 뷰 열 집계 시간")
+            .register(Metrics.globalRegistry);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DocumentRepository documentRepository;
+    private final DocumentPropertyRepository propertyRepository;
+    private final PermissionService permissionService;
+
+    /**
+     * 비교 방식이 다른 값 종류
+     */
+    enum Kind {
+        TEXT, NUMBER, DATE, TAG
+    }
+
+    /**
+     * 조건/정렬 대상 컬럼의 SQL 식
+     * 타입 컬럼 속성은 expression 없이 propertyId/typedColumn만 가지며, 정렬/그룹/빈 값 조건에서 쓰일 때 LATERAL 조인을 추가
+     */
+    record Column(String expression, Kind kind, Long propertyId, String typedColumn) {
+        Column(String expression, Kind kind) {
+            this(expression, kind, null, null);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public DocumentQueryDtos.QueryResponse queryChildren(Long workspaceId, Long parentId, Long userId,
+                                                          DocumentQueryDtos.QueryRequest request) {
+        checkReadable(workspaceId, parentId, userId);
+
+        return QUERY_TIMER.record(() -> {
+            QueryBuilder query = new QueryBuilder(parentId, propertyRepository.findByDocumentId(parentId));
+            if (request.getFilters() != null && !request.getFilters().isEmpty()) {
+                query.where(request.getFilters(), "or".equalsIgnoreCase(request.getConjunction()));
+            }
+
+            List<String> orderBy = new ArrayList<>();
+            Column groupColumn = null;
+            if (request.getGroupBy() != null) {
+                groupColumn = query.column(request.getGroupBy().getPropertyId(), request.getGroupBy().getField());
+                orderBy.add(query.sortExpression(groupColumn) + " ASC NULLS LAST");
+            }
+            addSorts(orderBy, query, request.getSorts());
+
+            int offset = Math.max(0, request.getOffset() != null ? request.getOffset() : 0);
+            int limit = Math.min(MAX_LIMIT, Math.max(1, request.getLimit() != null ? request.getLimit() : DEFAULT_LIMIT));
+
+            List<Object> windowArgs = query.arguments();
+            windowArgs.add(limit);
+            windowArgs.add(offset);
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT d.id " + query.fromWhere() + " ORDER BY " + String.join(", ", orderBy) + " LIMIT ? OFFSET ?",
+                    Long.class, windowArgs.toArray());
+            Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) " + query.fromWhere(), Long.class, query.arguments().toArray());
+
+            return DocumentQueryDtos.QueryResponse.builder()
+                    .rows(loadRows(ids))
+                    .total(total != null ? total : 0)
+                    .offset(offset)
+                    .limit(limit)
+                    .groups(groupColumn != null ? groups(query, groupColumn) : null)
+                    .build();
+        });
+    }
+
+    /**
+     * 가상 스크롤용 행 구간 조회 (자식 문서 + 보이는 속성 값만, 행 단위로 피벗)
+     * 정렬 조건이 없으면 (sort_order, id) 키셋 커서로 다음 구간을 이어 읽어 깊은 스크롤에서도 OFFSET 건너뛰기가 없고,
+     * 정렬 조건이 있으면 offset으로 구간을 지정합니다. 행 목록과 값은 각각 쿼리 한 번으로 가져옵니다.
+     */
+    @Transactional(readOnly = true)
+    public DocumentQueryDtos.WindowResponse windowChildren(Long workspaceId, Long parentId, Long userId,
+                                                           DocumentQueryDtos.WindowRequest request) {
+        checkReadable(workspaceId, parentId, userId);
+
+        return WINDOW_TIMER.record(() -> {
+            List<DocumentProperty> properties = propertyRepository.findByDocumentId(parentId);
+            QueryBuilder query = new QueryBuilder(parentId, properties);
+            if (request.getFilters() != null && !request.getFilters().isEmpty()) {
+                query.where(request.getFilters(), "or".equalsIgnoreCase(request.getConjunction()));
+            }
+
+            boolean keyset = request.getSorts() == null || request.getSorts().isEmpty();
+            boolean withTotal = request.getIncludeTotal() != null
+                    ? request.getIncludeTotal()
+                    : request.getCursor() == null && (request.getOffset() == null || request.getOffset() == 0);
+            Long total = null;
+            if (withTotal) {
+                total = jdbcTemplate.queryForObject("SELECT COUNT(*) " + query.fromWhere(), Long.class, query.arguments().toArray());
+            }
+
+            int limit = Math.min(MAX_LIMIT, Math.max(1, request.getLimit() != null ? request.getLimit() : WINDOW_LIMIT));
+            int offset = 0;
+            if (keyset) {
+                if (request.getCursor() != null) {
+                    query.after(DocumentCursor.decode(request.getCursor()));
+                }
+            } else {
+                if (request.getCursor() != null) {
+                    throw new IllegalArgumentException("Cursor cannot be combined with sorts; use offset");
+                }
+                offset = Math.max(0, request.getOffset() != null ? request.getOffset() : 0);
+            }
+
+            List<String> orderBy = new ArrayList<>();
+            addSorts(orderBy, query, request.getSorts());
+            List<Object> windowArgs = query.arguments();
+            windowArgs.add(limit);
+            windowArgs.add(offset);
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT d.id " + query.fromWhere() + " ORDER BY " + String.join(", ", orderBy) + " LIMIT ? OFFSET ?",
+                    Long.class, windowArgs.toArray());
+
+            List<DocumentListResponse> documents = loadRows(ids);
+            Map<Long, Map<Long, String>> values = loadValues(ids, visiblePropertyIds(properties, request.getPropertyIds()));
+            List<DocumentQueryDtos.WindowRow> rows = new ArrayList<>(documents.size());
+            for (DocumentListResponse document : documents) {
+                rows.add(DocumentQueryDtos.WindowRow.builder()
+                        .document(document)
+                        .values(values.getOrDefault(document.getId(), Map.of()))
+                        .build());
+            }
+
+            String nextCursor = null;
+            if (keyset && ids.size() == limit && !documents.isEmpty()) {
+                DocumentListResponse last = documents.get(documents.size() - 1);
+                nextCursor = DocumentCursor.of(last.getSortOrder(), last.getId()).encode();
+            }
+            return DocumentQueryDtos.WindowResponse.builder()
+                    .rows(rows)
+                    .total(total)
+                    .offset(offset)
+                    .limit(limit)
+                    .nextCursor(nextCursor)
+                    .build();
+        });
+    }
+
+    /**
+     * 자식 행의 한 열을 SQL로 집계 (필터가 있으면 조건에 맞는 행만)
+     * 클라이언트가 열 전체를 내려받지 않고 표 하단 요약/갤러리 요약을 표시할 수 있도록 합니다.
+     */
+    @Transactional(readOnly = true)
+    public DocumentQueryDtos.AggregateResponse aggregate(Long workspaceId, Long parentId, Long userId,
+                                                         DocumentQueryDtos.AggregateRequest request) {
+        checkReadable(workspaceId, parentId, userId);
+
+        return AGGREGATE_TIMER.record(() -> {
+            QueryBuilder query = new QueryBuilder(parentId, propertyRepository.findByDocumentId(parentId));
+            Column column = query.column(request.getPropertyId(), request.getField());
+            String expr = query.expression(column);
+            if (request.getFilters() != null && !request.getFilters().isEmpty()) {
+                query.where(request.getFilters(), "or".equalsIgnoreCase(request.getConjunction()));
+            }
+
+            String filled = column.kind() == Kind.TEXT ? "COUNT(NULLIF(" + expr + ", ''))" : "COUNT(" + expr + ")";
+            String stats = switch (column.kind()) {
+                case NUMBER -> ", SUM(" + expr + "), AVG(" + expr + "), MIN(" + expr + "), MAX(" + expr + ")";
+                case DATE -> ", MIN(" + expr + "), MAX(" + expr + ")";
+                case TEXT, TAG -> "";
+            };
+            DocumentQueryDtos.AggregateResponse response = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*), " + filled + stats + " " + query.fromWhere(),
+                    (rs, rowNum) -> {
+                        long total = rs.getLong(1);
+                        long filledCount = rs.getLong(2);
+                        DocumentQueryDtos.AggregateResponse.AggregateResponseBuilder builder = DocumentQueryDtos.AggregateResponse.builder()
+                                .propertyId(request.getPropertyId())
+                                .field(request.getPropertyId() == null ? request.getField() : null)
+                                .type(column.kind().name())
+                                .total(total)
+                                .filled(filledCount)
+                                .empty(total - filledCount);
+                        if (column.kind() == Kind.NUMBER) {
+                            builder.sum(rs.getBigDecimal(3)).avg(rs.getBigDecimal(4))
+                                    .min(rs.getBigDecimal(5)).max(rs.getBigDecimal(6));
+                        } else if (column.kind() == Kind.DATE) {
+                            Timestamp earliest = rs.getTimestamp(3);
+                            Timestamp latest = rs.getTimestamp(4);
+                            builder.earliest(earliest != null ? earliest.toLocalDateTime() : null)
+                                    .latest(latest != null ? latest.toLocalDateTime() : null);
+                        }
+                        return builder.build();
+                    },
+                    query.arguments().toArray());
+            if (response != null && column.kind() == Kind.TAG) {
+                response.setDistribution(groups(query, column));
+            }
+            return response;
+        });
+    }
+
+    private void checkReadable(Long workspaceId, Long parentId, Long userId) {
+        Document parent = documentRepository.findById(parentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Document not found with id: " + parentId));
+        if (parent.getWorkspace() == null || !workspaceId.equals(parent.getWorkspace().getId())) {
+            throw new ResourceNotFoundException("Document not found in workspace: " + parentId);
+        }
+        permissionService.checkPermission(workspaceId, parentId, userId, PermissionType.READ);
+    }
+
+    private List<DocumentQueryDtos.Group> groups(QueryBuilder query, Column column) {
+        String sql;
+        if (column.kind() == Kind.TAG) {
+            sql = "SELECT e.key, COUNT(*) " +
+                    query.fromWhere(" LEFT JOIN LATERAL unnest(" + query.expression(column) + ") AS e(key) ON true") +
+                    " GROUP BY e.key ORDER BY e.key NULLS LAST";
+        } else {
+            String key = groupKey(column.kind(), query.expression(column));
+            sql = "SELECT " + key + " AS key, COUNT(*) " + query.fromWhere() + " GROUP BY 1 ORDER BY 1 NULLS LAST";
+        }
+        return jdbcTemplate.query(sql, (rs, rowNum) -> DocumentQueryDtos.Group.builder()
+                .key(rs.getString(1))
+                .count(rs.getLong(2))
+                .build(), query.arguments().toArray());
+    }
+
+    /**
+     * 사용자 정렬 뒤에 기본 순서(sort_order, id)를 붙여 항상 결정적인 순서가 되도록 함
+     */
+    private static void addSorts(List<String> orderBy, QueryBuilder query, List<DocumentQueryDtos.Sort> sorts) {
+        if (sorts != null) {
+            for (DocumentQueryDtos.Sort sort : sorts) {
+                String direction = "desc".equalsIgnoreCase(sort.getDirection()) ? "DESC" : "ASC";
+                orderBy.add(query.sortExpression(query.column(sort.getPropertyId(), sort.getField())) + " " + direction + " NULLS LAST");
+            }
+        }
+        orderBy.add("COALESCE(d.sort_order, 0)");
+        orderBy.add("d.id");
+    }
+
+    /**
+     * 요청한 속성 중 이 데이터베이스의 속성만 (요청이 없으면 전체 속성)
+     */
+    private static List<Long> visiblePropertyIds(List<DocumentProperty> properties, List<Long> requested) {
+        List<Long> ids = new ArrayList<>();
+        for (DocumentProperty property : properties) {
+            if (requested == null || requested.contains(property.getId())) {
+                ids.add(property.getId());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 구간 행들의 속성 값을 문서 ID → (속성 ID → 값)으로 피벗 (같은 셀에 값이 여럿이면 ID가 큰 값)
+     */
+    private Map<Long, Map<Long, String>> loadValues(List<Long> documentIds, List<Long> propertyIds) {
+        Map<Long, Map<Long, String>> values = new HashMap<>();
+        if (documentIds.isEmpty() || propertyIds.isEmpty()) {
+            return values;
+        }
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(
+                    "SELECT document_id, property_id, value FROM document_property_values " +
+                    "WHERE document_id = ANY(?) AND property_id = ANY(?) ORDER BY id");
+            ps.setArray(1, con.createArrayOf("bigint", documentIds.toArray()));
+            ps.setArray(2, con.createArrayOf("bigint", propertyIds.toArray()));
+            return ps;
+        }, rs -> {
+            values.computeIfAbsent(rs.getLong(1), id -> new HashMap<>()).put(rs.getLong(2), rs.getString(3));
+        });
+        return values;
+    }
+
+    private List<DocumentListResponse> loadRows(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Document> byId = documentRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Document::getId, Function.identity()));
+        List<DocumentListResponse> rows = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Document document = byId.get(id);
+            if (document != null) {
+                rows.add(DocumentListResponse.fromDocument(document, document.hasLiveChildren(), false));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 조회 SQL 조립 (속성 값 조인/조건과 바인딩 인자를 순서대로 보관)
+     */
+    static final class QueryBuilder {
+        private final Long parentId;
+        private final Map<Long, DocumentProperty> properties = new HashMap<>();
+        private final Map<Long, String> joinAliases = new LinkedHashMap<>();
+        private final List<Object> joinArgs = new ArrayList<>();
+        private final List<Object> whereArgs = new ArrayList<>();
+        private String condition = "";
+
+        QueryBuilder(Long parentId, List<DocumentProperty> properties) {
+            this.parentId = parentId;
+            properties.forEach(property -> this.properties.put(property.getId(), property));
+        }
+
+        /**
+         * FROM ~ WHERE 절 (조인 인자 → 부모 ID → 조건 인자 순으로 바인딩)
+         */
+        String fromWhere() {
+            return fromWhere("");
+        }
+
+        String fromWhere(String extraJoin) {
+            StringBuilder sql = new StringBuilder("FROM documents d");
+            joinAliases.forEach((propertyId, alias) -> sql
+                    .append(" LEFT JOIN LATERAL (SELECT pv.value, pv.value_number, pv.value_date, pv.value_tag_ids FROM document_property_values pv")
+                    .append(" WHERE pv.document_id = d.id AND pv.property_id = ? ORDER BY pv.id DESC LIMIT 1) ")
+                    .append(alias).append(" ON true"));
+            sql.append(extraJoin).append(" WHERE d.parent_id = ? AND d.is_trashed = false").append(condition);
+            return sql.toString();
+        }
+
+        List<Object> arguments() {
+            List<Object> args = new ArrayList<>(joinArgs);
+            args.add(parentId);
+            args.addAll(whereArgs);
+            return args;
+        }
+
+        /**
+         * 키셋 커서 이후 행만 (기본 순서 (sort_order, id) 기준, idx_documents_parent_order 사용)
+         */
+        void after(DocumentCursor cursor) {
+            condition += " AND (COALESCE(d.sort_order, 0), d.id) > (?, ?)";
+            whereArgs.add(cursor.getSortOrder());
+            whereArgs.add(cursor.getId());
+        }
+
+        void where(List<DocumentQueryDtos.Filter> filters, boolean any) {
+            List<String> predicates = new ArrayList<>();
+            for (DocumentQueryDtos.Filter filter : filters) {
+                predicates.add(predicate(column(filter.getPropertyId(), filter.getField()), filter));
+            }
+            condition = " AND (" + String.join(any ? " OR " : " AND ", predicates) + ")";
+        }
+
+        Column column(Long propertyId, String field) {
+            if (propertyId == null) {
+                return fieldColumn(field);
+            }
+            DocumentProperty property = properties.get(propertyId);
+            if (property == null) {
+                throw new IllegalArgumentException("Property does not belong to this database: " + propertyId);
+            }
+            return switch (property.getType()) {
+                case CREATED_BY -> fieldColumn("createdBy");
+                case LAST_UPDATED_BY -> fieldColumn("updatedBy");
+                case CREATED_AT -> fieldColumn("createdAt");
+                case LAST_UPDATED_AT -> fieldColumn("updatedAt");
+                case NUMBER -> typedColumn(propertyId, "value_number", Kind.NUMBER);
+                case DATE -> typedColumn(propertyId, "value_date", Kind.DATE);
+                case TAG -> typedColumn(propertyId, "value_tag_ids", Kind.TAG);
+                case TEXT -> new Column(valueOf(propertyId, "value"), Kind.TEXT);
+            };
+        }
+
+        String sortExpression(Column column) {
+            return switch (column.kind()) {
+                case TEXT -> "lower(NULLIF(" + expression(column) + ", ''))";
+                case TAG -> "(SELECT lower(o.label) FROM document_property_tag_option o WHERE o.id = " + expression(column) + "[1])";
+                case NUMBER, DATE -> expression(column);
+            };
+        }
+
+        private static Column typedColumn(Long propertyId, String typedColumn, Kind kind) {
+            return new Column(null, kind, propertyId, typedColumn);
+        }
+
+        String expression(Column column) {
+            return column.expression() != null ? column.expression() : valueOf(column.propertyId(), column.typedColumn());
+        }
+
+        /**
+         * LATERAL 조인한 (문서, 속성) 최신 값의 컬럼 (속성별 조인은 한 번만 추가)
+         */
+        private String valueOf(Long propertyId, String column) {
+            return joinAliases.computeIfAbsent(propertyId, id -> {
+                joinArgs.add(id);
+                return "v" + joinAliases.size();
+            }) + "." + column;
+        }
+
+        private String predicate(Column column, DocumentQueryDtos.Filter filter) {
+            String operator = filter.getOperator() != null ? filter.getOperator().toLowerCase(Locale.ROOT) : "";
+            if (column.typedColumn() != null && !operator.startsWith("is_")) {
+                return typedPredicate(column, operator, filter.getValue());
+            }
+            String expr = expression(column);
+            if ("is_empty".equals(operator)) {
+                return switch (column.kind()) {
+                    case TEXT -> "(" + expr + " IS NULL OR " + expr + " = '')";
+                    case NUMBER, DATE, TAG -> expr + " IS NULL";
+                };
+            }
+            if ("is_not_empty".equals(operator)) {
+                return switch (column.kind()) {
+                    case TEXT -> "(" + expr + " IS NOT NULL AND " + expr + " <> '')";
+                    case NUMBER, DATE, TAG -> expr + " IS NOT NULL";
+                };
+            }
+            String value = filter.getValue();
+            if (value == null) {
+                throw new IllegalArgumentException("Filter value is required for operator: " + filter.getOperator());
+            }
+            return switch (column.kind()) {
+                case TEXT -> textPredicate(expr, operator, value);
+                case NUMBER -> comparison(expr, operator, parseNumber(value));
+                case DATE -> datePredicate(expr, operator, value);
+                case TAG -> throw unsupported(operator, Kind.TAG);
+            };
+        }
+
+        /**
+         * 타입 컬럼 속성 조건을 (property_id, 타입 값) 인덱스로 찾는 세미 조인으로 변환
+         * 부정 조건(not_equals/not_contains)은 값이 없는 행도 포함하도록 NOT EXISTS로 표현
+         */
+        private String typedPredicate(Column column, String operator, String value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Filter value is required for operator: " + operator);
+            }
+            boolean negated = "not_equals".equals(operator) || "not_contains".equals(operator);
+            whereArgs.add(column.propertyId());
+            String expr = "f." + column.typedColumn();
+            String condition = switch (column.kind()) {
+                case NUMBER -> comparison(expr, negated ? "equals" : operator, parseNumber(value));
+                case DATE -> datePredicate(expr, negated ? "equals" : operator, value);
+                case TAG -> tagPredicate(expr, operator, value);
+                case TEXT -> throw unsupported(operator, Kind.TEXT);
+            };
+            return (negated ? "NOT " : "") + "EXISTS (SELECT 1 FROM document_property_values f " +
+                    "WHERE f.document_id = d.id AND f.property_id = ? AND " + condition + ")";
+        }
+
+        private String textPredicate(String expr, String operator, String value) {
+            switch (operator) {
+                case "contains", "not_contains", "starts_with" -> {
+                    String pattern = escapeLike(value);
+                    whereArgs.add("starts_with".equals(operator) ? pattern + "%" : "%" + pattern + "%");
+                    return "not_contains".equals(operator)
+                            ? "(" + expr + " IS NULL OR " + expr + " NOT ILIKE ? ESCAPE '\\')"
+                            : expr + " ILIKE ? ESCAPE '\\'";
+                }
+                case "equals" -> {
+                    whereArgs.add(value);
+                    return expr + " = ?";
+                }
+                case "not_equals" -> {
+                    whereArgs.add(value);
+                    return expr + " IS DISTINCT FROM ?";
+                }
+                default -> throw unsupported(operator, Kind.TEXT);
+            }
+        }
+
+        private String datePredicate(String expr, String operator, String value) {
+            try {
+                if (value.length() > 10) {
+                    return comparison(expr, operator, Timestamp.valueOf(LocalDateTime.parse(value.replace(' ', 'T'))));
+                }
+                // 시각이 없는 값은 날짜 단위로 비교하되, 컬럼을 변환하지 않고 [그날 0시, 다음날 0시) 범위로 풀어 인덱스를 사용
+                LocalDateTime day = LocalDate.parse(value).atStartOfDay();
+                Timestamp start = Timestamp.valueOf(day);
+                Timestamp next = Timestamp.valueOf(day.plusDays(1));
+                return switch (operator) {
+                    case "equals" -> {
+                        whereArgs.add(start);
+                        whereArgs.add(next);
+                        yield "(" + expr + " >= ? AND " + expr + " < ?)";
+                    }
+                    case "not_equals" -> {
+                        whereArgs.add(start);
+                        whereArgs.add(next);
+                        yield "NOT COALESCE(" + expr + " >= ? AND " + expr + " < ?, false)";
+                    }
+                    case "gt" -> comparison(expr, "gte", next);
+                    case "gte" -> comparison(expr, "gte", start);
+                    case "lt" -> comparison(expr, "lt", start);
+                    case "lte" -> comparison(expr, "lt", next);
+                    default -> throw unsupported(operator, Kind.DATE);
+                };
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid date filter value: " + value);
+            }
+        }
+
+        /**
+         * 옵션 포함 조건 (GIN 인덱스를 쓰는 배열 포함 연산자, 부정은 호출 측에서 NOT EXISTS로 처리)
+         */
+        private String tagPredicate(String expr, String operator, String value) {
+            if (!List.of("contains", "equals", "not_contains", "not_equals").contains(operator)) {
+                throw unsupported(operator, Kind.TAG);
+            }
+            try {
+                whereArgs.add(Long.parseLong(value.trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid tag option id: " + value);
+            }
+            return expr + " @> ARRAY[CAST(? AS bigint)]";
+        }
+
+        private String comparison(String expr, String operator, Object value) {
+            String sql = switch (operator) {
+                case "equals" -> expr + " = ?";
+                case "not_equals" -> expr + " IS DISTINCT FROM ?";
+                case "gt" -> expr + " > ?";
+                case "gte" -> expr + " >= ?";
+                case "lt" -> expr + " < ?";
+                case "lte" -> expr + " <= ?";
+                default -> throw new IllegalArgumentException("Unsupported filter operator: " + operator);
+            };
+            whereArgs.add(value);
+            return sql;
+        }
+
+        private static Column fieldColumn(String field) {
+            if (field == null) {
+                throw new IllegalArgumentException("propertyId or field is required");
+            }
+            return switch (field) {
+                case "title" -> new Column("d.title", Kind.TEXT);
+                case "createdBy" -> new Column("d.created_by", Kind.TEXT);
+                case "updatedBy" -> new Column("d.last_modified_by", Kind.TEXT);
+                case "createdAt" -> new Column("d.created_at", Kind.DATE);
+                case "updatedAt" -> new Column("d.last_modified_at", Kind.DATE);
+                default -> throw new IllegalArgumentException("Unsupported field: " + field);
+            };
+        }
+
+        private static BigDecimal parseNumber(String value) {
+            try {
+                return new BigDecimal(value.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid number filter value: " + value);
+            }
+        }
+
+        private static IllegalArgumentException unsupported(String operator, Kind kind) {
+            return new IllegalArgumentException("Unsupported filter operator for " + kind + ": " + operator);
+        }
+
+        private static String escapeLike(String value) {
+            return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        }
+    }
+
+    private static String groupKey(Kind kind, String expression) {
+        return switch (kind) {
+            case DATE -> "CAST(CAST(" + expression + " AS date) AS text)";
+            case NUMBER -> "CAST(" + expression + " AS text)";
+            case TEXT -> "NULLIF(" + expression + ", '')";
+            case TAG -> throw new IllegalStateException("TAG groups are keyed by option id");
+        };
+    }
+}
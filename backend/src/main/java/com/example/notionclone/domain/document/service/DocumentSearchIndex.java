@@ -0,0 +1,363 @@
+package com.example.notionclone.domain.document.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 워크스페이스 단위 메모리 역색인
+ *
+ * 색인어 → (문서 ID 오름차순 배열, 가중치 배열) 포스팅을 정렬된 사전(TreeMap)에 보관하여
+ * 정확 일치와 접두사 일치(subMap)를 모두 처리합니다.
+ * 문서별 색인어 목록을 함께 보관해 문서 단위로 갱신/삭제할 수 있습니다.
+ * 점수는 BM25 형태의 tf 포화 × idf 합이며, 제목 등장은 TITLE_WEIGHT배로 가중합니다.
+ */
+class DocumentSearchIndex {
+    static final int TITLE_WEIGHT = 4;
+    private static final double K1 = 1.2;
+    private static final double PREFIX_PENALTY = 0.8;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final Comparator<Candidate> RANKING = Comparator
+            .comparingDouble(Candidate::score).reversed()
+            .thenComparing(c -> c.entry().id(), Comparator.reverseOrder());
+
+    private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+    private final Map<Long, Entry> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    /**
+     * 색인된 문서 (검색 결과 표시에 필요한 최소 필드)
+     */
+    record Entry(long id, String title, Long parentId, String viewType, String[] terms) {
+    }
+
+    record Candidate(Entry entry, double score) {
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    ReentrantReadWriteLock.WriteLock writeLock() {
+        return lock.writeLock();
+    }
+
+    /**
+     * 전체 재구축 완료 표시 (writeLock 보유 상태에서 호출)
+     */
+    void markReady() {
+        ready = true;
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            ready = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 색인 (이미 있으면 교체)
+     */
+    void put(long id, String title, Long parentId, String viewType, String text) {
+        Map<String, Integer> weights = new HashMap<>();
+        for (String term : DocumentSearchTokenizer.tokenize(title)) {
+            weights.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : DocumentSearchTokenizer.tokenize(text)) {
+            weights.merge(term, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            String[] terms = new String[weights.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> e : weights.entrySet()) {
+                PostingList list = postings.get(e.getKey());
+                if (list == null) {
+                    list = new PostingList();
+                    postings.put(e.getKey(), list);
+                    terms[i++] = e.getKey();
+                } else {
+                    // 사전 키 인스턴스를 공유하여 문서별 색인어 목록의 메모리 중복을 줄임
+                    terms[i++] = postings.ceilingKey(e.getKey());
+                }
+                list.put(id, e.getValue());
+            }
+            documents.put(id, new Entry(id, title, parentId, viewType, terms));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id) {
+        Entry old = documents.remove(id);
+        if (old == null) {
+            return;
+        }
+        for (String term : old.terms()) {
+            PostingList list = postings.get(term);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * 모든 질의 색인어를 포함하는 문서를 점수 내림차순으로 최대 limit건 반환 (동점이면 최신 ID 우선)
+     */
+    List<Candidate> search(List<DocumentSearchTokenizer.QueryTerm> queryTerms, int limit) {
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            int total = documents.size();
+            List<Expansion> expansions = new ArrayList<>();
+            for (DocumentSearchTokenizer.QueryTerm queryTerm : queryTerms) {
+                Expansion expansion = expand(queryTerm);
+                if (expansion.matches().isEmpty()) {
+                    return List.of();
+                }
+                expansions.add(expansion);
+            }
+            // 포스팅이 짧은 색인어부터 교집합을 좁혀 나감
+            expansions.sort(Comparator.comparingLong(Expansion::postingCount));
+
+            Scored scores = null;
+            for (Expansion expansion : expansions) {
+                Scored termScores = null;
+                for (Map.Entry<String, PostingList> match : expansion.matches()) {
+                    PostingList list = match.getValue();
+                    double idf = Math.log(1 + (total - list.size + 0.5) / (list.size + 0.5));
+                    double factor = match.getKey().equals(expansion.term()) ? 1.0 : PREFIX_PENALTY;
+                    Scored matched = Scored.of(list, idf * factor, scores);
+                    termScores = termScores == null ? matched : termScores.unionMax(matched);
+                }
+                scores = scores == null ? termScores : termScores.plus(scores);
+                if (scores.size == 0) {
+                    return List.of();
+                }
+            }
+
+            PriorityQueue<Candidate> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+            for (int i = 0; i < scores.size; i++) {
+                if (top.size() >= limit && scores.scores[i] < top.peek().score()) {
+                    continue;
+                }
+                Entry entry = documents.get(scores.ids[i]);
+                if (entry == null) {
+                    continue;
+                }
+                top.offer(new Candidate(entry, scores.scores[i]));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<Candidate> result = new ArrayList<>(top);
+            result.sort(RANKING);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 질의 색인어 하나에 일치하는 사전 항목 (접두사면 최대 MAX_PREFIX_EXPANSIONS개)
+     */
+    private record Expansion(String term, List<Map.Entry<String, PostingList>> matches) {
+        long postingCount() {
+            long count = 0;
+            for (Map.Entry<String, PostingList> e : matches) {
+                count += e.getValue().size;
+            }
+            return count;
+        }
+    }
+
+    private Expansion expand(DocumentSearchTokenizer.QueryTerm queryTerm) {
+        String term = queryTerm.term();
+        if (!queryTerm.prefix()) {
+            PostingList list = postings.get(term);
+            return new Expansion(term, list == null ? List.of() : List.of(Map.entry(term, list)));
+        }
+        List<Map.Entry<String, PostingList>> matches = new ArrayList<>();
+        for (Map.Entry<String, PostingList> e : postings.subMap(term, true, term + Character.MAX_VALUE, true).entrySet()) {
+            matches.add(e);
+            if (matches.size() >= MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+        }
+        return new Expansion(term, matches);
+    }
+
+    /**
+     * 문서 ID 오름차순으로 정렬된 (문서, 점수) 배열 - 교집합/합집합을 병합 방식으로 계산
+     */
+    private static final class Scored {
+        final long[] ids;
+        final double[] scores;
+        final int size;
+
+        private Scored(long[] ids, double[] scores, int size) {
+            this.ids = ids;
+            this.scores = scores;
+            this.size = size;
+        }
+
+        /**
+         * 포스팅의 tf 포화 점수 (filter가 있으면 filter에 포함된 문서만)
+         */
+        static Scored of(PostingList list, double weight, Scored filter) {
+            int capacity = filter == null ? list.size : Math.min(list.size, filter.size);
+            long[] ids = new long[capacity];
+            double[] scores = new double[capacity];
+            int n = 0;
+            if (filter == null) {
+                for (int i = 0; i < list.size; i++) {
+                    ids[n] = list.ids[i];
+                    scores[n++] = weight * saturate(list.weights[i]);
+                }
+            } else if ((long) filter.size * 16 < list.size) {
+                // 후보가 훨씬 적으면 포스팅을 이진 탐색
+                for (int j = 0; j < filter.size; j++) {
+                    int pos = Arrays.binarySearch(list.ids, 0, list.size, filter.ids[j]);
+                    if (pos >= 0) {
+                        ids[n] = filter.ids[j];
+                        scores[n++] = weight * saturate(list.weights[pos]);
+                    }
+                }
+            } else {
+                int i = 0;
+                int j = 0;
+                while (i < list.size && j < filter.size) {
+                    long a = list.ids[i];
+                    long b = filter.ids[j];
+                    if (a < b) {
+                        i++;
+                    } else if (a > b) {
+                        j++;
+                    } else {
+                        ids[n] = a;
+                        scores[n++] = weight * saturate(list.weights[i]);
+                        i++;
+                        j++;
+                    }
+                }
+            }
+            return new Scored(ids, scores, n);
+        }
+
+        /**
+         * 합집합 (같은 문서는 큰 점수 사용 - 접두사 확장 간 중복 가산 방지)
+         */
+        Scored unionMax(Scored other) {
+            long[] ids = new long[size + other.size];
+            double[] scores = new double[size + other.size];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < size || j < other.size) {
+                if (j >= other.size || (i < size && this.ids[i] < other.ids[j])) {
+                    ids[n] = this.ids[i];
+                    scores[n++] = this.scores[i++];
+                } else if (i >= size || this.ids[i] > other.ids[j]) {
+                    ids[n] = other.ids[j];
+                    scores[n++] = other.scores[j++];
+                } else {
+                    ids[n] = this.ids[i];
+                    scores[n++] = Math.max(this.scores[i++], other.scores[j++]);
+                }
+            }
+            return new Scored(ids, scores, n);
+        }
+
+        /**
+         * 이전 색인어 점수 합산 (this는 previous의 부분집합)
+         */
+        Scored plus(Scored previous) {
+            int j = 0;
+            for (int i = 0; i < size; i++) {
+                while (previous.ids[j] < ids[i]) {
+                    j++;
+                }
+                scores[i] += previous.scores[j];
+            }
+            return this;
+        }
+
+        private static double saturate(int tf) {
+            return (tf * (K1 + 1)) / (tf + K1);
+        }
+    }
+
+    /**
+     * 문서 ID 오름차순 정렬 배열 기반 포스팅 (박싱 없는 기본형 배열)
+     */
+    static final class PostingList {
+        long[] ids = new long[4];
+        int[] weights = new int[4];
+        int size;
+
+        void put(long id, int weight) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) {
+                weights[pos] = weight;
+                return;
+            }
+            pos = -pos - 1;
+            if (size == ids.length) {
+                int capacity = size + (size >> 1) + 1;
+                ids = Arrays.copyOf(ids, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+            System.arraycopy(weights, pos, weights, pos + 1, size - pos);
+            ids[pos] = id;
+            weights[pos] = weight;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            System.arraycopy(weights, pos + 1, weights, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+    }
+}
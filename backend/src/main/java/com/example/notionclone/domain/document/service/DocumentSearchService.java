@@ -0,0 +1,311 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.domain.document.dto.DocumentSearchHit;
+import com.example.notionclone.domain.document.entity.CompressedTextConverter;
+import com.example.notionclone.domain.document.repository.DocumentRepository;
+import com.example.notionclone.domain.permission.entity.PermissionStatus;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 워크스페이스 단위 전문 검색 서비스 (JVM 내장 역색인, 외부 검색 엔진 없음)
+ *
+ * - 색인은 워크스페이스의 첫 검색 시 DB에서 청크 단위로 구축하며, rebuild로 언제든 다시 만들 수 있습니다.
+ * - 문서 생성/수정/휴지통/복원/삭제는 커밋 이후 변경 목록에 쌓이고, 주기적으로 DB의 최신 값을 읽어 증분 반영합니다.
+ *   (자동 저장처럼 잦은 변경은 한 번의 재색인으로 합쳐짐)
+ * - 같은 변경 알림을 자동완성 제목 색인(DocumentAutocompleteService)에도 전달합니다.
+ * - 색인은 후보 순위만 계산하고, 최종 결과는 목록 API와 같은 조건(소유/ACCEPTED 권한, 휴지통 제외)으로 DB에서 다시 거릅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentSearchService {
+    private static final int LOAD_CHUNK_SIZE = 2000;
+    private static final int MAX_CANDIDATES = 1000;
+    private static final int PERMISSION_BATCH_SIZE = 200;
+    private static final int MAX_LIMIT = 100;
+
+    private static final String DOCUMENT_SELECT =
+            "SELECT d.id, d.workspace_id, d.title, d.parent_id, d.view_type, d.is_trashed, c.body " +
+            "FROM documents d LEFT JOIN document_contents c ON c.document_id = d.id ";
+
+    private static final Timer SEARCH_TIMER = Timer.builder("document.search.query")
+            .description("전문 검색 질의 시간 (권한 필터 포함)")
+            .publishPercentiles(0.5, 0.99)
+            .register(Metrics.globalRegistry);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DocumentRepository documentRepository;
+    private final DocumentAutocompleteService documentAutocompleteService;
+    private final CompressedTextConverter textCodec = new CompressedTextConverter();
+    private final Map<Long, DocumentSearchIndex> indexes = new ConcurrentHashMap<>();
+    private final Set<Long> pendingDocumentIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${search.index.max-content-chars:20000}")
+    private int maxContentChars;
+
+    /**
+     * 사용자에게 보이는 문서 중 질의와 일치하는 문서를 점수순으로 조회
+     */
+    public List<DocumentSearchHit> search(Long workspaceId, Long userId, String query, int limit) {
+        List<DocumentSearchTokenizer.QueryTerm> terms = distinct(DocumentSearchTokenizer.tokenizeQuery(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return SEARCH_TIMER.record(() -> {
+            List<DocumentSearchIndex.Candidate> candidates = indexFor(workspaceId).search(terms, MAX_CANDIDATES);
+            List<DocumentSearchHit> hits = new ArrayList<>(size);
+            for (int from = 0; from < candidates.size() && hits.size() < size; from += PERMISSION_BATCH_SIZE) {
+                List<DocumentSearchIndex.Candidate> batch =
+                        candidates.subList(from, Math.min(from + PERMISSION_BATCH_SIZE, candidates.size()));
+                Set<Long> visible = new HashSet<>(documentRepository.findVisibleDocumentIdsIn(workspaceId, userId,
+                        PermissionStatus.ACCEPTED, batch.stream().map(c -> c.entry().id()).toList()));
+                for (DocumentSearchIndex.Candidate candidate : batch) {
+                    if (hits.size() >= size) {
+                        break;
+                    }
+                    if (visible.contains(candidate.entry().id())) {
+                        hits.add(toHit(candidate));
+                    }
+                }
+            }
+            return hits;
+        });
+    }
+
+    /**
+     * 문서 변경을 색인 반영 대상으로 등록 (트랜잭션 중이면 커밋 이후에 등록)
+     */
+    public void markChanged(Long documentId) {
+        if (documentId != null) {
+            markChanged(List.of(documentId));
+        }
+    }
+
+    public void markChanged(Collection<Long> documentIds) {
+        if (documentIds == null || documentIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(documentIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(ids);
+                }
+            });
+        } else {
+            enqueue(ids);
+        }
+    }
+
+    private void enqueue(List<Long> ids) {
+        if (!indexes.isEmpty()) {
+            pendingDocumentIds.addAll(ids);
+        }
+        documentAutocompleteService.markChanged(ids);
+    }
+
+    /**
+     * 워크스페이스 색인 폐기 (다음 검색 시 재구축)
+     */
+    public void invalidateWorkspace(Long workspaceId) {
+        DocumentSearchIndex index = indexes.remove(workspaceId);
+        if (index != null) {
+            index.clear();
+        }
+        documentAutocompleteService.invalidateWorkspace(workspaceId);
+    }
+
+    public void invalidateAll() {
+        indexes.keySet().forEach(this::invalidateWorkspace);
+        documentAutocompleteService.invalidateAll();
+    }
+
+    /**
+     * 워크스페이스 색인을 DB에서 다시 구축
+     *
+     * @return 색인된 문서 수
+     */
+    public int rebuild(Long workspaceId) {
+        DocumentSearchIndex index = indexes.computeIfAbsent(workspaceId, id -> new DocumentSearchIndex());
+        index.writeLock().lock();
+        try {
+            index.clear();
+            long start = System.currentTimeMillis();
+            long lastId = 0;
+            while (true) {
+                long afterId = lastId;
+                List<Row> rows = loadRows("WHERE d.workspace_id = ? AND d.is_trashed = false AND d.id > ? ORDER BY d.id LIMIT ?",
+                        ps -> {
+                            ps.setLong(1, workspaceId);
+                            ps.setLong(2, afterId);
+                            ps.setInt(3, LOAD_CHUNK_SIZE);
+                        });
+                if (rows.isEmpty()) {
+                    break;
+                }
+                for (Row row : rows) {
+                    index.put(row.id(), row.title(), row.parentId(), row.viewType(), row.text());
+                }
+                lastId = rows.get(rows.size() - 1).id();
+            }
+            index.markReady();
+            log.info("검색 색인 구축: workspaceId={}, {}건 ({}ms)", workspaceId, index.size(), System.currentTimeMillis() - start);
+            return index.size();
+        } finally {
+            index.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 커밋된 변경을 모아 색인에 반영 (같은 문서의 연속 변경은 한 번만 재색인)
+     */
+    @Scheduled(fixedDelayString = "${search.index.flush-interval-ms:2000}")
+    public void flushChanges() {
+        if (pendingDocumentIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(pendingDocumentIds);
+        pendingDocumentIds.removeAll(ids);
+        try {
+            for (int from = 0; from < ids.size(); from += LOAD_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + LOAD_CHUNK_SIZE, ids.size()));
+                applyChanges(chunk);
+            }
+        } catch (RuntimeException e) {
+            // 반영 실패 시 다음 주기에 다시 시도
+            pendingDocumentIds.addAll(ids);
+            log.warn("검색 색인 반영 실패 ({}건): {}", ids.size(), e.getMessage());
+        }
+    }
+
+    private void applyChanges(List<Long> ids) {
+        Map<Long, Row> rows = new HashMap<>();
+        for (Row row : loadRows("WHERE d.id = ANY(?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())))) {
+            rows.put(row.id(), row);
+        }
+        for (Long id : ids) {
+            Row row = rows.get(id);
+            for (Map.Entry<Long, DocumentSearchIndex> e : indexes.entrySet()) {
+                boolean live = row != null && !row.trashed() && e.getKey().equals(row.workspaceId());
+                if (live) {
+                    e.getValue().put(row.id(), row.title(), row.parentId(), row.viewType(), row.text());
+                } else {
+                    e.getValue().remove(id);
+                }
+            }
+        }
+    }
+
+    private DocumentSearchIndex indexFor(Long workspaceId) {
+        DocumentSearchIndex index = indexes.computeIfAbsent(workspaceId, id -> new DocumentSearchIndex());
+        if (!index.isReady()) {
+            synchronized (index) {
+                if (!index.isReady()) {
+                    rebuild(workspaceId);
+                }
+            }
+        }
+        return index;
+    }
+
+    private record Row(long id, Long workspaceId, String title, Long parentId, String viewType,
+                       boolean trashed, String text) {
+    }
+
+    /**
+     * 문서 행과 본문(단일 본문 또는 블록)을 읽어 색인용 텍스트로 변환
+     */
+    private List<Row> loadRows(String condition, PreparedStatementSetter parameters) {
+        List<Object[]> raw = jdbcTemplate.query(DOCUMENT_SELECT + condition, parameters, (rs, rowNum) -> new Object[]{
+                rs.getLong("id"),
+                rs.getObject("workspace_id", Long.class),
+                rs.getString("title"),
+                rs.getObject("parent_id", Long.class),
+                rs.getString("view_type"),
+                rs.getBoolean("is_trashed"),
+                textCodec.convertToEntityAttribute(rs.getBytes("body"))
+        });
+
+        List<Long> withoutBody = raw.stream().filter(r -> r[6] == null).map(r -> (Long) r[0]).toList();
+        Map<Long, StringBuilder> blockBodies = new HashMap<>();
+        if (!withoutBody.isEmpty()) {
+            jdbcTemplate.query(
+                    "SELECT document_id, content FROM document_blocks WHERE document_id = ANY(?) ORDER BY document_id, sort_order, id",
+                    ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", withoutBody.toArray())),
+                    rs -> {
+                        StringBuilder body = blockBodies.computeIfAbsent(rs.getLong(1), id -> new StringBuilder());
+                        if (body.length() < maxHtmlChars()) {
+                            String block = textCodec.convertToEntityAttribute(rs.getBytes(2));
+                            if (block != null) {
+                                body.append(block);
+                            }
+                        }
+                    });
+        }
+
+        List<Row> rows = new ArrayList<>(raw.size());
+        for (Object[] r : raw) {
+            long id = (Long) r[0];
+            String html = r[6] != null ? (String) r[6] : (blockBodies.containsKey(id) ? blockBodies.get(id).toString() : null);
+            rows.add(new Row(id, (Long) r[1], (String) r[2], (Long) r[3], (String) r[4], (Boolean) r[5], toText(html)));
+        }
+        return rows;
+    }
+
+    /**
+     * 색인 메모리를 제한하기 위해 본문 앞부분(maxContentChars)만 색인
+     */
+    private String toText(String html) {
+        if (html == null || html.isEmpty()) {
+            return "";
+        }
+        String text = DocumentSearchTokenizer.stripHtml(html.length() > maxHtmlChars() ? html.substring(0, maxHtmlChars()) : html);
+        return text.length() > maxContentChars ? text.substring(0, maxContentChars) : text;
+    }
+
+    private int maxHtmlChars() {
+        // 태그를 포함한 원문 기준 상한 (태그 제거 후 maxContentChars를 채울 수 있는 여유)
+        return maxContentChars * 4;
+    }
+
+    private static List<DocumentSearchTokenizer.QueryTerm> distinct(List<DocumentSearchTokenizer.QueryTerm> terms) {
+        Map<String, DocumentSearchTokenizer.QueryTerm> unique = new LinkedHashMap<>();
+        for (DocumentSearchTokenizer.QueryTerm term : terms) {
+            unique.merge(term.term(), term, (a, b) -> a.prefix() ? b : a);
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    private static DocumentSearchHit toHit(DocumentSearchIndex.Candidate candidate) {
+        return DocumentSearchHit.builder()
+                .id(candidate.entry().id())
+                .title(candidate.entry().title())
+                .parentId(candidate.entry().parentId())
+                .viewType(candidate.entry().viewType())
+                .score(candidate.score())
+                .build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.notionclone.domain.document.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 검색 색인/질의 토크나이저
+ *
+ * - NFKC 정규화 + 소문자 변환 후 글자/숫자 연속 구간 단위로 분리
+ * - 영문/숫자 구간은 단어 하나를 그대로 색인어로 사용
+ * - 한글(및 한자/가나) 구간은 띄어쓰기와 조사에 영향을 받지 않도록 2-gram으로 분해 (한 글자 구간은 그대로)
+ */
+final class DocumentSearchTokenizer {
+    static final int MAX_TERM_LENGTH = 64;
+
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern ENTITY = Pattern.compile("&(#\\d+|#x[0-9a-fA-F]+|[a-zA-Z]+);");
+
+    private DocumentSearchTokenizer() {
+    }
+
+    /**
+     * 질의 색인어 (prefix=true면 입력 중인 마지막 단어로 보고 접두사 일치)
+     */
+    record QueryTerm(String term, boolean prefix) {
+    }
+
+    /**
+     * HTML 본문에서 태그/엔티티를 제거한 텍스트
+     */
+    static String stripHtml(String html) {
+        if (html == null || html.isEmpty()) {
+            return "";
+        }
+        return ENTITY.matcher(TAG.matcher(html).replaceAll(" ")).replaceAll(" ");
+    }
+
+    /**
+     * 텍스트를 등장 순서대로 색인어 목록으로 분해 (중복 포함)
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        forEachRun(normalize(text), (run, cjk) -> emit(run, cjk, terms));
+        return terms;
+    }
+
+    /**
+     * 질의 분해: 공백으로 끝나지 않은 질의의 마지막 색인어는 접두사로 취급
+     */
+    static List<QueryTerm> tokenizeQuery(String query) {
+        List<QueryTerm> result = new ArrayList<>();
+        if (query == null || query.isBlank()) {
+            return result;
+        }
+        String normalized = normalize(query);
+        List<String> terms = new ArrayList<>();
+        forEachRun(normalized, (run, cjk) -> emit(run, cjk, terms));
+        boolean trailingPrefix = !normalized.isEmpty()
+                && Character.isLetterOrDigit(normalized.codePointBefore(normalized.length()));
+        for (int i = 0; i < terms.size(); i++) {
+            result.add(new QueryTerm(terms.get(i), trailingPrefix && i == terms.size() - 1));
+        }
+        return result;
+    }
+
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private interface RunConsumer {
+        void accept(String run, boolean cjk);
+    }
+
+    /**
+     * 같은 문자 계열(영문·숫자 / 한글·CJK)이 이어지는 구간 단위로 전달
+     */
+    private static void forEachRun(String text, RunConsumer consumer) {
+        int runStart = -1;
+        boolean runCjk = false;
+        int i = 0;
+        while (i < text.length()) {
+            int cp = text.codePointAt(i);
+            int next = i + Character.charCount(cp);
+            if (!Character.isLetterOrDigit(cp)) {
+                if (runStart >= 0) {
+                    consumer.accept(text.substring(runStart, i), runCjk);
+                    runStart = -1;
+                }
+            } else {
+                boolean cjk = isCjk(cp);
+                if (runStart >= 0 && cjk != runCjk) {
+                    consumer.accept(text.substring(runStart, i), runCjk);
+                    runStart = -1;
+                }
+                if (runStart < 0) {
+                    runStart = i;
+                    runCjk = cjk;
+                }
+            }
+            i = next;
+        }
+        if (runStart >= 0) {
+            consumer.accept(text.substring(runStart), runCjk);
+        }
+    }
+
+    private static void emit(String run, boolean cjk, List<String> terms) {
+        if (!cjk) {
+            terms.add(run.length() > MAX_TERM_LENGTH ? run.substring(0, MAX_TERM_LENGTH) : run);
+            return;
+        }
+        int length = run.codePointCount(0, run.length());
+        if (length == 1) {
+            terms.add(run);
+            return;
+        }
+        int start = 0;
+        while (start < run.length()) {
+            int second = run.offsetByCodePoints(start, 1);
+            if (second >= run.length()) {
+                break;
+            }
+            int end = run.offsetByCodePoints(second, 1);
+            terms.add(run.substring(start, end));
+            start = second;
+        }
+    }
+
+    static boolean isCjk(int cp) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(cp);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
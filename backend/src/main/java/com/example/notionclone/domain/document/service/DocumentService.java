@@ -1,6 +1,10 @@
 package com.example.notionclone.domain.document.service;
 
+import com.example.notionclone.config.ReplicaRoutingDataSource;
+import com.example.notionclone.domain.document.dto.CursorPageResponse;
+import com.example.notionclone.domain.document.dto.DocumentCursor;
 import com.example.notionclone.domain.document.dto.DocumentResponse;
+import com.example.notionclone.domain.document.dto.DocumentListField;
 import com.example.notionclone.domain.document.dto.DocumentListResponse;
 import com.example.notionclone.domain.document.dto.DocumentTableListResponse;
 import com.example.notionclone.domain.document.entity.Document;
@@ -16,9 +20,9 @@ import com.example.notionclone.domain.permission.entity.PermissionType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
 
 import java.util.List;
  
@@ -26,28 +30,28 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import com.example.notionclone.domain.document.entity.ViewType;
 import java.util.Optional;
 import com.example.notionclone.domain.document.dto.CreateDocumentRequest;
 import com.example.notionclone.domain.document.dto.UpdateDocumentRequest;
 import com.example.notionclone.domain.permission.service.PermissionService;
 import com.example.notionclone.domain.user.repository.UserRepository;
-import java.util.stream.Stream;
 import com.example.notionclone.domain.document.entity.DocumentProperty;
 import com.example.notionclone.domain.document.dto.DocumentPropertyDto;
 import com.example.notionclone.domain.document.entity.DocumentPropertyTagOption;
 import com.example.notionclone.domain.document.repository.DocumentPropertyTagOptionRepository;
-import com.example.notionclone.domain.document.repository.DocumentVersionRepository;
 import com.example.notionclone.domain.document.repository.DocumentPropertyRepository;
-import com.example.notionclone.domain.document.repository.DocumentPropertyValueRepository;
-import java.time.LocalDateTime;
 import java.util.Deque;
 import java.util.ArrayDeque;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.HashMap;
+import java.util.Objects;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Comparator;
 
 @Slf4j
@@ -55,38 +59,30 @@ import java.util.Comparator;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DocumentService {
+  static final int MAX_INFINITE_PAGE_SIZE = 100;
+
   private final DocumentRepository documentRepository;
   private final WorkspaceRepository workspaceRepository;
   private final PermissionRepository permissionRepository;
   private final PermissionService permissionService;
   private final UserRepository userRepository;
   private final DocumentPropertyTagOptionRepository documentPropertyTagOptionRepository;
-  private final DocumentVersionRepository documentVersionRepository;
-  private final DocumentPropertyValueRepository documentPropertyValueRepository;
   private final DocumentPropertyRepository documentPropertyRepository;
+  private final DocumentListCacheService documentListCacheService;
+  private final DocumentBulkDeleteService documentBulkDeleteService;
+  private final SortRankService sortRankService;
+  private final DocumentContentService documentContentService;
+  private final DocumentSearchService documentSearchService;
+  private final DocumentTableCacheService documentTableCacheService;
 
   public List<DocumentResponse> getDocumentsByWorkspace(Long workspaceId, User user) {
-    // 1. 사용자가 소유한 문서 조회
-    List<Document> ownedDocuments = documentRepository.findByWorkspaceIdAndUserIdAndIsTrashedFalse(workspaceId,
-        user.getId());
-
-    // 2. 사용자가 공유받은 문서 ID 조회
-    List<Long> sharedDocumentIds = permissionRepository.findAcceptedDocumentIdsByUserAndWorkspace(user.getId(),
-        PermissionStatus.ACCEPTED, workspaceId);
-
-    // 3. 공유받은 문서 정보 조회 및 휴지통 상태 필터링
-    List<Document> sharedDocuments = documentRepository.findAllById(sharedDocumentIds).stream()
-        .filter(doc -> !doc.isTrashed())
-        .collect(Collectors.toList());
-
-    // 4. 두 목록을 합치고 중복 제거
-    List<Document> allDocuments = Stream.concat(ownedDocuments.stream(), sharedDocuments.stream())
-        .distinct()
-        .collect(Collectors.toList());
+    // 소유 문서 + 공유받은 문서를 DB에서 병합하여 조회
+    List<Document> allDocuments = documentRepository.findVisibleDocuments(workspaceId, user.getId(),
+        PermissionStatus.ACCEPTED);
 
     return allDocuments.stream()
         .map(doc -> {
-          boolean hasChildren = documentRepository.existsByParentIdAndIsTrashedFalse(doc.getId());
+          boolean hasChildren = doc.hasLiveChildren();
           DocumentResponse resp = DocumentResponse.fromDocumentWithPermissionsAndChildren(doc, doc.getPermissions(), hasChildren);
           return applyLatestMeta(resp, doc);
         })
@@ -104,72 +100,15 @@ public class DocumentService {
    */
   @Cacheable(value = "documentList", key = "#workspaceId + '_' + #user.id")
   public List<DocumentListResponse> getDocumentListByWorkspace(Long workspaceId, User user) {
-    // 1. 사용자가 소유한 문서 조회
-    List<Document> ownedDocuments = documentRepository.findByWorkspaceIdAndUserIdAndIsTrashedFalse(workspaceId,
-        user.getId());
-
-    // 2. 사용자가 공유받은 문서 ID 조회 (소유자가 소유한 문서 제외)
-    List<Long> allPermissionDocumentIds = permissionRepository.findAcceptedDocumentIdsByUserAndWorkspace(user.getId(),
-        PermissionStatus.ACCEPTED, workspaceId);
-    
-    // 소유자가 소유한 문서 ID 목록
-    List<Long> ownedDocumentIds = ownedDocuments.stream().map(Document::getId).collect(Collectors.toList());
-    
-    // 공유받은 문서 ID = 모든 권한 문서 ID - 소유한 문서 ID
-    List<Long> sharedDocumentIds = allPermissionDocumentIds.stream()
-        .filter(docId -> !ownedDocumentIds.contains(docId))
-        .collect(Collectors.toList());
-    
-    // 3. 공유받은 문서 정보 조회 및 휴지통 상태 필터링
-    List<Document> sharedDocuments = documentRepository.findAllById(sharedDocumentIds).stream()
-        .filter(doc -> !doc.isTrashed())
-        .collect(Collectors.toList());
-
-    // 4. 두 목록을 합치고 중복 제거
-    List<Document> allDocuments = Stream.concat(ownedDocuments.stream(), sharedDocuments.stream())
-        .distinct()
-        .collect(Collectors.toList());
-
-    // 5. N+1 문제 해결: 한 번의 쿼리로 모든 hasChildren 정보 조회
-    List<Long> documentIds = allDocuments.stream().map(Document::getId).collect(Collectors.toList());
-    Map<Long, Boolean> hasChildrenMap = getHasChildrenMap(documentIds);
-
-    // 6. 공유 문서 ID 집합 생성
-    // 공유받은 문서는 자동으로 공유 문서
-    Set<Long> sharedDocumentIdSet = new HashSet<>(sharedDocumentIds);
-    
-    // 소유한 문서 중에서 다른 사용자와 공유된 문서 찾기 (N+1 문제 해결을 위해 배치 쿼리 사용)
-    if (!ownedDocuments.isEmpty()) {
-      List<Long> sharedOwnedDocumentIds = findSharedOwnedDocuments(ownedDocumentIds, user.getId());
-      sharedDocumentIdSet.addAll(sharedOwnedDocumentIds);
-    }
-
-    return allDocuments.stream()
-        .map(doc -> {
-          boolean hasChildren = hasChildrenMap.getOrDefault(doc.getId(), false);
-          boolean isShared = sharedDocumentIdSet.contains(doc.getId());
-          return DocumentListResponse.fromDocument(doc, hasChildren, isShared);
-        })
-        .collect(Collectors.toList());
-  }
-
-  /**
-   * 배치 쿼리를 사용하여 hasChildren 정보를 조회합니다.
-   * 
-   * @param documentIds 문서 ID 목록
-   * @return 문서 ID와 hasChildren 여부의 매핑
-   */
-  private Map<Long, Boolean> getHasChildrenMap(List<Long> documentIds) {
-    if (documentIds.isEmpty()) {
-      return new HashMap<>();
-    }
-    
-    List<Object[]> results = documentRepository.findHasChildrenByDocumentIds(documentIds);
-    return results.stream()
-        .collect(Collectors.toMap(
-            result -> (Long) result[0],
-            result -> (Boolean) result[1]
-        ));
+    // 공유 캐시에 지연된 목록이 남지 않도록 프라이머리에서 적재
+    return ReplicaRoutingDataSource.onPrimary(() -> {
+      // 1. 소유 문서 + 공유받은 문서를 DB에서 병합/정렬하여 한 번에 조회
+      List<Document> allDocuments = documentRepository.findVisibleDocuments(workspaceId, user.getId(),
+          PermissionStatus.ACCEPTED);
+
+      // 2. isShared 배치 조회 후 변환
+      return toListResponses(allDocuments, user.getId());
+    });
   }
 
   /**
@@ -214,7 +153,7 @@ public class DocumentService {
     return documentRepository.findAll().stream()
         .map(doc -> {
           List<Permission> permissions = permissionRepository.findByDocument(doc);
-          boolean hasChildren = documentRepository.existsByParentIdAndIsTrashedFalse(doc.getId());
+          boolean hasChildren = doc.hasLiveChildren();
           DocumentResponse resp = DocumentResponse.fromDocumentWithPermissionsAndChildren(doc, permissions, hasChildren);
           return applyLatestMeta(resp, doc);
         })
@@ -225,7 +164,7 @@ public class DocumentService {
     return documentRepository.findDocumentsWithNoWorkspace().stream()
         .map(doc -> {
           List<Permission> permissions = permissionRepository.findByDocument(doc);
-          boolean hasChildren = documentRepository.existsByParentIdAndIsTrashedFalse(doc.getId());
+          boolean hasChildren = doc.hasLiveChildren();
           DocumentResponse resp = DocumentResponse.fromDocumentWithPermissionsAndChildren(doc, permissions, hasChildren);
           return applyLatestMeta(resp, doc);
         })
@@ -233,7 +172,6 @@ public class DocumentService {
   }
 
   @Transactional
-  @CacheEvict(value = {"documentList", "documentListPaginated"}, allEntries = true)
   public DocumentResponse createDocument(Long workspaceId, CreateDocumentRequest request, String creatorEmail) {
     User creator = userRepository.findByEmail(creatorEmail)
         .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + creatorEmail));
@@ -251,15 +189,20 @@ public class DocumentService {
 
     Document document = Document.builder()
         .title(request.getTitle())
-        .content(request.getContent())
         .workspace(workspace)
         .user(creator)
         .parent(parent)
+        .sortOrder(sortRankService.nextDocumentRank(workspaceId, request.getParentId()))
         .viewType(request.getViewType() != null ? ViewType.valueOf(request.getViewType()) : ViewType.PAGE)
         .build();
 
     Document savedDocument = documentRepository.save(document);
-    boolean hasChildren = documentRepository.existsByParentIdAndIsTrashedFalse(savedDocument.getId());
+    documentContentService.saveContent(savedDocument, request.getContent());
+    if (parent != null) {
+      documentRepository.adjustLiveChildCount(parent.getId(), 1);
+      documentTableCacheService.rowAdded(parent.getId(), savedDocument.getId());
+    }
+    boolean hasChildren = savedDocument.hasLiveChildren();
 
     // 생성자에게 자동으로 OWNER 권한 부여
     Permission ownerPermission = Permission.builder()
@@ -269,13 +212,15 @@ public class DocumentService {
         .status(PermissionStatus.ACCEPTED)
         .build();
     permissionRepository.save(ownerPermission);
+    documentListCacheService.evictWorkspace(workspaceId);
+    documentSearchService.markChanged(savedDocument.getId());
 
     DocumentResponse resp = DocumentResponse.fromDocumentWithPermissionsAndChildren(savedDocument, savedDocument.getPermissions(), hasChildren);
+    resp.setContent(request.getContent());
     return applyLatestMeta(resp, savedDocument);
   }
 
   @Transactional
-  @CacheEvict(value = {"documentList", "documentListPaginated"}, allEntries = true)
   public DocumentResponse updateDocument(Long workspaceId, Long documentId, UpdateDocumentRequest request,
       String updaterEmail) {
     User updater = userRepository.findByEmail(updaterEmail)
@@ -286,12 +231,16 @@ public class DocumentService {
         .orElseThrow(() -> new ResourceNotFoundException("문서를 찾을 수 없습니다."));
 
     // title과 content가 제공된 경우에만 업데이트 (null이면 기존 값 유지)
-    if (request.getTitle() != null || request.getContent() != null) {
-      String newTitle = request.getTitle() != null ? request.getTitle() : document.getTitle();
-      String newContent = request.getContent() != null ? request.getContent() : document.getContent();
-      document.update(newTitle, newContent);
+    if (request.getTitle() != null) {
+      document.updateTitle(request.getTitle());
+    }
+    if (request.getContent() != null) {
+      documentContentService.saveContent(document, request.getContent());
     }
 
+    // 목록에 노출되는 필드(제목/뷰 타입)가 바뀐 경우에만 목록 캐시 무효화 (본문 자동 저장은 제외)
+    boolean listFieldsChanged = (request.getTitle() != null) || (request.getViewType() != null);
+
     if (request.getViewType() != null) {
       document.setViewType(ViewType.valueOf(request.getViewType()));
     }
@@ -300,6 +249,13 @@ public class DocumentService {
       document.setLocked(request.getIsLocked());
     }
 
+    if (listFieldsChanged) {
+      documentListCacheService.evictWorkspace(workspaceId);
+    }
+    if (request.getTitle() != null) {
+      documentSearchService.markChanged(documentId);
+    }
+
     return buildResponseWithMergedPermissions(document);
   }
 
@@ -323,7 +279,7 @@ public class DocumentService {
         }
       }
     }
-    boolean hasChildren = documentRepository.existsByParentIdAndIsTrashedFalse(document.getId());
+    boolean hasChildren = document.hasLiveChildren();
     boolean hasParent = document.getParent() != null;
 
     List<DocumentProperty> properties = documentPropertyRepository
@@ -342,11 +298,11 @@ public class DocumentService {
         })
         .collect(Collectors.toList());
     DocumentResponse resp = DocumentResponse.fromDocumentWithPermissionsAndChildren(document, permissions, hasChildren, propertyDtos);
+    resp.setContent(documentContentService.getContent(document.getId()));
     return applyLatestMeta(resp, document);
   }
 
   @Transactional
-  @CacheEvict(value = {"documentList", "documentListPaginated"}, allEntries = true)
   public void deleteDocument(Long id, User user) {
     log.debug("Soft deleting document: {}", id);
     Document document = documentRepository.findById(id)
@@ -369,23 +325,112 @@ public class DocumentService {
       throw new org.springframework.security.access.AccessDeniedException("No permission to delete this document.");
     }
 
-    // TABLE 문서는 자식 문서까지 일괄 휴지통 처리
+    // TABLE 문서는 자식 문서까지 일괄 휴지통 처리 후 서브트리의 자식 수 재계산
+    List<Long> subtreeIds = new ArrayList<>();
+    subtreeIds.add(document.getId());
     if (document.getViewType() == ViewType.TABLE) {
-      List<Document> descendants = collectDescendants(document);
-      for (Document child : descendants) {
-        child.setTrashed(true);
-        documentRepository.save(child);
+      if (document.getPath() != null) {
+        subtreeIds.addAll(documentRepository.findDescendantIdsByPath(document.getPath()));
+        documentRepository.updateTrashedByPath(document.getPath(), true);
+        documentRepository.recountLiveChildrenByPath(document.getPath());
+      } else {
+        for (Document child : collectDescendants(document)) {
+          child.setTrashed(true);
+          documentRepository.save(child);
+          subtreeIds.add(child.getId());
+        }
+        documentRepository.recountLiveChildren(subtreeIds);
       }
     }
+    boolean wasLive = !document.isTrashed();
     document.setTrashed(true);
     documentRepository.save(document);
+    if (wasLive && parent != null) {
+      documentRepository.adjustLiveChildCount(parent.getId(), -1);
+    }
+    if (parent != null) {
+      documentTableCacheService.rowRemoved(parent.getId(), document.getId());
+    }
+    documentTableCacheService.invalidate(document.getId());
+    documentListCacheService.evictWorkspace(workspaceIdOf(document));
+    documentSearchService.markChanged(subtreeIds);
   }
 
+  /**
+   * 문서를 다른 부모 아래(또는 루트)로 이동합니다.
+   * 서브트리 전체의 경로/깊이는 단일 UPDATE로 갱신됩니다.
+   *
+   * @param newParentId 새 부모 문서 ID (null이면 루트로 이동)
+   */
+  @Transactional
+  public void moveDocument(Long workspaceId, Long documentId, Long newParentId, User user) {
+    permissionService.checkPermission(workspaceId, documentId, user.getId(), PermissionType.WRITE);
+    Document document = documentRepository.findById(documentId)
+        .orElseThrow(() -> new ResourceNotFoundException("Document not found with id: " + documentId));
+    if (!workspaceId.equals(workspaceIdOf(document))) {
+      throw new ResourceNotFoundException("Document not found in workspace: " + workspaceId);
+    }
+    requirePath(document);
+
+    Document newParent = null;
+    if (newParentId != null) {
+      permissionService.checkPermission(workspaceId, newParentId, user.getId(), PermissionType.WRITE);
+      newParent = documentRepository.findById(newParentId)
+          .orElseThrow(() -> new ResourceNotFoundException("Parent document not found with id: " + newParentId));
+      if (!workspaceId.equals(workspaceIdOf(newParent))) {
+        throw new IllegalArgumentException("Cannot move a document to another workspace.");
+      }
+      // 경로가 없으면 순환 검사와 서브트리 경로 갱신을 할 수 없으므로 이동을 거부합니다.
+      requirePath(newParent);
+      if (newParent.getId().equals(documentId) || newParent.getAncestorIds().contains(documentId)) {
+        throw new IllegalArgumentException("Cannot move a document under its own subtree.");
+      }
+    }
+
+    String oldPath = document.getPath();
+    Integer oldDepth = document.getDepth();
+    Document oldParent = document.getParent();
+    Long oldParentId = oldParent != null ? oldParent.getId() : null;
+    if (!Objects.equals(oldParentId, newParentId)) {
+      // 새 형제 목록의 마지막에 배치
+      document.setSortOrder(sortRankService.nextDocumentRank(workspaceId, newParentId));
+    }
+    document.setParent(newParent);
+    documentRepository.save(document);
+
+    if (!document.isTrashed() && !Objects.equals(oldParentId, newParentId)) {
+      if (oldParentId != null) {
+        documentRepository.adjustLiveChildCount(oldParentId, -1);
+      }
+      if (newParentId != null) {
+        documentRepository.adjustLiveChildCount(newParentId, 1);
+      }
+    }
+
+    String newPath = (newParent != null ? newParent.getPath() : "/") + documentId + "/";
+    int newDepth = newParent != null ? newParent.getDepth() + 1 : 0;
+    documentRepository.movePath(oldPath, newPath, newDepth - oldDepth);
+    documentTableCacheService.invalidate(oldParentId);
+    documentTableCacheService.invalidate(newParentId);
+    documentListCacheService.evictWorkspace(workspaceId);
+  }
+
+  /**
+   * 경로/깊이는 기동 시 마이그레이션에서 모두 채워지므로 비어 있으면 데이터 불일치로 보고 작업을 중단합니다.
+   */
+  private void requirePath(Document document) {
+    if (document.getPath() == null || document.getDepth() == null) {
+      throw new IllegalStateException("Document path is not initialized: " + document.getId());
+    }
+  }
+
+  /**
+   * 문서 순서 변경: 순서가 바뀐 문서의 sortOrder만 갱신 (간격 소진 시에만 전체 재배치)
+   */
   @Transactional
   public void updateDocumentOrder(Long workspaceId, List<Long> documentIds) {
-    for (int i = 0; i < documentIds.size(); i++) {
-      Long docId = documentIds.get(i);
-      documentRepository.updateSortOrder(workspaceId, docId, i);
+    if (!sortRankService.reorderDocuments(workspaceId, documentIds).isEmpty()) {
+      documentListCacheService.evictWorkspace(workspaceId);
     }
   }
 
@@ -412,7 +457,7 @@ public class DocumentService {
         })
         .map(doc -> {
           List<Permission> permissions = permissionRepository.findByDocument(doc);
-          boolean hasChildren = documentRepository.existsByParentIdAndIsTrashedFalse(doc.getId());
+          boolean hasChildren = doc.hasLiveChildren();
           DocumentResponse resp = DocumentResponse.fromDocumentWithPermissionsAndChildren(doc, permissions, hasChildren);
           return applyLatestMeta(resp, doc);
         })
@@ -449,6 +494,13 @@ public class DocumentService {
     
     doc.setTrashed(false);
     documentRepository.save(doc);
+    if (parent != null) {
+      documentRepository.adjustLiveChildCount(parent.getId(), 1);
+      // 휴지통에 있던 동안의 값은 캐시에 없으므로 행만 추가하지 않고 테이블을 다시 적재
+      documentTableCacheService.invalidate(parent.getId());
+    }
+    documentListCacheService.evictWorkspace(workspaceId);
+    documentSearchService.markChanged(docId);
   }
 
   @Transactional
@@ -479,14 +531,16 @@ public class DocumentService {
       throw new org.springframework.security.access.AccessDeniedException("No permission to permanently delete this document.");
     }
     
-    // TABLE 문서는 자식부터 하드 삭제
+    // TABLE 문서는 자식까지 함께 하드 삭제 (깊은 문서부터 집합 단위 삭제)
+    List<Long> targetIds = new ArrayList<>();
+    targetIds.add(doc.getId());
     if (doc.getViewType() == ViewType.TABLE) {
-      List<Document> descendants = collectDescendants(doc);
-      for (int i = descendants.size() - 1; i >= 0; i--) {
-        hardDeleteSingleDocument(descendants.get(i));
-      }
+      targetIds.addAll(doc.getPath() != null
+          ? documentRepository.findDescendantIdsByPath(doc.getPath())
+          : collectDescendants(doc).stream().map(Document::getId).toList());
     }
-    hardDeleteSingleDocument(doc);
+    documentRepository.flush();
+    documentBulkDeleteService.deleteDocuments(targetIds);
   }
 
   @Transactional
@@ -515,43 +569,20 @@ public class DocumentService {
     
     if (trashedDocs.isEmpty()) return;
 
-    // 우선 모든 값은 일괄 삭제 (FK 제약 방지)
+    // 권한이 확인된 휴지통 문서만 깊은 문서부터 집합 단위로 삭제 (값/속성/버전/권한 포함)
     List<Long> trashedIds = trashedDocs.stream().map(Document::getId).toList();
-    documentPropertyValueRepository.deleteByDocumentIdIn(trashedIds);
-
-    // 트리 루트(부모가 휴지통이 아닌 노드)를 기준으로 각 서브트리를 자식부터 삭제
-    Set<Long> remaining = new HashSet<>(trashedIds);
-    Map<Long, Document> byId = new HashMap<>();
-    for (Document d : trashedDocs) byId.put(d.getId(), d);
-
-    for (Document d : trashedDocs) {
-      Long parentId = d.getParent() == null ? null : d.getParent().getId();
-      boolean parentIsAlsoTrashed = parentId != null && remaining.contains(parentId);
-      if (parentIsAlsoTrashed) continue; // 상위에서 함께 처리됨
-
-      // d를 루트로 하는 서브트리 수집 후 자식부터 삭제
-      List<Document> subtree = collectDescendants(d);
-      for (int i = subtree.size() - 1; i >= 0; i--) {
-        Document child = subtree.get(i);
-        if (remaining.contains(child.getId())) {
-          documentVersionRepository.deleteByDocument(child);
-          List<Permission> perms = permissionRepository.findByDocument(child);
-          permissionRepository.deleteAll(perms);
-          documentRepository.delete(child);
-          remaining.remove(child.getId());
-        }
-      }
-      if (remaining.contains(d.getId())) {
-        documentVersionRepository.deleteByDocument(d);
-        List<Permission> perms = permissionRepository.findByDocument(d);
-        permissionRepository.deleteAll(perms);
-        documentRepository.delete(d);
-        remaining.remove(d.getId());
-      }
-    }
+    documentRepository.flush();
+    documentBulkDeleteService.deleteDocuments(trashedIds);
   }
 
+  /**
+   * 서브트리 문서 수집 (얕은 깊이 → 깊은 깊이 순, 역순 순회 시 자식부터 처리 가능)
+   * 경로가 있으면 단일 접두사 쿼리, 경로 미구축 문서는 부모-자식 순회로 대체합니다.
+   */
   private List<Document> collectDescendants(Document root) {
+    if (root.getPath() != null) {
+      return documentRepository.findDescendantsByPath(root.getPath());
+    }
     List<Document> result = new ArrayList<>();
     Deque<Document> stack = new ArrayDeque<>(documentRepository.findByParentId(root.getId()));
     while (!stack.isEmpty()) {
@@ -565,47 +596,16 @@ public class DocumentService {
     return result;
   }
 
-  private void hardDeleteSingleDocument(Document d) {
-    // 1. 값/버전 삭제 (FK 제약 방지)
-    documentPropertyValueRepository.deleteByDocumentId(d.getId());
-    documentVersionRepository.deleteByDocument(d);
-    // 2. 권한 삭제
-    List<Permission> permissions = permissionRepository.findByDocument(d);
-    permissionRepository.deleteAll(permissions);
-    // 3. 문서 삭제 (properties/values/tagOptions는 cascade + orphanRemoval)
-    documentRepository.delete(d);
-  }
-
   /**
    * 워크스페이스의 모든 문서를 안전 순서(자식 → 부모)로 하드 삭제
-   * FK 제약(versions/values/permissions) 위반을 방지
+   * 청크마다 독립 트랜잭션으로 집합 단위 삭제하여 잠금 시간을 짧게 유지하고 진행 상황을 로그로 남깁니다.
    */
-  @Transactional
-  public void hardDeleteAllDocumentsInWorkspace(Long workspaceId) {
-    List<Document> all = documentRepository.findByWorkspaceId(workspaceId);
-    if (all == null || all.isEmpty()) return;
-
-    // 빠른 조회용 맵/셋
-    Map<Long, Document> byId = new HashMap<>();
-    for (Document d : all) byId.put(d.getId(), d);
-
-    // 루트 후보: 부모가 없거나(전역 루트) 부모가 같은 워크스페이스에 포함되지 않은 문서
-    List<Document> roots = new ArrayList<>();
-    for (Document d : all) {
-      Document p = d.getParent();
-      if (p == null || !byId.containsKey(p.getId())) {
-        roots.add(d);
-      }
-    }
-
-    // 각 루트 서브트리를 자식부터 삭제
-    for (Document root : roots) {
-      List<Document> subtree = collectDescendants(root);
-      for (int i = subtree.size() - 1; i >= 0; i--) {
-        hardDeleteSingleDocument(subtree.get(i));
-      }
-      hardDeleteSingleDocument(root);
-    }
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  public Map<String, Integer> hardDeleteAllDocumentsInWorkspace(Long workspaceId) {
+    Map<String, Integer> counts = documentBulkDeleteService.purgeWorkspace(workspaceId);
+    documentListCacheService.evictWorkspace(workspaceId);
+    documentSearchService.invalidateWorkspace(workspaceId);
+    return counts;
   }
 
   public List<DocumentResponse> getAccessibleDocuments(Long workspaceId, User user) {
@@ -624,7 +624,7 @@ public class DocumentService {
     allDocs.addAll(sharedDocs);
     return allDocs.stream().map(doc -> {
       List<Permission> permissions = permissionRepository.findByDocument(doc);
-      boolean hasChildren = documentRepository.existsByParentIdAndIsTrashedFalse(doc.getId());
+      boolean hasChildren = doc.hasLiveChildren();
       DocumentResponse resp = DocumentResponse.fromDocumentWithPermissionsAndChildren(doc, permissions, hasChildren);
       return applyLatestMeta(resp, doc);
     }).collect(Collectors.toList());
@@ -657,7 +657,7 @@ public class DocumentService {
     return accessibleChildren.stream()
         .map(doc -> {
           List<Permission> permissions = permissionRepository.findByDocument(doc);
-          boolean hasChildren = documentRepository.existsByParentIdAndIsTrashedFalse(doc.getId());
+          boolean hasChildren = doc.hasLiveChildren();
           DocumentResponse resp = DocumentResponse.fromDocumentWithPermissionsAndChildren(doc, permissions, hasChildren);
           return applyLatestMeta(resp, doc);
         })
@@ -685,22 +685,19 @@ public class DocumentService {
           comparator = Comparator.comparing(d -> Optional.ofNullable(d.getCreatedAt()).orElse(java.time.LocalDateTime.MIN));
           break;
         case "updatedAt":
-          comparator = Comparator.comparing(d -> Optional.ofNullable(d.getUpdatedAt()).orElse(java.time.LocalDateTime.MIN));
+          comparator = Comparator.comparing(d -> Optional.ofNullable(d.getLastModifiedAt()).orElse(java.time.LocalDateTime.MIN));
           break;
         case "createdBy":
           comparator = Comparator.comparing(d -> Optional.ofNullable(d.getCreatedBy()).orElse(""), String.CASE_INSENSITIVE_ORDER);
           break;
         case "updatedBy":
-          comparator = Comparator.comparing(d -> Optional.ofNullable(d.getUpdatedBy()).orElse(""), String.CASE_INSENSITIVE_ORDER);
+          comparator = Comparator.comparing(d -> Optional.ofNullable(d.getLastModifiedBy()).orElse(""), String.CASE_INSENSITIVE_ORDER);
           break;
         case "prop":
           if (sortPropertyId != null) {
-            // 문서별 해당 property의 값 조회 후 캐시
-            Map<Long, String> byDoc = documentPropertyValueRepository.findByDocumentIdIn(
-                content.stream().map(Document::getId).toList())
-                .stream()
-                .filter(v -> v.getProperty().getId().equals(sortPropertyId))
-                .collect(Collectors.toMap(v -> v.getDocument().getId(), v -> Optional.ofNullable(v.getValue()).orElse(""), (a,b)->a));
+            // 문서별 해당 property의 값은 테이블 열 캐시에서 조회
+            Map<Long, String> byDoc = documentTableCacheService.getColumnValues(parentId, sortPropertyId,
+                content.stream().map(Document::getId).toList());
             comparator = Comparator.comparing(d -> byDoc.getOrDefault(d.getId(), ""), String.CASE_INSENSITIVE_ORDER);
           }
           break;
@@ -711,11 +708,9 @@ public class DocumentService {
       }
     }
 
-    // hasChildren 배치 조회
-    List<Long> ids = content.stream().map(Document::getId).collect(Collectors.toList());
-    Map<Long, Boolean> hasChildrenMap = getHasChildrenMap(ids);
+    // hasChildren은 비정규화된 자식 수 컬럼으로 판단
     List<DocumentListResponse> responses = content.stream()
-        .map(doc -> DocumentListResponse.fromDocument(doc, hasChildrenMap.getOrDefault(doc.getId(), false), false))
+        .map(doc -> DocumentListResponse.fromDocument(doc, doc.hasLiveChildren(), false))
         .collect(Collectors.toList());
     return new org.springframework.data.domain.PageImpl<>(responses, pageable, page.getTotalElements());
   }
@@ -723,10 +718,11 @@ public class DocumentService {
   @Transactional
   public void updateChildOrder(Long parentId, List<Long> documentIds, Long userId) {
     // 권한 검증은 컨트롤러에서 parentId 기준으로 수행되므로 여기서는 정렬만 처리
-    for (int i = 0; i < documentIds.size(); i++) {
-      Long docId = documentIds.get(i);
-      documentRepository.updateChildSortOrder(parentId, docId, i);
+    if (sortRankService.reorderChildDocuments(parentId, documentIds).isEmpty()) {
+      return;
     }
+    documentRepository.findById(parentId)
+        .ifPresent(parent -> documentListCacheService.evictWorkspace(workspaceIdOf(parent)));
   }
 
   @Transactional
@@ -737,29 +733,15 @@ public class DocumentService {
     documentRepository.save(document);
   }
 
-  // 문서/속성값 최신 수정 메타데이터(At/By) 합성
+  private Long workspaceIdOf(Document document) {
+    return document.getWorkspace() != null ? document.getWorkspace().getId() : null;
+  }
+
+  // 문서/속성값 최신 수정 메타데이터(At/By): 문서에 비정규화된 값을 사용하므로 추가 조회 없음
   private DocumentResponse applyLatestMeta(DocumentResponse response, Document document) {
-    try {
-      LocalDateTime docUpdatedAt = document.getUpdatedAt();
-      String docUpdatedBy = document.getUpdatedBy();
-      var latestOpt = documentPropertyValueRepository.findTopByDocumentIdOrderByUpdatedAtDesc(document.getId());
-      if (latestOpt.isPresent()) {
-        var pv = latestOpt.get();
-        LocalDateTime pvUpdatedAt = pv.getUpdatedAt();
-        if (pvUpdatedAt != null && (docUpdatedAt == null || pvUpdatedAt.isAfter(docUpdatedAt))) {
-          response.setUpdatedAt(pvUpdatedAt);
-          response.setUpdatedBy(pv.getUpdatedBy());
-          return response;
-        }
-      }
-      // 기본: 문서 메타 유지
-      response.setUpdatedAt(docUpdatedAt);
-      response.setUpdatedBy(docUpdatedBy);
-      return response;
-    } catch (Exception e) {
-      // 방어적으로 실패 시 원본 응답 반환
-      return response;
-    }
+    response.setUpdatedAt(document.getLastModifiedAt());
+    response.setUpdatedBy(document.getLastModifiedBy());
+    return response;
   }
 
   /**
@@ -792,64 +774,87 @@ public class DocumentService {
     log.debug("Get paginated documents for workspace: {} by user: {}, page: {}, size: {}", 
         workspaceId, user.getId(), pageable.getPageNumber(), pageable.getPageSize());
     
-    // 1. 사용자가 소유한 문서 조회
-    List<Document> ownedDocuments = documentRepository.findByWorkspaceIdAndUserIdAndIsTrashedFalse(workspaceId, user.getId());
-    
-    // 2. 사용자가 공유받은 문서 ID 조회
-    List<Long> sharedDocumentIds = permissionRepository.findAcceptedDocumentIdsByUserAndWorkspace(user.getId(), 
-        PermissionStatus.ACCEPTED, workspaceId);
-    
-    // 3. 공유받은 문서 정보 조회 및 휴지통 상태 필터링
-    List<Document> sharedDocuments = documentRepository.findAllById(sharedDocumentIds).stream()
-        .filter(doc -> !doc.isTrashed())
-        .collect(Collectors.toList());
-    
-    // 4. 두 목록을 합치고 중복 제거
-    List<Document> allDocuments = Stream.concat(ownedDocuments.stream(), sharedDocuments.stream())
-        .distinct()
-        .collect(Collectors.toList());
-    
-    // 5. 페이지네이션 적용
-    int start = (int) pageable.getOffset();
-    int end = Math.min((start + pageable.getPageSize()), allDocuments.size());
-    List<Document> pagedDocuments = allDocuments.subList(start, end);
-    
-    // 6. N+1 문제 해결: 한 번의 쿼리로 모든 hasChildren 정보 조회
-    List<Long> documentIds = pagedDocuments.stream().map(Document::getId).collect(Collectors.toList());
-    Map<Long, Boolean> hasChildrenMap = getHasChildrenMap(documentIds);
-    
-    // 7. 공유 문서 ID 집합 생성
-    Set<Long> sharedDocumentIdSet = sharedDocuments.stream().map(Document::getId).collect(Collectors.toSet());
-    
-    // 8. DocumentListResponse 변환
-    List<DocumentListResponse> responses = pagedDocuments.stream()
-        .map(doc -> {
-            boolean hasChildren = hasChildrenMap.getOrDefault(doc.getId(), false);
-            boolean isShared = sharedDocumentIdSet.contains(doc.getId());
-            return DocumentListResponse.fromDocument(doc, hasChildren, isShared);
-        })
-        .collect(Collectors.toList());
-    
-    // 9. Page 객체 생성
-    return new org.springframework.data.domain.PageImpl<>(responses, pageable, allDocuments.size());
+    // 공유 캐시에 지연된 목록이 남지 않도록 프라이머리에서 적재
+    return ReplicaRoutingDataSource.onPrimary(() -> {
+      // 1. 소유 문서 + 공유받은 문서를 DB에서 병합/정렬/페이지 처리 (정렬은 쿼리에서 고정)
+      Pageable pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+      Page<Document> page = documentRepository.findVisibleDocuments(workspaceId, user.getId(),
+          PermissionStatus.ACCEPTED, pageRequest);
+
+      // 2. 현재 페이지 문서만 isShared 배치 조회 후 변환
+      List<DocumentListResponse> responses = toListResponses(page.getContent(), user.getId());
+
+      return new org.springframework.data.domain.PageImpl<>(responses, pageable, page.getTotalElements());
+    });
   }
 
   /**
    * 필드 선택을 지원하는 DocumentList 조회
-   * 필요한 필드만 선택하여 네트워크 트래픽을 최적화합니다.
+   * 요청된 컬럼만 SQL에서 조회하고 요청된 필드만 직렬화합니다.
+   * isShared 같은 계산 필드는 요청된 경우에만 배치 쿼리로 계산합니다.
+   *
+   * @param requestedFields 필드 이름 목록 (알 수 없는 이름은 무시, 유효한 필드가 없으면 id/title)
+   * @return 요청 필드만 담은 문서 목록 (요청 순서 유지)
    */
   @Transactional(readOnly = true)
-  public List<DocumentListResponse> getDocumentsByWorkspaceWithFields(Long workspaceId, User user, Set<String> requestedFields) {
+  public List<Map<String, Object>> getDocumentsByWorkspaceWithFields(Long workspaceId, User user, Set<String> requestedFields) {
     log.debug("Get documents with fields for workspace: {} by user: {}, fields: {}", 
         workspaceId, user.getId(), requestedFields);
-    
-    // 기본 필드 선택 로직 (향후 확장 가능)
-    List<DocumentListResponse> documents = getDocumentListByWorkspace(workspaceId, user);
-    
-    // 필드 선택에 따른 필터링 (향후 구현)
-    // 현재는 모든 필드를 반환하지만, 향후 특정 필드만 선택하여 반환할 수 있습니다.
-    
-    return documents;
+
+    Set<DocumentListField> fields = new LinkedHashSet<>();
+    for (String name : requestedFields) {
+      DocumentListField.fromFieldName(name).ifPresent(fields::add);
+    }
+    if (fields.isEmpty()) {
+      fields.add(DocumentListField.ID);
+      fields.add(DocumentListField.TITLE);
+    }
+
+    // 1. SQL 조회 컬럼 구성 (id는 계산 필드용으로, userId는 isShared 판단용으로 항상/필요 시 포함)
+    List<DocumentListField> columns = new ArrayList<>();
+    columns.add(DocumentListField.ID);
+    if (fields.contains(DocumentListField.IS_SHARED)) {
+      columns.add(DocumentListField.USER_ID);
+    }
+    fields.stream()
+        .filter(DocumentListField::isColumn)
+        .filter(f -> !columns.contains(f))
+        .forEach(columns::add);
+
+    List<Object[]> rows = documentRepository.findVisibleDocumentColumns(workspaceId, user.getId(), columns);
+    int idIndex = columns.indexOf(DocumentListField.ID);
+
+    // 2. 계산 필드는 요청된 경우에만 조회
+    Set<Long> sharedIds = new HashSet<>();
+    if (fields.contains(DocumentListField.IS_SHARED)) {
+      int ownerIndex = columns.indexOf(DocumentListField.USER_ID);
+      List<Long> ownedIds = new ArrayList<>();
+      for (Object[] row : rows) {
+        if (user.getId().equals(row[ownerIndex])) {
+          ownedIds.add((Long) row[idIndex]);
+        } else {
+          sharedIds.add((Long) row[idIndex]);
+        }
+      }
+      if (!ownedIds.isEmpty()) {
+        sharedIds.addAll(findSharedOwnedDocuments(ownedIds, user.getId()));
+      }
+    }
+
+    // 3. 요청 필드만 직렬화
+    List<Map<String, Object>> result = new ArrayList<>(rows.size());
+    for (Object[] row : rows) {
+      Long id = (Long) row[idIndex];
+      Map<String, Object> item = new LinkedHashMap<>();
+      for (DocumentListField field : fields) {
+        switch (field) {
+          case IS_SHARED -> item.put(field.getFieldName(), sharedIds.contains(id));
+          default -> item.put(field.getFieldName(), row[columns.indexOf(field)]);
+        }
+      }
+      result.add(item);
+    }
+    return result;
   }
 
   /**
@@ -869,15 +874,64 @@ public class DocumentService {
 
   /**
    * 무한 스크롤을 지원하는 DocumentList 조회
-   * 커서 기반 페이지네이션으로 성능을 최적화합니다.
+   * (sortOrder, id) 키셋 커서로 SQL에서 바로 다음 위치를 탐색하므로 페이지 깊이와 무관하게 비용이 일정합니다.
+   *
+   * @param size 페이지 크기 (1 ~ MAX_INFINITE_PAGE_SIZE로 보정)
+   * @param cursor 이전 응답의 nextCursor (없으면 첫 페이지)
+   * @throws IllegalArgumentException 커서 형식이 잘못된 경우
    */
   @Transactional(readOnly = true)
-  public Page<DocumentListResponse> getDocumentsInfinite(Long workspaceId, User user, Pageable pageable, String cursor) {
-    log.debug("Get infinite documents for workspace: {} by user: {}, page: {}, size: {}, cursor: {}", 
-        workspaceId, user.getId(), pageable.getPageNumber(), pageable.getPageSize(), cursor);
-    
-    // 커서 기반 페이지네이션 로직 (향후 구현)
-    // 현재는 일반 페이지네이션을 사용
-    return getDocumentsByWorkspacePaginated(workspaceId, user, pageable);
+  public CursorPageResponse<DocumentListResponse> getDocumentsInfinite(Long workspaceId, User user, int size, String cursor) {
+    log.debug("Get infinite documents for workspace: {} by user: {}, size: {}, cursor: {}",
+        workspaceId, user.getId(), size, cursor);
+
+    size = Math.min(MAX_INFINITE_PAGE_SIZE, Math.max(1, size));
+    DocumentCursor position = DocumentCursor.decode(cursor);
+    Slice<Document> slice = documentRepository.findVisibleDocumentsAfterCursor(workspaceId, user.getId(),
+        PermissionStatus.ACCEPTED.name(), position.getSortOrder(), position.getId(), PageRequest.of(0, size));
+    List<Document> documents = slice.getContent();
+
+    String nextCursor = null;
+    if (slice.hasNext() && !documents.isEmpty()) {
+      Document last = documents.get(documents.size() - 1);
+      nextCursor = DocumentCursor.of(last.getSortOrder(), last.getId()).encode();
+    }
+
+    return CursorPageResponse.<DocumentListResponse>builder()
+        .content(toListResponses(documents, user.getId()))
+        .size(size)
+        .hasNext(slice.hasNext())
+        .nextCursor(nextCursor)
+        .build();
+  }
+
+  /**
+   * 문서 페이지를 DocumentListResponse로 변환합니다.
+   * hasChildren은 비정규화된 자식 수 컬럼을 읽고, isShared는 페이지에 포함된 문서에 대해서만 배치 쿼리로 계산합니다.
+   * 다른 사용자가 소유한 문서(공유받은 문서)와 다른 사용자에게 공유한 소유 문서를 공유 문서로 분류합니다.
+   */
+  private List<DocumentListResponse> toListResponses(List<Document> documents, Long userId) {
+    if (documents.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    Set<Long> sharedDocumentIdSet = new HashSet<>();
+    List<Long> ownedDocumentIds = new ArrayList<>();
+    for (Document doc : documents) {
+      if (doc.getUser().getId().equals(userId)) {
+        ownedDocumentIds.add(doc.getId());
+      } else {
+        sharedDocumentIdSet.add(doc.getId());
+      }
+    }
+    if (!ownedDocumentIds.isEmpty()) {
+      sharedDocumentIdSet.addAll(findSharedOwnedDocuments(ownedDocumentIds, userId));
+    }
+
+    return documents.stream()
+        .map(doc -> DocumentListResponse.fromDocument(doc,
+            doc.hasLiveChildren(),
+            sharedDocumentIdSet.contains(doc.getId())))
+        .collect(Collectors.toList());
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,219 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.domain.document.dto.DocumentPropertyValueDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 데이터베이스(TABLE) 문서 하나의 자식 행/속성 값을 열 단위로 보관하는 메모리 테이블
+ *
+ * 행은 문서 ID 오름차순의 long 배열 하나로, 속성마다 같은 위치에 (값 ID, 값) 배열을 둡니다.
+ * 엔티티 그래프 대신 원시 배열과 문자열만 보관하므로 행당 힙 사용량이 작고, 행 조회는 이진 탐색입니다.
+ * 같은 (문서, 속성)에 값이 여러 개면 ID가 가장 큰 값을 사용합니다.
+ */
+final class DocumentTable {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long ARRAY_HEADER_BYTES = 16;
+    private static final long STRING_OVERHEAD_BYTES = 40;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Column> columns = new HashMap<>();
+    private long[] rowIds;
+    private int size;
+    private long bytes;
+
+    /**
+     * 한 속성의 값 열 (값이 없는 행은 valueIds가 0)
+     */
+    private static final class Column {
+        long[] valueIds;
+        String[] values;
+
+        Column(int capacity) {
+            valueIds = new long[capacity];
+            values = new String[capacity];
+        }
+    }
+
+    /**
+     * @param sortedRowIds 오름차순 정렬된 자식 문서 ID
+     */
+    DocumentTable(long[] sortedRowIds) {
+        this.rowIds = Arrays.copyOf(sortedRowIds, Math.max(INITIAL_CAPACITY, sortedRowIds.length));
+        this.size = sortedRowIds.length;
+        this.bytes = ARRAY_HEADER_BYTES + 8L * rowIds.length;
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    boolean addRow(long rowId) {
+        lock.writeLock().lock();
+        try {
+            int index = Arrays.binarySearch(rowIds, 0, size, rowId);
+            if (index >= 0) {
+                return false;
+            }
+            int insertAt = -index - 1;
+            if (size == rowIds.length) {
+                grow();
+            }
+            System.arraycopy(rowIds, insertAt, rowIds, insertAt + 1, size - insertAt);
+            rowIds[insertAt] = rowId;
+            for (Column column : columns.values()) {
+                System.arraycopy(column.valueIds, insertAt, column.valueIds, insertAt + 1, size - insertAt);
+                System.arraycopy(column.values, insertAt, column.values, insertAt + 1, size - insertAt);
+                column.valueIds[insertAt] = 0;
+                column.values[insertAt] = null;
+            }
+            size++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    boolean removeRow(long rowId) {
+        lock.writeLock().lock();
+        try {
+            int index = Arrays.binarySearch(rowIds, 0, size, rowId);
+            if (index < 0) {
+                return false;
+            }
+            int tail = size - index - 1;
+            System.arraycopy(rowIds, index + 1, rowIds, index, tail);
+            for (Column column : columns.values()) {
+                bytes -= stringBytes(column.values[index]);
+                System.arraycopy(column.valueIds, index + 1, column.valueIds, index, tail);
+                System.arraycopy(column.values, index + 1, column.values, index, tail);
+                column.valueIds[size - 1] = 0;
+                column.values[size - 1] = null;
+            }
+            size--;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 값 반영 (이 테이블의 행이 아니거나 더 최신 값이 이미 있으면 무시)
+     */
+    boolean put(long rowId, long propertyId, long valueId, String value) {
+        lock.writeLock().lock();
+        try {
+            int index = Arrays.binarySearch(rowIds, 0, size, rowId);
+            if (index < 0) {
+                return false;
+            }
+            Column column = columns.get(propertyId);
+            if (column == null) {
+                column = new Column(rowIds.length);
+                columns.put(propertyId, column);
+                bytes += columnBytes(rowIds.length);
+            }
+            if (column.valueIds[index] > valueId) {
+                return false;
+            }
+            bytes += stringBytes(value) - stringBytes(column.values[index]);
+            column.valueIds[index] = valueId;
+            column.values[index] = value;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeColumn(long propertyId) {
+        lock.writeLock().lock();
+        try {
+            Column column = columns.remove(propertyId);
+            if (column != null) {
+                bytes -= columnBytes(column.valueIds.length);
+                for (int i = 0; i < size; i++) {
+                    bytes -= stringBytes(column.values[i]);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 행의 속성 값 (행이 없거나 값이 없으면 null)
+     */
+    String value(long rowId, long propertyId) {
+        lock.readLock().lock();
+        try {
+            Column column = columns.get(propertyId);
+            int index = Arrays.binarySearch(rowIds, 0, size, rowId);
+            return column != null && index >= 0 ? column.values[index] : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<DocumentPropertyValueDto> toValueDtos() {
+        lock.readLock().lock();
+        try {
+            List<DocumentPropertyValueDto> dtos = new ArrayList<>();
+            columns.forEach((propertyId, column) -> {
+                for (int i = 0; i < size; i++) {
+                    if (column.valueIds[i] != 0) {
+                        dtos.add(DocumentPropertyValueDto.builder()
+                                .id(column.valueIds[i])
+                                .documentId(rowIds[i])
+                                .propertyId(propertyId)
+                                .value(column.values[i])
+                                .build());
+                    }
+                }
+            });
+            return dtos;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 메모리 예산 계산용 추정 크기 (배열 용량 + 문자열 UTF-16 바이트, 변경 시마다 증분 갱신)
+     */
+    long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void grow() {
+        int capacity = rowIds.length + (rowIds.length >> 1) + 1;
+        int added = capacity - rowIds.length;
+        rowIds = Arrays.copyOf(rowIds, capacity);
+        bytes += 8L * added + 12L * added * columns.size();
+        for (Column column : columns.values()) {
+            column.valueIds = Arrays.copyOf(column.valueIds, capacity);
+            column.values = Arrays.copyOf(column.values, capacity);
+        }
+    }
+
+    private static long columnBytes(int capacity) {
+        return 2 * ARRAY_HEADER_BYTES + 12L * capacity;
+    }
+
+    private static long stringBytes(String value) {
+        return value != null ? STRING_OVERHEAD_BYTES + 2L * value.length() : 0;
+    }
+}
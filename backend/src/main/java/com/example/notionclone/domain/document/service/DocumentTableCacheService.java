@@ -0,0 +1,203 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.domain.document.dto.DocumentPropertyValueDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * 데이터베이스(TABLE) 문서별 행/속성 값 열 캐시
+ *
+ * 부모 문서 ID를 키로 DocumentTable(자식 문서 ID 배열 + 속성별 값 배열)을 보관해,
+ * 같은 데이터베이스를 다시 열거나 스크롤/정렬할 때 엔티티 조회 없이 응답합니다.
+ *
+ * - 적재는 단일 쿼리(자식 문서 LEFT JOIN 값)이며, 레플리카 지연으로 오래된 스냅샷이 남지 않도록 프라이머리에서 읽음
+ * - 값 저장/문서 생성·휴지통/속성 삭제는 커밋 이후 캐시된 테이블에 증분 반영, 그 외 구조 변경은 테이블을 제거
+ * - 적재 쿼리는 캐시 잠금 밖에서 실행하고, 적재 중 같은 키에 커밋된 변경이 있으면(버전 불일치) 결과를 캐시하지 않음
+ * - 추정 바이트 합계(table-cache.max-bytes)로 메모리 예산을 제한하고, 마지막 접근 후 일정 시간이 지나면 만료
+ */
+@Slf4j
+@Service
+public class DocumentTableCacheService {
+    private static final int VERSION_STRIPES = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate loadTx;
+    private final Cache<Long, DocumentTable> tables;
+    /** 부모 ID 해시별 변경 버전 (커밋 후 반영/제거 시 증가, 적재 결과의 유효성 확인용) */
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    public DocumentTableCacheService(JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${table-cache.max-bytes:67108864}") long maxBytes,
+                                     @Value("${table-cache.ttl-minutes:30}") long ttlMinutes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.loadTx = new TransactionTemplate(transactionManager);
+        this.loadTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.tables = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long parentId, DocumentTable table) -> (int) Math.min(Integer.MAX_VALUE, table.estimatedBytes()))
+                .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, tables, "documentTable");
+        Gauge.builder("document.table.cache.bytes", tables,
+                        cache -> cache.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+                .description("테이블 뷰 열 캐시 추정 사용량")
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * 부모 문서의 자식 문서 속성 값 전체 (/children/property-values 응답)
+     */
+    public List<DocumentPropertyValueDto> getChildValues(Long parentId) {
+        return table(parentId).toValueDtos();
+    }
+
+    /**
+     * 주어진 자식 문서들의 한 속성 값 (정렬용, 값이 없는 문서는 제외)
+     */
+    public Map<Long, String> getColumnValues(Long parentId, Long propertyId, Collection<Long> rowIds) {
+        DocumentTable table = table(parentId);
+        Map<Long, String> values = new HashMap<>();
+        for (Long rowId : rowIds) {
+            String value = table.value(rowId, propertyId);
+            if (value != null) {
+                values.put(rowId, value);
+            }
+        }
+        return values;
+    }
+
+    public void valueChanged(Long parentId, Long documentId, Long propertyId, Long valueId, String value) {
+        update(parentId, table -> table.put(documentId, propertyId, valueId, value));
+    }
+
+    public void rowAdded(Long parentId, Long documentId) {
+        update(parentId, table -> table.addRow(documentId));
+    }
+
+    public void rowRemoved(Long parentId, Long documentId) {
+        update(parentId, table -> table.removeRow(documentId));
+    }
+
+    public void propertyRemoved(Long parentId, Long propertyId) {
+        update(parentId, table -> table.removeColumn(propertyId));
+    }
+
+    /**
+     * 증분 반영이 어려운 변경(복원, 이동, 복제, 버전 복구 등) 후 테이블 제거
+     */
+    public void invalidate(Long parentId) {
+        if (parentId != null) {
+            afterCommit(() -> {
+                versions.incrementAndGet(stripe(parentId));
+                tables.invalidate(parentId);
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        afterCommit(() -> {
+            for (int i = 0; i < VERSION_STRIPES; i++) {
+                versions.incrementAndGet(i);
+            }
+            tables.invalidateAll();
+        });
+    }
+
+    /**
+     * 캐시에 없으면 잠금 밖에서 적재한 뒤, 적재 시작 이후 같은 키에 커밋된 변경이 없을 때만 캐시에 넣습니다.
+     * 변경이 있었다면 이번 요청에는 적재한 테이블을 그대로 쓰고 다음 조회에서 다시 적재합니다.
+     */
+    private DocumentTable table(Long parentId) {
+        DocumentTable cached = tables.getIfPresent(parentId);
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripe(parentId);
+        long version = versions.get(stripe);
+        DocumentTable loaded = load(parentId);
+        DocumentTable current = tables.asMap().compute(parentId, (id, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            return versions.get(stripe) == version ? loaded : null;
+        });
+        return current != null ? current : loaded;
+    }
+
+    private static int stripe(Long parentId) {
+        return Math.floorMod(Long.hashCode(parentId), VERSION_STRIPES);
+    }
+
+    private DocumentTable load(Long parentId) {
+        long start = System.currentTimeMillis();
+        DocumentTable table = new DocumentTable(new long[0]);
+        // 문서 ID 순으로 읽으므로 행 추가는 항상 배열 끝에 붙음
+        loadTx.executeWithoutResult(status -> jdbcTemplate.query(
+                "SELECT d.id, v.id, v.property_id, v.value FROM documents d " +
+                "LEFT JOIN document_property_values v ON v.document_id = d.id " +
+                "WHERE d.parent_id = ? AND d.is_trashed = false ORDER BY d.id, v.id",
+                rs -> {
+                    long rowId = rs.getLong(1);
+                    table.addRow(rowId);
+                    long valueId = rs.getLong(2);
+                    if (!rs.wasNull()) {
+                        table.put(rowId, rs.getLong(3), valueId, rs.getString(4));
+                    }
+                },
+                parentId));
+        log.debug("테이블 열 캐시 적재: parentId={}, {}행 ({}ms)", parentId, table.size(), System.currentTimeMillis() - start);
+        return table;
+    }
+
+    /**
+     * 커밋 이후 캐시된 테이블에만 반영하고 가중치를 다시 계산 (캐시에 없으면 다음 조회 때 적재)
+     */
+    private void update(Long parentId, Consumer<DocumentTable> change) {
+        if (parentId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            // 버전을 먼저 올려 진행 중인 적재가 이 변경 이전 스냅샷을 캐시에 넣지 못하게 함
+            versions.incrementAndGet(stripe(parentId));
+            tables.asMap().computeIfPresent(parentId, (id, table) -> {
+                change.accept(table);
+                return table;
+            });
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
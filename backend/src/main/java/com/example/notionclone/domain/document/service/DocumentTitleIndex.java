@@ -0,0 +1,487 @@
+package com.example.notionclone.domain.document.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+/**
+ * 워크스페이스 단위 문서 제목 접두사 색인 (자동완성/빠른 찾기용)
+ *
+ * 제목의 단어 시작 위치(한글 등 CJK는 글자마다)를 접미사 배열처럼 정렬해 두고,
+ * 입력한 접두사로 이진 탐색한 구간에서 최근 수정순 상위 k개를 고릅니다.
+ * 항목은 (슬롯 << 16 | 오프셋) long 값으로 저장하여 객체 할당 없이 비교합니다.
+ *
+ * 일치 구간이 넓은 짧은 접두사는 구간 전체를 훑지 않고 최근 수정순 슬롯 배열을 앞에서부터 확인해 k개를 채우면 멈춥니다.
+ *
+ * 제목/수정 시각 변경은 정렬 배열을 다시 만들지 않고 변경 슬롯(dirty)으로 표시해 조회 시 따로 확인하며,
+ * 변경 슬롯이 쌓이면 compact()가 락 밖에서 새 정렬 배열을 만들어 교체합니다.
+ */
+class DocumentTitleIndex {
+    static final int COMPACT_THRESHOLD = 256;
+    private static final int RANGE_SCAN_LIMIT = 2048;
+    private static final int MAX_OFFSET = 0xFFFF;
+
+    private long[] docIds = new long[16];
+    private String[] titles = new String[16];
+    private String[] keys = new String[16];
+    private String[] viewTypes = new String[16];
+    private long[] ownerIds = new long[16];
+    private long[] modifiedAt = new long[16];
+    private int slotCount;
+    private final Map<Long, Integer> slotByDocId = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    private Snapshot snapshot = new Snapshot(new String[0], new long[0], new int[0], new long[0]);
+    private Set<Integer> dirty = new HashSet<>();
+    private Set<Integer> dirtyDuringCompaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    /**
+     * 정렬된 항목과 정렬 당시의 키/수정 시각 (변경 슬롯의 현재 값과 무관하게 정렬 순서가 유지됨)
+     *
+     * @param byRecency 수정 시각 내림차순 슬롯 번호
+     */
+    private record Snapshot(String[] keys, long[] entries, int[] byRecency, long[] modifiedAt) {
+    }
+
+    record Match(long docId, String title, String viewType, long modifiedAt) {
+    }
+
+    boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 초기 적재 (쓰기 락 안에서 정렬 배열까지 구축한 뒤 ready 표시)
+     * 진행 중인 compact()가 있으면 그 결과가 나중에 스냅샷을 덮어쓰므로, 적재한 슬롯을 변경 슬롯으로 남겨
+     * 교체 이후에도 조회되고 다음 compact()에서 정렬 배열에 합쳐지게 합니다.
+     */
+    void load(List<Match> documents, Map<Long, Long> owners) {
+        lock.writeLock().lock();
+        try {
+            for (Match doc : documents) {
+                putLocked(doc.docId(), doc.title(), owners.getOrDefault(doc.docId(), 0L), doc.viewType(), doc.modifiedAt());
+            }
+            if (dirtyDuringCompaction == null) {
+                String[] capturedKeys = Arrays.copyOf(keys, slotCount);
+                long[] capturedModifiedAt = Arrays.copyOf(modifiedAt, slotCount);
+                snapshot = new Snapshot(capturedKeys, buildEntries(capturedKeys),
+                        buildRecencyOrder(capturedKeys, capturedModifiedAt, Arrays.copyOf(docIds, slotCount)), capturedModifiedAt);
+                dirty = new HashSet<>();
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void put(long docId, String title, long ownerId, String viewType, long modifiedAt) {
+        lock.writeLock().lock();
+        try {
+            putLocked(docId, title, ownerId, viewType, modifiedAt);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putLocked(long docId, String title, long ownerId, String viewType, long modified) {
+        String key = normalize(title);
+        Integer slot = slotByDocId.get(docId);
+        if (key.isEmpty()) {
+            // 제목 없는 문서는 찾을 수 없으므로 색인하지 않음
+            if (slot != null) {
+                removeLocked(docId);
+            }
+            return;
+        }
+        if (slot == null) {
+            slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.pop();
+            ensureCapacity(slotCount);
+            slotByDocId.put(docId, slot);
+        } else if (key.equals(keys[slot])) {
+            // 키가 같으면 접두사 정렬 위치는 그대로, 수정 시각이 바뀌면 최근순 위치만 달라짐
+            titles[slot] = title;
+            viewTypes[slot] = viewType;
+            if (modified > modifiedAt[slot]) {
+                modifiedAt[slot] = modified;
+                markDirty(slot);
+            }
+            return;
+        }
+        docIds[slot] = docId;
+        titles[slot] = title;
+        keys[slot] = key;
+        viewTypes[slot] = viewType;
+        ownerIds[slot] = ownerId;
+        modifiedAt[slot] = modified;
+        markDirty(slot);
+    }
+
+    void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long docId) {
+        Integer slot = slotByDocId.remove(docId);
+        if (slot == null) {
+            return;
+        }
+        keys[slot] = null;
+        titles[slot] = null;
+        viewTypes[slot] = null;
+        markDirty(slot);
+        freeSlots.push(slot);
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return slotByDocId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            return dirty.size() >= COMPACT_THRESHOLD && dirtyDuringCompaction == null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 접두사로 시작하는 단어를 가진 문서 중 visible인 문서를 최근 수정순으로 최대 limit건
+     *
+     * @param visibleOwner 소유자 ID로 가시성 판단 (true면 보임)
+     * @param visibleDoc 문서 ID로 가시성 판단 (공유받은 문서)
+     */
+    List<Match> lookup(String prefix, int limit, LongPredicate visibleOwner, LongPredicate visibleDoc) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Comparator<Integer> recency = Comparator.<Integer>comparingLong(s -> modifiedAt[s]).thenComparingLong(s -> docIds[s]);
+            PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, recency);
+            IntPredicate visible = slot -> visibleOwner.test(ownerIds[slot]) || visibleDoc.test(docIds[slot]);
+
+            Snapshot s = snapshot;
+            long[] entries = s.entries();
+            String[] snapshotKeys = s.keys();
+            int from = lowerBound(s, key);
+            int to = lowerBound(s, key + Character.MAX_VALUE);
+            if (to - from <= RANGE_SCAN_LIMIT) {
+                for (int i = from; i < to; i++) {
+                    int slot = (int) (entries[i] >>> 16);
+                    if (!dirty.contains(slot)) {
+                        offer(top, slot, limit, visible);
+                    }
+                }
+            } else {
+                // 일치 항목이 많으면 최근순으로 확인하다가 상위 k개보다 오래된 슬롯에서 중단
+                for (int slot : s.byRecency()) {
+                    if (top.size() >= limit && s.modifiedAt()[slot] < modifiedAt[top.peek()]) {
+                        break;
+                    }
+                    if (!dirty.contains(slot) && matchesWordStart(snapshotKeys[slot], key)) {
+                        offer(top, slot, limit, visible);
+                    }
+                }
+            }
+            for (int slot : dirty) {
+                String current = keys[slot];
+                if (current != null && matchesWordStart(current, key)) {
+                    offer(top, slot, limit, visible);
+                }
+            }
+
+            List<Integer> slots = new ArrayList<>(top);
+            slots.sort(recency.reversed());
+            List<Match> result = new ArrayList<>(slots.size());
+            for (int slot : slots) {
+                result.add(new Match(docIds[slot], titles[slot], viewTypes[slot], modifiedAt[slot]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void offer(PriorityQueue<Integer> top, int slot, int limit, IntPredicate visible) {
+        if (top.size() >= limit) {
+            int weakest = top.peek();
+            if (modifiedAt[slot] < modifiedAt[weakest]
+                    || (modifiedAt[slot] == modifiedAt[weakest] && docIds[slot] <= docIds[weakest])) {
+                return;
+            }
+        }
+        // 한 제목이 여러 위치에서 일치할 수 있으므로 중복 제거 (top은 최대 limit개)
+        if (top.contains(slot) || !visible.test(slot)) {
+            return;
+        }
+        top.offer(slot);
+        if (top.size() > limit) {
+            top.poll();
+        }
+    }
+
+    /**
+     * 변경 슬롯을 반영한 새 정렬 배열을 락 밖에서 만들어 교체
+     */
+    void compact() {
+        String[] capturedKeys;
+        long[] capturedModifiedAt;
+        long[] capturedDocIds;
+        lock.writeLock().lock();
+        try {
+            if (dirtyDuringCompaction != null) {
+                return;
+            }
+            capturedKeys = Arrays.copyOf(keys, slotCount);
+            capturedModifiedAt = Arrays.copyOf(modifiedAt, slotCount);
+            capturedDocIds = Arrays.copyOf(docIds, slotCount);
+            dirtyDuringCompaction = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long[] entries;
+        int[] byRecency;
+        try {
+            entries = buildEntries(capturedKeys);
+            byRecency = buildRecencyOrder(capturedKeys, capturedModifiedAt, capturedDocIds);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                dirtyDuringCompaction = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            snapshot = new Snapshot(capturedKeys, entries, byRecency, capturedModifiedAt);
+            // 정렬 중에 바뀐 슬롯만 계속 변경 슬롯으로 남김
+            dirty = dirtyDuringCompaction;
+            dirtyDuringCompaction = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void markDirty(int slot) {
+        dirty.add(slot);
+        if (dirtyDuringCompaction != null) {
+            dirtyDuringCompaction.add(slot);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= docIds.length) {
+            return;
+        }
+        int newLength = Math.max(capacity, docIds.length + (docIds.length >> 1));
+        docIds = Arrays.copyOf(docIds, newLength);
+        titles = Arrays.copyOf(titles, newLength);
+        keys = Arrays.copyOf(keys, newLength);
+        viewTypes = Arrays.copyOf(viewTypes, newLength);
+        ownerIds = Arrays.copyOf(ownerIds, newLength);
+        modifiedAt = Arrays.copyOf(modifiedAt, newLength);
+    }
+
+    // --- 정렬 배열 구축/탐색 ---
+
+    private static long[] buildEntries(String[] keys) {
+        int count = 0;
+        for (String key : keys) {
+            if (key != null) {
+                count += wordStarts(key).length;
+            }
+        }
+        long[] entries = new long[count];
+        int n = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] == null) {
+                continue;
+            }
+            for (int offset : wordStarts(keys[slot])) {
+                entries[n++] = ((long) slot << 16) | offset;
+            }
+        }
+        sort(entries, keys, 0, n - 1);
+        return entries;
+    }
+
+    private static int[] buildRecencyOrder(String[] keys, long[] modifiedAt, long[] docIds) {
+        List<Integer> slots = new ArrayList<>();
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != null) {
+                slots.add(slot);
+            }
+        }
+        slots.sort(Comparator.<Integer>comparingLong(slot -> modifiedAt[slot])
+                .thenComparingLong(slot -> docIds[slot])
+                .reversed());
+        return slots.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * key 이상인 첫 항목 위치
+     */
+    private static int lowerBound(Snapshot s, String key) {
+        long[] entries = s.entries();
+        int lo = 0;
+        int hi = entries.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            long e = entries[mid];
+            if (compareSuffix(s.keys()[(int) (e >>> 16)], (int) (e & MAX_OFFSET), key, 0) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int compareSuffix(String a, int aOffset, String b, int bOffset) {
+        int aLength = a.length() - aOffset;
+        int bLength = b.length() - bOffset;
+        int limit = Math.min(aLength, bLength);
+        for (int k = 0; k < limit; k++) {
+            char ca = a.charAt(aOffset + k);
+            char cb = b.charAt(bOffset + k);
+            if (ca != cb) {
+                return ca - cb;
+            }
+        }
+        return aLength - bLength;
+    }
+
+    private static int compareEntries(long x, long y, String[] keys) {
+        return compareSuffix(keys[(int) (x >>> 16)], (int) (x & MAX_OFFSET), keys[(int) (y >>> 16)], (int) (y & MAX_OFFSET));
+    }
+
+    /**
+     * long[] 항목을 접미사 순서로 정렬하는 제자리 퀵정렬 (박싱 없이 정렬하기 위함)
+     */
+    private static void sort(long[] a, String[] keys, int lo, int hi) {
+        while (lo < hi) {
+            if (hi - lo < 16) {
+                for (int i = lo + 1; i <= hi; i++) {
+                    long v = a[i];
+                    int j = i - 1;
+                    while (j >= lo && compareEntries(a[j], v, keys) > 0) {
+                        a[j + 1] = a[j];
+                        j--;
+                    }
+                    a[j + 1] = v;
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            if (compareEntries(a[mid], a[lo], keys) < 0) swap(a, lo, mid);
+            if (compareEntries(a[hi], a[lo], keys) < 0) swap(a, lo, hi);
+            if (compareEntries(a[hi], a[mid], keys) < 0) swap(a, mid, hi);
+            long pivot = a[mid];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (compareEntries(a[i], pivot, keys) < 0) i++;
+                while (compareEntries(a[j], pivot, keys) > 0) j--;
+                if (i <= j) {
+                    swap(a, i++, j--);
+                }
+            }
+            // 작은 쪽만 재귀하여 스택 깊이를 O(log n)으로 제한
+            if (j - lo < hi - i) {
+                sort(a, keys, lo, j);
+                lo = i;
+            } else {
+                sort(a, keys, i, hi);
+                hi = j;
+            }
+        }
+    }
+
+    private static void swap(long[] a, int i, int j) {
+        long t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    // --- 정규화/단어 시작 위치 ---
+
+    /**
+     * 소문자/NFKC 정규화 후 연속 공백을 하나로 줄인 키
+     */
+    static String normalize(String title) {
+        if (title == null) {
+            return "";
+        }
+        return DocumentSearchTokenizer.normalize(title).trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 단어 시작 위치 (문자열 처음, 글자/숫자가 아닌 문자 다음), 한글 등 CJK는 모든 글자 위치
+     */
+    static int[] wordStarts(String key) {
+        int[] starts = new int[Math.min(key.length(), MAX_OFFSET)];
+        int n = 0;
+        boolean previousIsWord = false;
+        int i = 0;
+        while (i < key.length() && i < MAX_OFFSET) {
+            int cp = key.codePointAt(i);
+            boolean isWord = Character.isLetterOrDigit(cp);
+            if (isWord && (!previousIsWord || DocumentSearchTokenizer.isCjk(cp))) {
+                starts[n++] = i;
+            } else if (!isWord && i == 0) {
+                starts[n++] = i;
+            }
+            previousIsWord = isWord;
+            i += Character.charCount(cp);
+        }
+        return Arrays.copyOf(starts, n);
+    }
+
+    /**
+     * wordStarts 위치 중 하나가 prefix로 시작하는지 (배열 할당 없이 확인)
+     */
+    private static boolean matchesWordStart(String key, String prefix) {
+        boolean previousIsWord = false;
+        int i = 0;
+        while (i < key.length() && i < MAX_OFFSET) {
+            int cp = key.codePointAt(i);
+            boolean isWord = Character.isLetterOrDigit(cp);
+            boolean start = isWord ? !previousIsWord || DocumentSearchTokenizer.isCjk(cp) : i == 0;
+            if (start && key.startsWith(prefix, i)) {
+                return true;
+            }
+            previousIsWord = isWord;
+            i += Character.charCount(cp);
+        }
+        return false;
+    }
+}
@@ -6,6 +6,7 @@ import com.example.notionclone.domain.document.entity.DocumentProperty;
 import com.example.notionclone.domain.document.entity.DocumentPropertyValue;
 import com.example.notionclone.domain.document.entity.DocumentVersion;
 import com.example.notionclone.domain.document.entity.PropertyType;
+import com.example.notionclone.domain.document.entity.ViewType;
 import com.example.notionclone.domain.document.repository.DocumentPropertyRepository;
 import com.example.notionclone.domain.document.repository.DocumentPropertyValueRepository;
 import com.example.notionclone.domain.document.repository.DocumentRepository;
@@ -38,6 +39,9 @@ public class DocumentVersionService {
     private final DocumentRepository documentRepository;
     private final DocumentPropertyRepository propertyRepository;
     private final DocumentPropertyValueRepository valueRepository;
+    private final DocumentContentService documentContentService;
+    private final DocumentSearchService documentSearchService;
+    private final DocumentTableCacheService documentTableCacheService;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Transactional
@@ -48,7 +52,7 @@ public class DocumentVersionService {
         String snapshotHash = computeSnapshotHash(req);
 
         // 동일 스냅샷 중복 방지
-        if (versionRepository.findFirstByDocumentAndSnapshotHash(document, snapshotHash).isPresent()) {
+        if (versionRepository.existsByDocumentAndSnapshotHash(document, snapshotHash)) {
             return null; // 이미 존재 → 생성 스킵
         }
 
@@ -84,15 +88,16 @@ public class DocumentVersionService {
         Document document = documentRepository.findById(documentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Document not found with id: " + documentId));
         Pageable pageable = PageRequest.of(page, size);
-        Page<DocumentVersion> result = versionRepository.findByDocumentOrderByCreatedAtDesc(document, pageable);
+        // 목록에는 스냅샷 본문이 필요 없으므로 압축 컬럼을 제외하고 조회
+        Page<Object[]> result = versionRepository.findSummariesByDocument(document, pageable);
         List<DocumentVersionDtos.ResponseItem> items = result.getContent().stream()
-                .map(v -> DocumentVersionDtos.ResponseItem.builder()
-                        .id(v.getId())
-                        .title(v.getTitle())
-                        .viewType(v.getViewType())
-                        .titleWidth(v.getTitleColumnWidth())
-                        .createdBy(v.getCreatedBy())
-                        .createdAt(v.getCreatedAt())
+                .map(row -> DocumentVersionDtos.ResponseItem.builder()
+                        .id((Long) row[0])
+                        .title((String) row[1])
+                        .viewType((ViewType) row[2])
+                        .titleWidth((Integer) row[3])
+                        .createdBy((String) row[4])
+                        .createdAt((LocalDateTime) row[5])
                         .locked(false)
                         .build())
                 .collect(Collectors.toList());
@@ -129,10 +134,17 @@ public class DocumentVersionService {
         }
 
         // 1) 문서 기본 필드 복구
-        document.update(version.getTitle(), version.getContent());
+        document.updateTitle(version.getTitle());
+        documentContentService.saveContent(document, version.getContent());
         document.setViewType(version.getViewType());
         document.setTitleColumnWidth(version.getTitleColumnWidth());
         documentRepository.save(document);
+        documentSearchService.markChanged(document.getId());
+        // 문서 자신의 속성(자식 행의 열)과 부모 테이블에서의 값이 모두 재작성되므로 두 테이블 모두 제거
+        documentTableCacheService.invalidate(document.getId());
+        if (document.getParent() != null) {
+            documentTableCacheService.invalidate(document.getParent().getId());
+        }
 
         // 2) 속성/값 복구 (단순전략: 재작성)
         try {
@@ -1,11 +1,13 @@
 package com.example.notionclone.domain.document.service;
 
 import com.example.notionclone.domain.document.entity.Document;
+import com.example.notionclone.domain.document.entity.DocumentContent;
 import com.example.notionclone.domain.document.entity.DocumentProperty;
 import com.example.notionclone.domain.document.entity.DocumentPropertyValue;
 import com.example.notionclone.domain.document.entity.PropertyType;
 import com.example.notionclone.domain.document.entity.ViewType;
 import com.example.notionclone.domain.workspace.entity.Workspace;
+import com.example.notionclone.domain.document.repository.DocumentContentRepository;
 import com.example.notionclone.domain.document.repository.DocumentRepository;
 import com.example.notionclone.domain.document.repository.DocumentPropertyRepository;
 import com.example.notionclone.domain.document.repository.DocumentPropertyValueRepository;
@@ -39,6 +41,10 @@ public class DummyDataService {
     private final PasswordEncoder passwordEncoder;
     private final JdbcTemplate jdbcTemplate;
     private final DocumentPropertyValueRepository documentPropertyValueRepository;
+    private final DocumentChildCountService documentChildCountService;
+    private final DocumentContentRepository documentContentRepository;
+    private final DocumentSearchService documentSearchService;
+    private final DocumentTableCacheService documentTableCacheService;
 
     private static final String[] SAMPLE_TITLES = {
             "프로젝트 계획서", "회의록", "기술 문서", "사용자 가이드", "API 문서",
@@ -99,7 +105,20 @@ public class DummyDataService {
             // 배치 인서트로 문서 저장
             long startTime = System.currentTimeMillis();
             documentRepository.saveAll(documents);
+            documentContentRepository.saveAll(documents.stream()
+                    .map(document -> DocumentContent.builder()
+                            .document(document)
+                            .body(generateContent(dataType))
+                            .build())
+                    .toList());
             long endTime = System.currentTimeMillis();
+            if (parentId != null) {
+                documentRepository.flush();
+                documentChildCountService.recount(parentId);
+            }
+
+            documentSearchService.markChanged(documents.stream().map(Document::getId).toList());
+            documentTableCacheService.invalidateAll();
 
             // 각 문서에 속성 추가 (부모 속성 상속)
             List<DocumentProperty> allProperties = new ArrayList<>();
@@ -157,10 +176,24 @@ public class DummyDataService {
             int deletedPropertiesByName = jdbcTemplate.update("DELETE FROM document_properties WHERE name LIKE 'Dummy%'");
             log.info("이름으로 삭제된 속성 개수: " + deletedPropertiesByName);
             
-            // 6. 문서 삭제 (가장 상위)
+            // 6. 문서 본문 삭제
+            int deletedBlocks = jdbcTemplate.update("DELETE FROM document_blocks WHERE document_id IN (SELECT id FROM documents WHERE title LIKE 'Dummy%')");
+            int deletedContents = jdbcTemplate.update("DELETE FROM document_contents WHERE document_id IN (SELECT id FROM documents WHERE title LIKE 'Dummy%')");
+            log.info("삭제된 문서 본문 개수: " + deletedContents + " (블록 " + deletedBlocks + ")");
+
+            // 7. 문서 삭제 (가장 상위) - 남는 부모 문서의 자식 수를 다시 세기 위해 부모 ID를 먼저 수집
+            List<Long> parentIds = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT parent_id FROM documents WHERE title LIKE 'Dummy%' AND parent_id IS NOT NULL", Long.class);
             int deletedDocuments = jdbcTemplate.update("DELETE FROM documents WHERE title LIKE 'Dummy%'");
             log.info("삭제된 문서 개수: " + deletedDocuments);
+
+            // 8. 남은 부모 문서의 live_child_count 재계산 (함께 삭제된 부모는 갱신 대상 없음)
+            for (Long parentId : parentIds) {
+                documentChildCountService.recount(parentId);
+            }
             
+            documentSearchService.invalidateAll();
+            documentTableCacheService.invalidateAll();
             log.info("더미 데이터 삭제 완료");
         } catch (Exception e) {
             log.error("더미 데이터 삭제 중 오류 발생: " + e.getMessage(), e);
@@ -211,6 +244,9 @@ public class DummyDataService {
                 log.warn("인덱스 생성 실패 (이미 존재할 수 있음): idx_documents_is_trashed - " + e.getMessage());
             }
 
+            // 문서 자식 수(live_child_count) 검증 및 보정
+            documentChildCountService.repair();
+
             // PostgreSQL 통계 업데이트
             try {
                 jdbcTemplate.update("ANALYZE documents");
@@ -343,7 +379,6 @@ public class DummyDataService {
         for (int i = 0; i < count; i++) {
             Document document = Document.builder()
                     .title("Dummy Document " + (i + 1) + " - " + getRandomTitle())
-                    .content(generateContent(dataType))
                     .viewType(ViewType.PAGE)
                     .workspace(workspace)
                     .user(owner)
@@ -0,0 +1,109 @@
+package com.example.notionclone.domain.document.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 에디터 HTML 본문을 최상위 노드 단위 조각으로 분할 (전체 본문 저장 시 블록 비교용)
+ *
+ * 조각을 순서대로 이어 붙이면 원문과 정확히 같습니다. 최상위 요소 사이의 텍스트/공백은 다음 요소 조각에 붙습니다.
+ * 완전한 HTML 파서가 아니며 태그 깊이만 추적합니다 (빈 요소, 자체 닫힘 태그, 주석, script/style 본문 처리).
+ */
+final class HtmlBlockSplitter {
+    private static final Set<String> VOID_ELEMENTS = Set.of(
+            "area", "base", "br", "col", "embed", "hr", "img", "input", "link", "meta", "source", "track", "wbr");
+
+    private HtmlBlockSplitter() {
+    }
+
+    static List<String> split(String html) {
+        List<String> segments = new ArrayList<>();
+        if (html == null || html.isEmpty()) {
+            return segments;
+        }
+        int length = html.length();
+        int start = 0;
+        int depth = 0;
+        int i = 0;
+        while (i < length) {
+            if (html.charAt(i) != '<') {
+                i++;
+                continue;
+            }
+            int end;
+            if (html.startsWith("<!--", i)) {
+                end = indexAfter(html, "-->", i + 4);
+            } else if (html.startsWith("</", i)) {
+                end = tagEnd(html, i);
+                depth = Math.max(0, depth - 1);
+            } else if (i + 1 < length && (html.charAt(i + 1) == '!' || html.charAt(i + 1) == '?')) {
+                end = tagEnd(html, i);
+            } else if (i + 1 < length && Character.isLetter(html.charAt(i + 1))) {
+                end = tagEnd(html, i);
+                String name = tagName(html, i + 1);
+                boolean selfClosing = end >= 2 && html.charAt(end - 2) == '/';
+                if (name.equals("script") || name.equals("style")) {
+                    // 본문의 '<'를 태그로 해석하지 않도록 닫는 태그까지 건너뜀
+                    int close = html.toLowerCase(Locale.ROOT).indexOf("</" + name, end);
+                    end = close < 0 ? length : tagEnd(html, close);
+                } else if (!selfClosing && !VOID_ELEMENTS.contains(name)) {
+                    depth++;
+                }
+            } else {
+                // 태그가 아닌 '<' 문자
+                i++;
+                continue;
+            }
+            i = end;
+            if (depth == 0) {
+                segments.add(html.substring(start, end));
+                start = end;
+            }
+        }
+        if (start < length) {
+            if (depth == 0 && !segments.isEmpty() && html.substring(start).isBlank()) {
+                // 끝의 공백은 마지막 조각에 붙임
+                int last = segments.size() - 1;
+                segments.set(last, segments.get(last) + html.substring(start));
+            } else {
+                segments.add(html.substring(start));
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * 따옴표 안의 '>'를 건너뛰어 태그 끝 다음 위치를 반환 (닫히지 않았으면 문자열 끝)
+     */
+    private static int tagEnd(String html, int from) {
+        char quote = 0;
+        for (int i = from + 1; i < html.length(); i++) {
+            char c = html.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                return i + 1;
+            }
+        }
+        return html.length();
+    }
+
+    private static int indexAfter(String html, String token, int from) {
+        int index = html.indexOf(token, from);
+        return index < 0 ? html.length() : index + token.length();
+    }
+
+    private static String tagName(String html, int from) {
+        int i = from;
+        while (i < html.length() && (Character.isLetterOrDigit(html.charAt(i)) || html.charAt(i) == '-')) {
+            i++;
+        }
+        return html.substring(from, i).toLowerCase(Locale.ROOT);
+    }
+}
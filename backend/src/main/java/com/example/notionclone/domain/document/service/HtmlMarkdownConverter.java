@@ -0,0 +1,107 @@
+package com.example.notionclone.domain.document.service;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 에디터 HTML 본문을 Markdown으로 변환 (내보내기용)
+ *
+ * 에디터가 만드는 태그(제목, 문단, 목록, 체크리스트, 인용, 코드, 링크, 이미지, 강조)만 변환하고
+ * 나머지 태그는 제거합니다. 완전한 HTML 파서가 아니므로 중첩 목록은 한 단계로 펼쳐집니다.
+ */
+final class HtmlMarkdownConverter {
+    private static final Pattern SCRIPT = Pattern.compile("(?is)<(script|style)[^>]*>.*?</\\1>");
+    private static final Pattern HEADING = Pattern.compile("(?is)<h([1-6])[^>]*>(.*?)</h\\1>");
+    private static final Pattern PRE = Pattern.compile("(?is)<pre[^>]*>\\s*(?:<code[^>]*>)?(.*?)(?:</code>)?\\s*</pre>");
+    private static final Pattern CODE = Pattern.compile("(?is)<code[^>]*>(.*?)</code>");
+    private static final Pattern STRONG = Pattern.compile("(?is)<(strong|b)(\\s[^>]*)?>(.*?)</\\1>");
+    private static final Pattern EM = Pattern.compile("(?is)<(em|i)(\\s[^>]*)?>(.*?)</\\1>");
+    private static final Pattern STRIKE = Pattern.compile("(?is)<(s|del|strike)(\\s[^>]*)?>(.*?)</\\1>");
+    private static final Pattern LINK = Pattern.compile("(?is)<a\\s[^>]*href=\"([^\"]*)\"[^>]*>(.*?)</a>");
+    private static final Pattern IMAGE = Pattern.compile("(?is)<img\\s[^>]*?src=\"([^\"]*)\"[^>]*>");
+    private static final Pattern ALT = Pattern.compile("(?is)alt=\"([^\"]*)\"");
+    private static final Pattern ORDERED_LIST = Pattern.compile("(?is)<ol[^>]*>(.*?)</ol>");
+    private static final Pattern LIST_ITEM = Pattern.compile("(?is)<li([^>]*)>(.*?)</li>");
+    private static final Pattern BLOCKQUOTE = Pattern.compile("(?is)<blockquote[^>]*>(.*?)</blockquote>");
+    private static final Pattern BREAK = Pattern.compile("(?i)<br\\s*/?>");
+    private static final Pattern RULE = Pattern.compile("(?i)<hr\\s*/?>");
+    private static final Pattern BLOCK_END = Pattern.compile("(?i)</(p|div|ul|ol|table|tr)>");
+    private static final Pattern CELL_END = Pattern.compile("(?i)</(td|th)>");
+    private static final Pattern ANY_TAG = Pattern.compile("<[^>]*>");
+    private static final Pattern NUMERIC_ENTITY = Pattern.compile("&#(x?)([0-9a-fA-F]+);");
+    private static final Pattern BLANK_LINES = Pattern.compile("\\n{3,}");
+
+    private HtmlMarkdownConverter() {
+    }
+
+    static String toMarkdown(String html) {
+        if (html == null || html.isBlank()) {
+            return "";
+        }
+        String s = SCRIPT.matcher(html).replaceAll("");
+        s = PRE.matcher(s).replaceAll(m -> quote("\n```\n" + m.group(1) + "\n```\n\n"));
+        s = HEADING.matcher(s).replaceAll(m -> quote("\n" + "#".repeat(Integer.parseInt(m.group(1))) + " " + m.group(2).trim() + "\n\n"));
+        s = CODE.matcher(s).replaceAll(m -> quote("`" + m.group(1) + "`"));
+        s = STRONG.matcher(s).replaceAll(m -> quote("**" + m.group(3) + "**"));
+        s = EM.matcher(s).replaceAll(m -> quote("*" + m.group(3) + "*"));
+        s = STRIKE.matcher(s).replaceAll(m -> quote("~~" + m.group(3) + "~~"));
+        s = IMAGE.matcher(s).replaceAll(m -> {
+            Matcher alt = ALT.matcher(m.group());
+            return quote("![" + (alt.find() ? alt.group(1) : "") + "](" + m.group(1) + ")");
+        });
+        s = LINK.matcher(s).replaceAll(m -> quote("[" + m.group(2) + "](" + m.group(1) + ")"));
+        s = ORDERED_LIST.matcher(s).replaceAll(m -> quote(listItems(m.group(1), true) + "\n"));
+        s = listItems(s, false);
+        s = BLOCKQUOTE.matcher(s).replaceAll(m -> {
+            String text = stripTags(BLOCK_END.matcher(m.group(1)).replaceAll("\n")).trim();
+            return quote("\n> " + text.replace("\n", "\n> ") + "\n\n");
+        });
+        s = BREAK.matcher(s).replaceAll("  \n");
+        s = RULE.matcher(s).replaceAll("\n---\n\n");
+        s = CELL_END.matcher(s).replaceAll(" | ");
+        s = BLOCK_END.matcher(s).replaceAll("\n\n");
+        s = decodeEntities(stripTags(s));
+        return BLANK_LINES.matcher(s).replaceAll("\n\n").trim();
+    }
+
+    private static String listItems(String html, boolean ordered) {
+        return LIST_ITEM.matcher(html).replaceAll(m -> {
+            String attributes = m.group(1);
+            String marker;
+            if (attributes.contains("data-checked=\"true\"")) {
+                marker = "- [x] ";
+            } else if (attributes.contains("data-checked=\"false\"")) {
+                marker = "- [ ] ";
+            } else {
+                // Markdown 렌더러가 번호를 다시 매기므로 순서 목록은 모두 "1."로 표기
+                marker = ordered ? "1. " : "- ";
+            }
+            return quote(marker + stripTags(m.group(2)).trim() + "\n");
+        });
+    }
+
+    private static String stripTags(String html) {
+        return ANY_TAG.matcher(html).replaceAll("");
+    }
+
+    private static String decodeEntities(String text) {
+        String s = NUMERIC_ENTITY.matcher(text).replaceAll(m -> {
+            try {
+                int cp = Integer.parseInt(m.group(2), m.group(1).isEmpty() ? 10 : 16);
+                return quote(new String(Character.toChars(cp)));
+            } catch (IllegalArgumentException e) {
+                return quote(m.group());
+            }
+        });
+        return s.replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+    }
+
+    private static String quote(String replacement) {
+        return Matcher.quoteReplacement(replacement);
+    }
+}
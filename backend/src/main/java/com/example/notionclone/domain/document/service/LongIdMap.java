@@ -0,0 +1,85 @@
+package com.example.notionclone.domain.document.service;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * 원시 long → long 해시 맵 (개방 주소법, 선형 탐사)
+ * 수십만 건의 ID 매핑을 박싱 없이 보관하기 위해 사용합니다. 값은 0 이상만 저장하며, 없으면 -1을 반환합니다.
+ */
+final class LongIdMap {
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    LongIdMap() {
+        keys = new long[1 << 10];
+        values = new long[1 << 10];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    long get(long key) {
+        if (key == EMPTY) {
+            // 빈 슬롯 표시값과 같은 키는 저장될 수 없으므로 빈 슬롯과 일치시키지 않음
+            return -1;
+        }
+        int mask = keys.length - 1;
+        for (int i = slot(key, mask); ; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+            if (keys[i] == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    void put(long key, long value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Unsupported key: " + key);
+        }
+        if ((size + 1) * 4L > keys.length * 3L) {
+            grow();
+        }
+        int mask = keys.length - 1;
+        int i = slot(key, mask);
+        while (keys[i] != EMPTY && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        if (keys[i] == EMPTY) {
+            size++;
+        }
+        keys[i] = key;
+        values[i] = value;
+    }
+
+    long computeIfAbsent(long key, LongSupplier supplier) {
+        long value = get(key);
+        if (value < 0) {
+            value = supplier.getAsLong();
+            put(key, value);
+        }
+        return value;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new long[oldValues.length * 2];
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.notionclone.domain.document.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 간격(gap) 기반 정렬 키 관리 서비스
+ *
+ * sort_order를 0, 1, 2... 대신 STEP 간격으로 두고, 순서가 바뀐 항목에만 이웃 사이의 중간값을 부여합니다.
+ * 드래그 앤 드롭 한 번은 보통 한 행만 UPDATE 하며,
+ * 간격이 소진된 경우에만 전체 목록을 한 번의 UPDATE 문으로 재배치(rebalance)합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SortRankService {
+    static final int STEP = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 문서 순서 변경 (워크스페이스 범위)
+     */
+    public Map<Long, Integer> reorderDocuments(Long workspaceId, List<Long> orderedIds) {
+        return reorder("documents", "workspace_id", workspaceId, orderedIds);
+    }
+
+    /**
+     * 자식 문서 순서 변경 (부모 문서 범위)
+     */
+    public Map<Long, Integer> reorderChildDocuments(Long parentId, List<Long> orderedIds) {
+        return reorder("documents", "parent_id", parentId, orderedIds);
+    }
+
+    /**
+     * 속성 순서 변경 (속성을 소유한 문서 범위)
+     */
+    public Map<Long, Integer> reorderProperties(Long documentId, List<Long> orderedIds) {
+        return reorder("document_properties", "document_id", documentId, orderedIds);
+    }
+
+    /**
+     * 새로 추가하거나 다른 부모로 옮긴 문서의 정렬 키 (형제 문서 중 마지막 키 + STEP, 형제가 없으면 STEP)
+     * 루트 문서는 워크스페이스의 루트 문서끼리 형제입니다.
+     */
+    public int nextDocumentRank(Long workspaceId, Long parentId) {
+        Integer last = parentId != null
+                ? jdbcTemplate.queryForObject("SELECT MAX(sort_order) FROM documents WHERE parent_id = ?",
+                        Integer.class, parentId)
+                : jdbcTemplate.queryForObject("SELECT MAX(sort_order) FROM documents WHERE workspace_id = ? AND parent_id IS NULL",
+                        Integer.class, workspaceId);
+        return nextRank(last);
+    }
+
+    /**
+     * 마지막 키 다음 키 (정수 범위를 넘으면 마지막 키와 같은 값 - 같은 키는 ID 순으로 정렬되고 다음 순서 변경 시 재배치)
+     */
+    static int nextRank(Integer last) {
+        return last == null ? STEP : (int) Math.min((long) last + STEP, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 문서 블록 정렬 키 재배치 (삽입/이동할 자리의 간격이 소진된 경우)
+     * 현재 순서를 유지한 채 STEP 간격으로 한 번의 UPDATE 문으로 다시 부여합니다.
+     */
+    public int respaceBlocks(Long documentId) {
+        int updated = jdbcTemplate.update(
+                "UPDATE document_blocks b SET sort_order = r.ord * " + STEP + " " +
+                "FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY sort_order, id) AS ord " +
+                "      FROM document_blocks WHERE document_id = ?) r WHERE b.id = r.id",
+                documentId);
+        log.debug("document_blocks 정렬 키 재배치: document_id={} ({}건)", documentId, updated);
+        return updated;
+    }
+
+    /**
+     * @return 실제로 변경된 항목의 새 정렬 키 (변경 없으면 빈 맵)
+     */
+    private Map<Long, Integer> reorder(String table, String scopeColumn, Long scopeId, List<Long> orderedIds) {
+        if (orderedIds == null || orderedIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(orderedIds));
+        Map<Long, Integer> currentRanks = loadRanks(table, scopeColumn, scopeId, ids);
+        // 범위 밖이거나 존재하지 않는 ID는 기존과 동일하게 무시
+        ids.removeIf(id -> !currentRanks.containsKey(id));
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> changes = plan(ids, currentRanks);
+        if (changes == null) {
+            log.debug("{} 정렬 키 재배치: {}={} ({}건)", table, scopeColumn, scopeId, ids.size());
+            return rebalance(table, ids);
+        }
+        if (!changes.isEmpty()) {
+            List<Object[]> args = new ArrayList<>(changes.size());
+            changes.forEach((id, rank) -> args.add(new Object[]{rank, id}));
+            jdbcTemplate.batchUpdate("UPDATE " + table + " SET sort_order = ? WHERE id = ?", args);
+        }
+        return changes;
+    }
+
+    /**
+     * 새 순서에서 현재 정렬 키가 증가하는 최장 부분 수열(LIS)을 고정점으로 두고,
+     * 나머지 항목만 인접한 고정점 사이의 키를 새로 부여합니다.
+     *
+     * @return 변경할 (id, 새 키) 목록, 간격이 부족하면 null (재배치 필요)
+     */
+    static Map<Long, Integer> plan(List<Long> orderedIds, Map<Long, Integer> currentRanks) {
+        int n = orderedIds.size();
+        boolean[] anchor = longestIncreasingRun(orderedIds, currentRanks);
+
+        Map<Long, Integer> changes = new LinkedHashMap<>();
+        int i = 0;
+        while (i < n) {
+            if (anchor[i]) {
+                i++;
+                continue;
+            }
+            int runStart = i;
+            while (i < n && !anchor[i]) {
+                i++;
+            }
+            int runLength = i - runStart;
+            Integer before = runStart > 0 ? currentRanks.get(orderedIds.get(runStart - 1)) : null;
+            Integer after = i < n ? currentRanks.get(orderedIds.get(i)) : null;
+
+            long lo;
+            long hi;
+            if (before == null && after == null) {
+                lo = 0;
+                hi = (long) STEP * (runLength + 1);
+            } else if (before == null) {
+                hi = after;
+                lo = Math.max((long) Integer.MIN_VALUE, hi - (long) STEP * (runLength + 1));
+            } else if (after == null) {
+                lo = before;
+                hi = Math.min((long) Integer.MAX_VALUE, lo + (long) STEP * (runLength + 1));
+            } else {
+                lo = before;
+                hi = after;
+            }
+            long gap = (hi - lo) / (runLength + 1);
+            if (gap < 1) {
+                return null;
+            }
+            for (int k = 0; k < runLength; k++) {
+                changes.put(orderedIds.get(runStart + k), (int) (lo + gap * (k + 1)));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * 현재 키 기준 엄격 증가 최장 부분 수열에 속하는 위치 표시 (키가 없는 항목은 제외)
+     */
+    private static boolean[] longestIncreasingRun(List<Long> orderedIds, Map<Long, Integer> currentRanks) {
+        int n = orderedIds.size();
+        int[] tailRank = new int[n];
+        int[] tailIndex = new int[n];
+        int[] previous = new int[n];
+        Arrays.fill(previous, -1);
+        int length = 0;
+
+        for (int i = 0; i < n; i++) {
+            Integer rank = currentRanks.get(orderedIds.get(i));
+            if (rank == null) {
+                continue;
+            }
+            // 같은 키가 이미 있으면 엄격 증가가 아니므로 해당 위치를 교체
+            int pos = Arrays.binarySearch(tailRank, 0, length, rank);
+            if (pos < 0) {
+                pos = -pos - 1;
+            }
+            tailRank[pos] = rank;
+            tailIndex[pos] = i;
+            previous[i] = pos > 0 ? tailIndex[pos - 1] : -1;
+            if (pos == length) {
+                length++;
+            }
+        }
+
+        boolean[] anchor = new boolean[n];
+        for (int i = length > 0 ? tailIndex[length - 1] : -1; i >= 0; i = previous[i]) {
+            anchor[i] = true;
+        }
+        return anchor;
+    }
+
+    private Map<Long, Integer> loadRanks(String table, String scopeColumn, Long scopeId, Collection<Long> ids) {
+        Map<Long, Integer> ranks = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, sort_order FROM " + table + " WHERE " + scopeColumn + " = ? AND id = ANY(?)",
+                ps -> {
+                    ps.setLong(1, scopeId);
+                    ps.setArray(2, ps.getConnection().createArrayOf("bigint", ids.toArray()));
+                },
+                rs -> {
+                    long id = rs.getLong(1);
+                    int rank = rs.getInt(2);
+                    ranks.put(id, rs.wasNull() ? null : rank);
+                });
+        return ranks;
+    }
+
+    /**
+     * 요청 순서대로 STEP 간격의 키를 한 번의 UPDATE 문으로 다시 부여
+     */
+    private Map<Long, Integer> rebalance(String table, List<Long> orderedIds) {
+        jdbcTemplate.update(
+                "UPDATE " + table + " t SET sort_order = v.ord * " + STEP + " " +
+                "FROM unnest(?::bigint[]) WITH ORDINALITY AS v(id, ord) WHERE t.id = v.id",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", orderedIds.toArray())));
+        Map<Long, Integer> ranks = new LinkedHashMap<>();
+        for (int i = 0; i < orderedIds.size(); i++) {
+            ranks.put(orderedIds.get(i), (i + 1) * STEP);
+        }
+        return ranks;
+    }
+}
@@ -7,7 +7,13 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "permissions")
+@Table(
+        name = "permissions",
+        indexes = {
+                // 문서 목록의 공유 문서 병합(EXISTS) 조회용
+                @Index(name = "idx_permissions_document_user_status", columnList = "document_id, user_id, status")
+        }
+)
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,6 +18,7 @@ public interface PermissionRepository extends JpaRepository<Permission, Long> {
     boolean existsByUserAndDocumentAndStatus(User user, Document document, PermissionStatus status);
     List<Permission> findByDocument(Document document);
     Optional<Permission> findByUserIdAndDocumentId(Long userId, Long documentId);
+    List<Permission> findByUserIdAndDocumentIdIn(Long userId, List<Long> documentIds);
 
     @Query("""
         select p.document.id from Permission p
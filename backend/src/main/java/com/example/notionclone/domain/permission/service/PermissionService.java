@@ -5,6 +5,7 @@ import com.example.notionclone.domain.permission.repository.PermissionRepository
 import com.example.notionclone.domain.user.entity.User;
 import com.example.notionclone.domain.document.repository.DocumentRepository;
 import com.example.notionclone.domain.document.entity.Document;
+import com.example.notionclone.domain.document.service.DocumentListCacheService;
 import com.example.notionclone.domain.workspace.repository.WorkspacePermissionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -26,6 +27,7 @@ public class PermissionService {
     private final UserRepository userRepository;
     private final DocumentRepository documentRepository;
     private final WorkspacePermissionRepository workspacePermissionRepository;
+    private final DocumentListCacheService documentListCacheService;
 
     @Transactional
     public Permission invite(User user, Document document, PermissionType type) {
@@ -35,6 +37,8 @@ public class PermissionService {
                 .permissionType(type)
                 .status(PermissionStatus.PENDING)
                 .build();
+        // 소유자 목록의 공유 여부(isShared)가 바뀜
+        evictDocumentListCache(document, document.getUser().getId());
         return permissionRepository.save(permission);
     }
 
@@ -42,6 +46,14 @@ public class PermissionService {
     public void updateStatus(Permission permission, PermissionStatus status) {
         permission.setStatus(status);
         permissionRepository.save(permission);
+        // 수락/거절에 따라 해당 사용자의 문서 목록 가시성이 바뀜
+        evictDocumentListCache(permission.getDocument(), permission.getUser().getId());
+    }
+
+    private void evictDocumentListCache(Document document, Long userId) {
+        if (document.getWorkspace() != null) {
+            documentListCacheService.evictUser(document.getWorkspace().getId(), userId);
+        }
     }
 
     public List<Permission> getAcceptedPermissionsByUser(User user) {
@@ -85,6 +97,8 @@ public class PermissionService {
         
         // 문서 권한 제거
         permissionRepository.delete(permission);
+        evictDocumentListCache(document, userId);
+        evictDocumentListCache(document, document.getUser().getId());
         
         // 워크스페이스 권한 조건부 제거 로직
         if (document.getWorkspace() != null) {
@@ -1,6 +1,7 @@
 package com.example.notionclone.security.service;
 
 import com.example.notionclone.domain.document.entity.Document;
+import com.example.notionclone.domain.document.repository.DocumentRepository;
 import com.example.notionclone.domain.permission.entity.Permission;
 import com.example.notionclone.domain.permission.entity.PermissionStatus;
 import com.example.notionclone.domain.permission.entity.PermissionType;
@@ -16,6 +17,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -30,6 +34,7 @@ public class UnifiedPermissionService {
 
     private final WorkspacePermissionRepository workspacePermissionRepository;
     private final PermissionRepository permissionRepository;
+    private final DocumentRepository documentRepository;
 
     /**
      * 문서 접근 권한 검증 (통합)
@@ -68,9 +73,43 @@ public class UnifiedPermissionService {
 
         // 4. 부모 문서 권한 상속 확인
         if (document.getParent() != null) {
+            return hasInheritedAccess(user, document, requiredLevel);
+        }
+
+        return false;
+    }
+
+    /**
+     * 조상 문서로부터 상속된 권한 확인
+     * 경로(materialized path)의 조상 ID로 소유자/권한을 각각 한 번에 조회한 뒤,
+     * 직계 부모부터 루트 방향으로 가장 가까운 소유권 또는 ACCEPTED 권한을 적용합니다.
+     */
+    private boolean hasInheritedAccess(User user, Document document, DocumentAccessLevel requiredLevel) {
+        List<Long> ancestorIds = document.getAncestorIds();
+        if (ancestorIds.isEmpty()) {
+            // 경로 미구축 문서: 부모를 따라 재귀 확인
             return hasDocumentAccess(user, document.getParent(), requiredLevel);
         }
 
+        Map<Long, Long> ownerIds = new HashMap<>();
+        for (Object[] row : documentRepository.findOwnerIdsByIds(ancestorIds)) {
+            ownerIds.put((Long) row[0], (Long) row[1]);
+        }
+        Map<Long, Permission> permissions = new HashMap<>();
+        for (Permission permission : permissionRepository.findByUserIdAndDocumentIdIn(user.getId(), ancestorIds)) {
+            permissions.put(permission.getDocument().getId(), permission);
+        }
+
+        for (int i = ancestorIds.size() - 1; i >= 0; i--) {
+            Long ancestorId = ancestorIds.get(i);
+            if (user.getId().equals(ownerIds.get(ancestorId))) {
+                return true;
+            }
+            Permission permission = permissions.get(ancestorId);
+            if (permission != null && permission.getStatus() == PermissionStatus.ACCEPTED) {
+                return hasRequiredPermission(permission.getPermissionType(), requiredLevel);
+            }
+        }
         return false;
     }
 
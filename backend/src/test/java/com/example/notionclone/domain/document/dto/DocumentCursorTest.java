@@ -0,0 +1,71 @@
+package com.example.notionclone.domain.document.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocumentCursorTest {
+
+    @Test
+    @DisplayName("encode/decode: 정렬 키와 ID를 그대로 복원")
+    void roundTrip() {
+        DocumentCursor cursor = new DocumentCursor(-2048, 9_000_000_000L);
+
+        DocumentCursor decoded = DocumentCursor.decode(cursor.encode());
+
+        assertThat(decoded.getSortOrder()).isEqualTo(-2048);
+        assertThat(decoded.getId()).isEqualTo(9_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("encode: URL에 그대로 쓸 수 있는 패딩 없는 토큰")
+    void urlSafeToken() {
+        String token = new DocumentCursor(Integer.MAX_VALUE, Long.MAX_VALUE).encode();
+
+        assertThat(token).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    @DisplayName("decode: 토큰이 없으면 모든 문서보다 앞선 첫 페이지 커서")
+    void emptyTokenIsFirstPage() {
+        for (String token : new String[]{null, "", "  "}) {
+            DocumentCursor cursor = DocumentCursor.decode(token);
+            assertThat(cursor.getSortOrder()).isEqualTo(Integer.MIN_VALUE);
+            assertThat(cursor.getId()).isEqualTo(0L);
+        }
+    }
+
+    @Test
+    @DisplayName("of: 정렬 키가 없는 문서는 0으로 취급")
+    void nullSortOrder() {
+        DocumentCursor cursor = DocumentCursor.of(null, 7L);
+
+        assertThat(cursor.getSortOrder()).isEqualTo(0);
+        assertThat(cursor.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("decode: 잘못된 토큰은 IllegalArgumentException")
+    void rejectsMalformedToken() {
+        assertThatThrownBy(() -> DocumentCursor.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DocumentCursor.decode(encodeRaw("12345")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DocumentCursor.decode(encodeRaw("abc:1")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DocumentCursor.decode(encodeRaw("1:")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DocumentCursor.decode(encodeRaw("99999999999:1")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.notionclone.domain.document.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressedTextConverterTest {
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    @Test
+    @DisplayName("임계값 미만의 값은 UTF-8 바이트 그대로 저장")
+    void smallValueStoredRaw() {
+        String value = "<p>짧은 본문</p>";
+
+        byte[] stored = converter.convertToDatabaseColumn(value);
+
+        assertThat(stored).isEqualTo(value.getBytes(StandardCharsets.UTF_8));
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("임계값 이상의 값은 압축 형식으로 저장하고 그대로 복원")
+    void largeValueCompressed() {
+        String value = "<p>반복되는 문단 본문입니다.</p>".repeat(200);
+
+        byte[] stored = converter.convertToDatabaseColumn(value);
+
+        assertThat(stored.length).isLessThan(value.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(stored[0]).isEqualTo((byte) 0x00);
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("NUL로 시작하는 값은 크기와 무관하게 압축 형식으로 저장해 헤더와 구분")
+    void nulLeadingValue() {
+        for (String value : new String[]{"\0", "\0ab", "\0" + "x".repeat(CompressedTextConverter.THRESHOLD_BYTES)}) {
+            byte[] stored = converter.convertToDatabaseColumn(value);
+
+            assertThat(stored).isNotEqualTo(value.getBytes(StandardCharsets.UTF_8));
+            assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(value);
+        }
+    }
+
+    @Test
+    @DisplayName("압축 도입 전 TEXT 컬럼에서 변환된 바이트는 그대로 읽음")
+    void legacyUncompressedRow() {
+        String legacy = "<h1>기존 문서</h1>" + "<p>압축 없이 저장된 본문</p>".repeat(100);
+
+        assertThat(converter.convertToEntityAttribute(legacy.getBytes(StandardCharsets.UTF_8))).isEqualTo(legacy);
+        assertThat(converter.convertToEntityAttribute(new byte[0])).isEqualTo("");
+    }
+
+    @Test
+    @DisplayName("null은 양방향 모두 null")
+    void nullValue() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("알 수 없는 코덱이나 손상된 압축 데이터는 IllegalStateException")
+    void rejectsCorruptedData() {
+        byte[] stored = converter.convertToDatabaseColumn("a".repeat(4096));
+
+        byte[] unknownCodec = stored.clone();
+        unknownCodec[1] = 0x7f;
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(unknownCodec))
+                .isInstanceOf(IllegalStateException.class);
+
+        byte[] truncated = Arrays.copyOf(stored, 8);
+        assertThatThrownBy(() -> converter.convertToEntityAttribute(truncated))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
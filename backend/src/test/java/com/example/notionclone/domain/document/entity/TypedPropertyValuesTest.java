@@ -0,0 +1,52 @@
+package com.example.notionclone.domain.document.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypedPropertyValuesTest {
+
+    @Test
+    @DisplayName("NUMBER: 정수/소수/지수 표기를 변환하고 그 외 형식은 null")
+    void toNumber() {
+        assertThat(TypedPropertyValues.toNumber("42")).isEqualByComparingTo("42");
+        assertThat(TypedPropertyValues.toNumber(" -3.5 ")).isEqualByComparingTo("-3.5");
+        assertThat(TypedPropertyValues.toNumber(".25")).isEqualByComparingTo("0.25");
+        assertThat(TypedPropertyValues.toNumber("1e3")).isEqualByComparingTo(BigDecimal.valueOf(1000));
+
+        assertThat(TypedPropertyValues.toNumber("1,000")).isNull();
+        assertThat(TypedPropertyValues.toNumber("abc")).isNull();
+        assertThat(TypedPropertyValues.toNumber("")).isNull();
+        assertThat(TypedPropertyValues.toNumber(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("DATE: 날짜와 날짜+시각 형식을 변환하고 존재하지 않는 날짜는 null")
+    void toDate() {
+        assertThat(TypedPropertyValues.toDate("2024-03-15")).isEqualTo(LocalDateTime.of(2024, 3, 15, 0, 0));
+        assertThat(TypedPropertyValues.toDate("2024-03-15T09:30")).isEqualTo(LocalDateTime.of(2024, 3, 15, 9, 30));
+        assertThat(TypedPropertyValues.toDate("2024-03-15 09:30:15")).isEqualTo(LocalDateTime.of(2024, 3, 15, 9, 30, 15));
+
+        assertThat(TypedPropertyValues.toDate("2024-02-30")).isNull();
+        assertThat(TypedPropertyValues.toDate("15/03/2024")).isNull();
+        assertThat(TypedPropertyValues.toDate(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("TAG: 숫자/문자열 ID 배열을 변환하고 빈 배열/형식 오류는 null")
+    void toTagIds() {
+        assertThat(TypedPropertyValues.toTagIds("[3,5]")).containsExactly(3L, 5L);
+        assertThat(TypedPropertyValues.toTagIds("[\"3\",\"5\"]")).containsExactly(3L, 5L);
+        assertThat(TypedPropertyValues.toTagIds(" [ 7 ] ")).containsExactly(7L);
+
+        assertThat(TypedPropertyValues.toTagIds("[]")).isNull();
+        assertThat(TypedPropertyValues.toTagIds("[\"a\"]")).isNull();
+        assertThat(TypedPropertyValues.toTagIds("[3,,5]")).isNull();
+        assertThat(TypedPropertyValues.toTagIds("3")).isNull();
+        assertThat(TypedPropertyValues.toTagIds(null)).isNull();
+    }
+}
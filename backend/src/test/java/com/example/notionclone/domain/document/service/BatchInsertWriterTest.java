@@ -0,0 +1,101 @@
+package com.example.notionclone.domain.document.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchInsertWriterTest {
+    private static final String[] COLUMNS = {"id", "title"};
+    private static final int[] TYPES = {Types.BIGINT, Types.VARCHAR};
+
+    private JdbcTemplate jdbcTemplate;
+    private PreparedStatement ps;
+    private final List<String> statements = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        ps = mock(PreparedStatement.class);
+        // 실제 드라이버처럼 기록 시점에 파라미터를 바인딩
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            statements.add(invocation.getArgument(0));
+            invocation.<PreparedStatementSetter>getArgument(1).setValues(ps);
+            return 1;
+        });
+    }
+
+    @Test
+    @DisplayName("flush: 모은 행을 다중 행 INSERT 한 문장으로 기록하고 null은 컬럼 타입으로 바인딩")
+    void flushWritesMultiRowInsert() throws Exception {
+        BatchInsertWriter writer = new BatchInsertWriter(jdbcTemplate, "documents", COLUMNS, TYPES);
+
+        writer.add(1L, "first");
+        writer.add(2L, null);
+        writer.flush();
+
+        assertThat(statements).containsExactly("INSERT INTO documents (id, title) VALUES (?, ?), (?, ?)");
+        verify(ps).setObject(1, 1L, Types.BIGINT);
+        verify(ps).setObject(2, "first", Types.VARCHAR);
+        verify(ps).setObject(3, 2L, Types.BIGINT);
+        verify(ps).setNull(4, Types.VARCHAR);
+        assertThat(writer.written()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("add: 문장당 행 수에 도달하면 자동으로 기록, 빈 버퍼 flush는 아무것도 하지 않음")
+    void flushesWhenStatementIsFull() {
+        BatchInsertWriter writer = new BatchInsertWriter(jdbcTemplate, "documents", COLUMNS, TYPES);
+
+        for (long id = 1; id <= 1001; id++) {
+            writer.add(id, "t" + id);
+        }
+        assertThat(statements).hasSize(1);
+        assertThat(writer.written()).isEqualTo(1000L);
+
+        writer.flush();
+        writer.flush();
+
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(1)).isEqualTo("INSERT INTO documents (id, title) VALUES (?, ?)");
+        assertThat(writer.written()).isEqualTo(1001L);
+    }
+
+    @Test
+    @DisplayName("after: 자식 버퍼를 기록하기 전에 부모 버퍼를 먼저 기록")
+    void parentFlushedFirst() {
+        BatchInsertWriter documents = new BatchInsertWriter(jdbcTemplate, "documents", COLUMNS, TYPES);
+        BatchInsertWriter contents = new BatchInsertWriter(jdbcTemplate, "document_contents",
+                new String[]{"document_id", "body"}, new int[]{Types.BIGINT, Types.BINARY}).after(documents);
+
+        documents.add(1L, "doc");
+        contents.add(1L, new byte[]{1});
+        contents.flush();
+        documents.flush();
+
+        assertThat(statements).containsExactly(
+                "INSERT INTO documents (id, title) VALUES (?, ?)",
+                "INSERT INTO document_contents (document_id, body) VALUES (?, ?)");
+    }
+
+    @Test
+    @DisplayName("컬럼 수와 타입 수가 다르면 IllegalArgumentException")
+    void rejectsMismatchedTypes() {
+        assertThatThrownBy(() -> new BatchInsertWriter(jdbcTemplate, "documents", COLUMNS, new int[]{Types.BIGINT}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
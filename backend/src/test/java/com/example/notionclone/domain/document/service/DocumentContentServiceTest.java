@@ -0,0 +1,154 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.domain.document.entity.Document;
+import com.example.notionclone.domain.document.entity.DocumentBlock;
+import com.example.notionclone.domain.document.repository.DocumentBlockRepository;
+import com.example.notionclone.domain.document.repository.DocumentContentRepository;
+import com.example.notionclone.domain.document.repository.DocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.AuditorAware;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 블록으로 나뉜 문서의 전체 본문 저장 시 블록 비교/반영
+ */
+@ExtendWith(MockitoExtension.class)
+class DocumentContentServiceTest {
+    private static final long DOCUMENT_ID = 1L;
+    private static final int STEP = SortRankService.STEP;
+
+    @Mock
+    private DocumentContentRepository contentRepository;
+    @Mock
+    private DocumentBlockRepository blockRepository;
+    @Mock
+    private DocumentRepository documentRepository;
+    @Mock
+    private DocumentSearchService documentSearchService;
+    @Mock
+    private AuditorAware<String> auditorAware;
+    @InjectMocks
+    private DocumentContentService documentContentService;
+
+    @Captor
+    private ArgumentCaptor<List<DocumentBlock>> blocksCaptor;
+
+    private Document document;
+
+    @BeforeEach
+    void setUp() {
+        document = Document.builder().id(DOCUMENT_ID).title("문서").build();
+    }
+
+    @Test
+    @DisplayName("본문이 같으면 블록 행과 수정 메타를 건드리지 않음")
+    void unchangedBody() {
+        List<DocumentBlock> blocks = blocks("<p>a</p>", "<p>b</p>");
+        givenBlocks(blocks);
+
+        documentContentService.saveContent(document, "<p>a</p><p>b</p>");
+
+        verify(blockRepository, never()).saveAll(any());
+        verify(blockRepository, never()).flush();
+        verify(documentRepository, never()).touchLastModified(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("가운데 블록만 고치면 해당 블록 내용만 바뀌고 삽입/삭제 없음")
+    void editMiddleBlock() {
+        List<DocumentBlock> blocks = blocks("<p>a</p>", "<p>b</p>", "<p>c</p>");
+        givenBlocks(blocks);
+
+        documentContentService.saveContent(document, "<p>a</p><p>B</p><p>c</p>");
+
+        assertThat(blocks).extracting(DocumentBlock::getContent).containsExactly("<p>a</p>", "<p>B</p>", "<p>c</p>");
+        assertThat(blocks).extracting(DocumentBlock::getSortOrder).containsExactly(STEP, 2 * STEP, 3 * STEP);
+        verify(blockRepository).deleteAll(blocksCaptor.capture());
+        assertThat(blocksCaptor.getValue()).isEmpty();
+        verify(blockRepository, never()).saveAll(any());
+        verify(documentRepository).touchLastModified(eq(DOCUMENT_ID), any(), any());
+        verify(documentSearchService).markChanged(DOCUMENT_ID);
+    }
+
+    @Test
+    @DisplayName("새 블록은 이웃 블록의 정렬 키 사이에 삽입")
+    void insertBetweenBlocks() {
+        List<DocumentBlock> blocks = blocks("<p>a</p>", "<p>c</p>");
+        givenBlocks(blocks);
+
+        documentContentService.saveContent(document, "<p>a</p><p>b</p><p>c</p>");
+
+        verify(blockRepository).saveAll(blocksCaptor.capture());
+        List<DocumentBlock> created = blocksCaptor.getValue();
+        assertThat(created).extracting(DocumentBlock::getContent).containsExactly("<p>b</p>");
+        assertThat(created.get(0).getSortOrder()).isEqualTo(STEP + STEP / 2);
+        assertThat(created.get(0).getBlockKey()).startsWith("b-");
+        assertThat(blocks).extracting(DocumentBlock::getSortOrder).containsExactly(STEP, 2 * STEP);
+    }
+
+    @Test
+    @DisplayName("사라진 블록은 삭제")
+    void removeBlock() {
+        List<DocumentBlock> blocks = blocks("<p>a</p>", "<p>b</p>", "<p>c</p>");
+        givenBlocks(blocks);
+
+        documentContentService.saveContent(document, "<p>a</p><p>c</p>");
+
+        verify(blockRepository).deleteAll(blocksCaptor.capture());
+        assertThat(blocksCaptor.getValue()).containsExactly(blocks.get(1));
+        verify(blockRepository, never()).saveAll(any());
+        assertThat(blocks.get(0).getContent()).isEqualTo("<p>a</p>");
+        assertThat(blocks.get(2).getContent()).isEqualTo("<p>c</p>");
+    }
+
+    @Test
+    @DisplayName("이웃 키 사이 간격이 없으면 전체 블록의 정렬 키를 STEP 간격으로 다시 부여")
+    void respaceWhenGapExhausted() {
+        List<DocumentBlock> blocks = blocks("<p>a</p>", "<p>c</p>");
+        blocks.get(0).setSortOrder(1);
+        blocks.get(1).setSortOrder(2);
+        givenBlocks(blocks);
+
+        documentContentService.saveContent(document, "<p>a</p><p>b</p><p>c</p>");
+
+        verify(blockRepository).saveAll(blocksCaptor.capture());
+        assertThat(blocks.get(0).getSortOrder()).isEqualTo(STEP);
+        assertThat(blocksCaptor.getValue().get(0).getSortOrder()).isEqualTo(2 * STEP);
+        assertThat(blocks.get(1).getSortOrder()).isEqualTo(3 * STEP);
+    }
+
+    private void givenBlocks(List<DocumentBlock> blocks) {
+        when(blockRepository.findByDocumentIdOrderBySortOrderAscIdAsc(DOCUMENT_ID)).thenReturn(blocks);
+    }
+
+    private List<DocumentBlock> blocks(String... contents) {
+        List<DocumentBlock> blocks = new ArrayList<>();
+        for (int i = 0; i < contents.length; i++) {
+            blocks.add(DocumentBlock.builder()
+                    .id((long) i + 1)
+                    .document(document)
+                    .blockKey("k" + (i + 1))
+                    .sortOrder(STEP * (i + 1))
+                    .content(contents[i])
+                    .build());
+        }
+        return blocks;
+    }
+}
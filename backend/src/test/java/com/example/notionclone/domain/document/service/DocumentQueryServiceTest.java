@@ -0,0 +1,175 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.domain.document.dto.DocumentCursor;
+import com.example.notionclone.domain.document.dto.DocumentQueryDtos;
+import com.example.notionclone.domain.document.entity.DocumentProperty;
+import com.example.notionclone.domain.document.entity.PropertyType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 필터/정렬 조건 → SQL 변환 (필드 화이트리스트, 조건식, 바인딩 인자 순서)
+ */
+class DocumentQueryServiceTest {
+    private static final long PARENT = 1L;
+    private static final long TEXT = 10L;
+    private static final long NUMBER = 11L;
+    private static final long DATE = 12L;
+    private static final long TAG = 13L;
+    private static final long CREATED_AT = 14L;
+
+    @Test
+    @DisplayName("허용된 필드와 이 데이터베이스의 속성만 조건/정렬 대상으로 사용")
+    void fieldWhitelist() {
+        DocumentQueryService.QueryBuilder query = query();
+
+        assertThat(query.column(null, "title").expression()).isEqualTo("d.title");
+        assertThat(query.column(null, "updatedAt").expression()).isEqualTo("d.last_modified_at");
+        assertThat(query.column(CREATED_AT, null).expression()).isEqualTo("d.created_at");
+
+        assertThatThrownBy(() -> query.column(null, "password"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> query.column(null, "d.id; DROP TABLE documents"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> query.column(null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> query.column(999L, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("999");
+    }
+
+    @Test
+    @DisplayName("텍스트 포함 조건은 LIKE 특수문자를 이스케이프해 바인딩")
+    void textContainsEscapesPattern() {
+        DocumentQueryService.QueryBuilder query = query();
+
+        query.where(List.of(filter(null, "title", "contains", "50%_off")), false);
+
+        assertThat(query.fromWhere()).isEqualTo(
+                "FROM documents d WHERE d.parent_id = ? AND d.is_trashed = false AND (d.title ILIKE ? ESCAPE '\\')");
+        assertThat(query.arguments()).containsExactly(PARENT, "%50\\%\\_off%");
+    }
+
+    @Test
+    @DisplayName("숫자 속성 비교는 조인 없이 (property_id, value_number) EXISTS 세미 조인, 부정은 NOT EXISTS")
+    void typedComparisonUsesSemiJoin() {
+        DocumentQueryService.QueryBuilder query = query();
+
+        query.where(List.of(filter(NUMBER, null, "gt", "10"), filter(NUMBER, null, "not_equals", "3")), false);
+
+        assertThat(query.fromWhere())
+                .doesNotContain("LATERAL")
+                .contains("AND (EXISTS (SELECT 1 FROM document_property_values f WHERE f.document_id = d.id AND f.property_id = ? AND f.value_number > ?)"
+                        + " AND NOT EXISTS (SELECT 1 FROM document_property_values f WHERE f.document_id = d.id AND f.property_id = ? AND f.value_number = ?))");
+        assertThat(query.arguments()).containsExactly(PARENT, NUMBER, new BigDecimal("10"), NUMBER, new BigDecimal("3"));
+    }
+
+    @Test
+    @DisplayName("시각 없는 날짜 조건은 [그날 0시, 다음날 0시) 범위로 변환")
+    void dateEqualsBecomesRange() {
+        DocumentQueryService.QueryBuilder query = query();
+
+        query.where(List.of(filter(DATE, null, "equals", "2024-03-15")), false);
+
+        assertThat(query.fromWhere()).contains("(f.value_date >= ? AND f.value_date < ?)");
+        assertThat(query.arguments()).containsExactly(PARENT, DATE,
+                Timestamp.valueOf(LocalDateTime.of(2024, 3, 15, 0, 0)),
+                Timestamp.valueOf(LocalDateTime.of(2024, 3, 16, 0, 0)));
+    }
+
+    @Test
+    @DisplayName("태그 조건은 옵션 ID 배열 포함 연산자로 변환")
+    void tagContains() {
+        DocumentQueryService.QueryBuilder query = query();
+
+        query.where(List.of(filter(TAG, null, "contains", " 7 ")), false);
+
+        assertThat(query.fromWhere()).contains("f.value_tag_ids @> ARRAY[CAST(? AS bigint)]");
+        assertThat(query.arguments()).containsExactly(PARENT, TAG, 7L);
+    }
+
+    @Test
+    @DisplayName("빈 값 조건은 LATERAL 조인을 추가하고, 조인 인자 → 부모 ID → 조건 인자 순으로 바인딩")
+    void emptyCheckJoinsLatestValue() {
+        DocumentQueryService.QueryBuilder query = query();
+
+        query.where(List.of(filter(TEXT, null, "is_empty", null), filter(null, "createdBy", "equals", "kim")), true);
+
+        assertThat(query.fromWhere())
+                .contains("pv.property_id = ? ORDER BY pv.id DESC LIMIT 1) v0 ON true")
+                .endsWith("AND ((v0.value IS NULL OR v0.value = '') OR d.created_by = ?)");
+        assertThat(query.arguments()).containsExactly(TEXT, PARENT, "kim");
+    }
+
+    @Test
+    @DisplayName("같은 속성을 여러 번 참조해도 LATERAL 조인은 한 번만 추가")
+    void joinsPropertyOnce() {
+        DocumentQueryService.QueryBuilder query = query();
+        DocumentQueryService.Column text = query.column(TEXT, null);
+
+        assertThat(query.sortExpression(text)).isEqualTo("lower(NULLIF(v0.value, ''))");
+        assertThat(query.expression(text)).isEqualTo("v0.value");
+        assertThat(query.sortExpression(query.column(NUMBER, null))).isEqualTo("v1.value_number");
+        assertThat(query.arguments()).containsExactly(TEXT, NUMBER, PARENT);
+    }
+
+    @Test
+    @DisplayName("키셋 커서는 (sort_order, id) 행 비교 조건으로 추가")
+    void cursorCondition() {
+        DocumentQueryService.QueryBuilder query = query();
+
+        query.after(new DocumentCursor(2048, 33L));
+
+        assertThat(query.fromWhere()).endsWith("AND (COALESCE(d.sort_order, 0), d.id) > (?, ?)");
+        assertThat(query.arguments()).containsExactly(PARENT, 2048, 33L);
+    }
+
+    @Test
+    @DisplayName("잘못된 연산자/값은 IllegalArgumentException (컨트롤러에서 400)")
+    void rejectsInvalidFilters() {
+        assertInvalid(filter(null, "title", "gt", "a"));
+        assertInvalid(filter(null, "title", "equals", null));
+        assertInvalid(filter(NUMBER, null, "gt", "ten"));
+        assertInvalid(filter(NUMBER, null, "contains", "1"));
+        assertInvalid(filter(DATE, null, "equals", "2024-02-30"));
+        assertInvalid(filter(DATE, null, "contains", "2024-02-01"));
+        assertInvalid(filter(TAG, null, "gt", "1"));
+        assertInvalid(filter(TAG, null, "contains", "red"));
+        assertInvalid(filter(null, "title", null, "a"));
+    }
+
+    private static void assertInvalid(DocumentQueryDtos.Filter filter) {
+        assertThatThrownBy(() -> query().where(List.of(filter), false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static DocumentQueryService.QueryBuilder query() {
+        return new DocumentQueryService.QueryBuilder(PARENT, List.of(
+                property(TEXT, PropertyType.TEXT),
+                property(NUMBER, PropertyType.NUMBER),
+                property(DATE, PropertyType.DATE),
+                property(TAG, PropertyType.TAG),
+                property(CREATED_AT, PropertyType.CREATED_AT)));
+    }
+
+    private static DocumentProperty property(long id, PropertyType type) {
+        return DocumentProperty.builder().id(id).name(type.name()).type(type).build();
+    }
+
+    private static DocumentQueryDtos.Filter filter(Long propertyId, String field, String operator, String value) {
+        return DocumentQueryDtos.Filter.builder()
+                .propertyId(propertyId)
+                .field(field)
+                .operator(operator)
+                .value(value)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.notionclone.domain.document.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentSearchIndexTest {
+    private DocumentSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DocumentSearchIndex();
+        index.put(1, "Project plan", null, null, "quarterly roadmap");
+        index.put(2, "Progress report", null, null, "weekly project status");
+        index.put(3, "Budget", null, null, "annual numbers");
+    }
+
+    @Test
+    @DisplayName("접두사 질의는 같은 접두사로 시작하는 모든 색인어로 확장")
+    void prefixExpansion() {
+        assertThat(ids(search("pro"))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(search("budg"))).containsExactly(3L);
+        // 공백으로 끝난 질의는 정확히 일치하는 색인어만
+        assertThat(ids(search("pro "))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 색인어는 모두 포함한 문서만 반환하고 제목 등장이 더 높은 점수")
+    void intersection() {
+        assertThat(ids(search("project plan "))).containsExactly(1L);
+        assertThat(ids(search("project status "))).containsExactly(2L);
+        assertThat(ids(search("project budget "))).isEmpty();
+        // 1은 제목, 2는 본문에 project 포함
+        assertThat(ids(search("project "))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("삭제/교체된 문서의 색인어는 더 이상 일치하지 않음")
+    void removal() {
+        index.remove(1);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(ids(search("plan "))).isEmpty();
+        assertThat(ids(search("project "))).containsExactly(2L);
+
+        index.put(2, "Retrospective", null, null, null);
+        assertThat(ids(search("project "))).isEmpty();
+        assertThat(ids(search("retro"))).containsExactly(2L);
+
+        index.remove(42);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private List<DocumentSearchIndex.Candidate> search(String query) {
+        return index.search(DocumentSearchTokenizer.tokenizeQuery(query), 10);
+    }
+
+    private static List<Long> ids(List<DocumentSearchIndex.Candidate> candidates) {
+        return candidates.stream().map(candidate -> candidate.entry().id()).toList();
+    }
+}
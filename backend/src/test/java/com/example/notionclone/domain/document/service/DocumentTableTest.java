@@ -0,0 +1,90 @@
+package com.example.notionclone.domain.document.service;
+
+import com.example.notionclone.domain.document.dto.DocumentPropertyValueDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentTableTest {
+    private static final long TITLE = 100L;
+    private static final long STATUS = 200L;
+
+    @Test
+    @DisplayName("put: 행의 속성 값을 저장하고 테이블에 없는 행은 무시")
+    void put() {
+        DocumentTable table = new DocumentTable(new long[]{1, 2, 3});
+
+        assertThat(table.put(2, TITLE, 10, "two")).isTrue();
+        assertThat(table.put(9, TITLE, 11, "missing")).isFalse();
+
+        assertThat(table.value(2, TITLE)).isEqualTo("two");
+        assertThat(table.value(1, TITLE)).isNull();
+        assertThat(table.value(2, STATUS)).isNull();
+        assertThat(table.value(9, TITLE)).isNull();
+        assertThat(table.toValueDtos()).extracting(DocumentPropertyValueDto::getId).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("put: 같은 셀은 값 ID가 더 큰 값이 이김")
+    void newerValueWins() {
+        DocumentTable table = new DocumentTable(new long[]{1});
+
+        assertThat(table.put(1, TITLE, 20, "new")).isTrue();
+        assertThat(table.put(1, TITLE, 15, "old")).isFalse();
+        assertThat(table.value(1, TITLE)).isEqualTo("new");
+
+        assertThat(table.put(1, TITLE, 20, "same id")).isTrue();
+        assertThat(table.put(1, TITLE, 30, "newer")).isTrue();
+        assertThat(table.value(1, TITLE)).isEqualTo("newer");
+    }
+
+    @Test
+    @DisplayName("removeRow: 뒤 행의 값이 제자리를 유지")
+    void removeRow() {
+        DocumentTable table = new DocumentTable(new long[]{1, 2, 3});
+        table.put(1, TITLE, 11, "one");
+        table.put(2, TITLE, 12, "two");
+        table.put(3, TITLE, 13, "three");
+        table.put(3, STATUS, 23, "done");
+
+        assertThat(table.removeRow(2)).isTrue();
+        assertThat(table.removeRow(2)).isFalse();
+
+        assertThat(table.size()).isEqualTo(2);
+        assertThat(table.value(1, TITLE)).isEqualTo("one");
+        assertThat(table.value(2, TITLE)).isNull();
+        assertThat(table.value(3, TITLE)).isEqualTo("three");
+        assertThat(table.value(3, STATUS)).isEqualTo("done");
+        assertThat(table.toValueDtos()).extracting(DocumentPropertyValueDto::getDocumentId)
+                .containsExactlyInAnyOrder(1L, 3L, 3L);
+
+        // 삭제 후 다시 추가한 행은 빈 값으로 시작
+        assertThat(table.addRow(2)).isTrue();
+        assertThat(table.value(2, TITLE)).isNull();
+        assertThat(table.value(3, TITLE)).isEqualTo("three");
+    }
+
+    @Test
+    @DisplayName("removeColumn: 속성의 모든 값과 추정 크기를 제거")
+    void removeColumn() {
+        DocumentTable table = new DocumentTable(new long[]{1, 2});
+        long emptyBytes = table.estimatedBytes();
+        table.put(1, TITLE, 11, "one");
+        table.put(2, TITLE, 12, "two");
+        table.put(1, STATUS, 21, "todo");
+        long withStatus = table.estimatedBytes();
+
+        table.removeColumn(TITLE);
+
+        assertThat(table.value(1, TITLE)).isNull();
+        assertThat(table.value(2, TITLE)).isNull();
+        assertThat(table.value(1, STATUS)).isEqualTo("todo");
+        assertThat(table.toValueDtos()).extracting(DocumentPropertyValueDto::getPropertyId).containsExactly(STATUS);
+        assertThat(table.estimatedBytes()).isLessThan(withStatus);
+
+        table.removeColumn(STATUS);
+        assertThat(table.estimatedBytes()).isEqualTo(emptyBytes);
+        assertThat(table.toValueDtos()).isEmpty();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.notionclone.domain.document.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentTitleIndexTest {
+    private static final long OWNER = 1L;
+    private static final LongPredicate ALL = id -> true;
+    private static final LongPredicate NONE = id -> false;
+
+    @Test
+    @DisplayName("단어 시작 위치의 접두사만 일치하고 대소문자를 구분하지 않음")
+    void wordStartPrefix() {
+        DocumentTitleIndex index = loaded(doc(1, "Project Plan", 10), doc(2, "Explanation", 20));
+
+        assertThat(ids(index.lookup("pla", 10, ALL, NONE))).containsExactly(1L);
+        assertThat(ids(index.lookup("PROJ", 10, ALL, NONE))).containsExactly(1L);
+        assertThat(ids(index.lookup("lan", 10, ALL, NONE))).isEmpty();
+        assertThat(ids(index.lookup("  ", 10, ALL, NONE))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한글 제목은 모든 글자 위치에서 일치")
+    void cjkMatchesEveryPosition() {
+        DocumentTitleIndex index = loaded(doc(1, "주간 회의록", 10), doc(2, "회고", 20));
+
+        assertThat(ids(index.lookup("의록", 10, ALL, NONE))).containsExactly(1L);
+        assertThat(ids(index.lookup("회", 10, ALL, NONE))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("최근 수정순으로 최대 limit건, 같은 시각이면 ID가 큰 문서 우선")
+    void recencyAndLimit() {
+        DocumentTitleIndex index = loaded(doc(1, "note a", 10), doc(2, "note b", 30), doc(3, "note c", 20), doc(4, "note d", 30));
+
+        assertThat(ids(index.lookup("note", 3, ALL, NONE))).containsExactly(4L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("소유자 또는 공유 문서 조건을 만족하는 문서만 반환")
+    void visibility() {
+        DocumentTitleIndex index = new DocumentTitleIndex();
+        index.load(List.of(doc(1, "plan mine", 10), doc(2, "plan shared", 20), doc(3, "plan hidden", 30)),
+                Map.of(1L, OWNER, 2L, 2L, 3L, 3L));
+
+        List<DocumentTitleIndex.Match> matches = index.lookup("plan", 10, owner -> owner == OWNER, id -> id == 2L);
+
+        assertThat(ids(matches)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("정렬 배열 재구축 전후 모두 제목 변경/삭제가 반영")
+    void updatesBeforeAndAfterCompaction() {
+        DocumentTitleIndex index = loaded(doc(1, "alpha", 10), doc(2, "beta", 20));
+
+        index.put(1, "gamma", OWNER, "PAGE", 30);
+        index.remove(2);
+        index.put(3, "alpine", OWNER, "TABLE", 40);
+        index.put(4, "", OWNER, "PAGE", 50);
+
+        assertThat(ids(index.lookup("al", 10, ALL, NONE))).containsExactly(3L);
+        assertThat(ids(index.lookup("gam", 10, ALL, NONE))).containsExactly(1L);
+        assertThat(ids(index.lookup("beta", 10, ALL, NONE))).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+
+        index.compact();
+
+        assertThat(ids(index.lookup("al", 10, ALL, NONE))).containsExactly(3L);
+        assertThat(ids(index.lookup("gam", 10, ALL, NONE))).containsExactly(1L);
+        assertThat(index.lookup("alp", 10, ALL, NONE).get(0).viewType()).isEqualTo("TABLE");
+    }
+
+    @Test
+    @DisplayName("일치 구간이 넓은 짧은 접두사도 최근 수정순 상위 k개를 반환")
+    void wideRangeUsesRecencyOrder() {
+        List<DocumentTitleIndex.Match> docs = new ArrayList<>();
+        for (int i = 1; i <= 3000; i++) {
+            docs.add(doc(i, "doc " + i, i));
+        }
+        DocumentTitleIndex index = loaded(docs.toArray(new DocumentTitleIndex.Match[0]));
+
+        assertThat(ids(index.lookup("doc", 3, ALL, NONE))).containsExactly(3000L, 2999L, 2998L);
+
+        // 변경 슬롯은 정렬 배열과 별도로 확인
+        index.put(5, "doc 5", OWNER, "PAGE", 5000);
+        assertThat(ids(index.lookup("doc", 2, ALL, NONE))).containsExactly(5L, 3000L);
+        assertThat(ids(index.lookup("doc", 2, NONE, id -> id % 2 == 1 && id != 5))).containsExactly(2999L, 2997L);
+    }
+
+    @Test
+    @DisplayName("변경 슬롯이 임계값 이상 쌓이면 재구축 필요")
+    void needsCompaction() {
+        DocumentTitleIndex index = loaded(doc(1, "seed", 1));
+        for (int i = 0; i < DocumentTitleIndex.COMPACT_THRESHOLD; i++) {
+            index.put(100 + i, "title " + i, OWNER, "PAGE", i);
+        }
+
+        assertThat(index.needsCompaction()).isTrue();
+        index.compact();
+        assertThat(index.needsCompaction()).isFalse();
+    }
+
+    private static DocumentTitleIndex loaded(DocumentTitleIndex.Match... docs) {
+        DocumentTitleIndex index = new DocumentTitleIndex();
+        index.load(List.of(docs), Map.of());
+        assertThat(index.isReady()).isTrue();
+        return index;
+    }
+
+    private static DocumentTitleIndex.Match doc(long id, String title, long modifiedAt) {
+        return new DocumentTitleIndex.Match(id, title, "PAGE", modifiedAt);
+    }
+
+    private static List<Long> ids(List<DocumentTitleIndex.Match> matches) {
+        return matches.stream().map(DocumentTitleIndex.Match::docId).toList();
+    }
+}
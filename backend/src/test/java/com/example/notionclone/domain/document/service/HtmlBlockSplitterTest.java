@@ -0,0 +1,61 @@
+package com.example.notionclone.domain.document.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HtmlBlockSplitterTest {
+
+    @Test
+    @DisplayName("최상위 요소마다 한 조각, 중첩 요소는 바깥 요소 조각에 포함")
+    void splitsTopLevelElements() {
+        assertThat(split("<h1>제목</h1><ul><li>a</li><li><b>b</b></li></ul><p>본문</p>"))
+                .containsExactly("<h1>제목</h1>", "<ul><li>a</li><li><b>b</b></li></ul>", "<p>본문</p>");
+    }
+
+    @Test
+    @DisplayName("요소 사이 공백은 다음 조각에, 끝의 공백은 마지막 조각에 붙음")
+    void whitespaceAttachment() {
+        assertThat(split("<p>a</p>\n  <p>b</p>\n"))
+                .containsExactly("<p>a</p>", "\n  <p>b</p>\n");
+    }
+
+    @Test
+    @DisplayName("빈 요소와 자체 닫힘 태그는 깊이를 늘리지 않음")
+    void voidAndSelfClosingElements() {
+        assertThat(split("<p>a<br>b</p><hr><img src=\"x.png\"/><p>c</p>"))
+                .containsExactly("<p>a<br>b</p>", "<hr>", "<img src=\"x.png\"/>", "<p>c</p>");
+    }
+
+    @Test
+    @DisplayName("속성 값 안의 '>', 주석, script 본문의 '<'는 태그로 해석하지 않음")
+    void quotedAttributesCommentsAndScripts() {
+        assertThat(split("<p title=\"a > b\">x</p><!-- <div> --><script>if (a<b) {}</script><p>y</p>"))
+                .containsExactly("<p title=\"a > b\">x</p>", "<!-- <div> -->", "<script>if (a<b) {}</script>", "<p>y</p>");
+    }
+
+    @Test
+    @DisplayName("태그가 아닌 '<'와 일반 텍스트는 그대로 한 조각")
+    void plainText() {
+        assertThat(split("a < b 그리고 c")).containsExactly("a < b 그리고 c");
+        assertThat(split(null)).isEmpty();
+        assertThat(split("")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 요소는 끝까지 한 조각")
+    void unclosedElement() {
+        assertThat(split("<p>a</p><div><p>b</p>"))
+                .containsExactly("<p>a</p>", "<div><p>b</p>");
+    }
+
+    private static List<String> split(String html) {
+        List<String> segments = HtmlBlockSplitter.split(html);
+        // 조각을 이어 붙이면 항상 원문과 같아야 함
+        assertThat(String.join("", segments)).isEqualTo(html == null ? "" : html);
+        return segments;
+    }
+}
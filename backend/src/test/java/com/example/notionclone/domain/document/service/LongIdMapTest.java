@@ -0,0 +1,71 @@
+package com.example.notionclone.domain.document.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongIdMapTest {
+
+    @Test
+    @DisplayName("없는 키는 -1, 같은 키에 다시 넣으면 값을 덮어씀")
+    void putAndGet() {
+        LongIdMap map = new LongIdMap();
+
+        assertThat(map.get(42)).isEqualTo(-1L);
+        map.put(42, 7);
+        map.put(-5, 0);
+        map.put(42, 8);
+
+        assertThat(map.get(42)).isEqualTo(8L);
+        assertThat(map.get(-5)).isEqualTo(0L);
+        assertThat(map.get(43)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("computeIfAbsent: 처음 보는 키에만 새 ID를 할당")
+    void computeIfAbsent() {
+        LongIdMap map = new LongIdMap();
+        AtomicLong sequence = new AtomicLong(100);
+
+        long first = map.computeIfAbsent(1, sequence::incrementAndGet);
+        long again = map.computeIfAbsent(1, sequence::incrementAndGet);
+        long other = map.computeIfAbsent(2, sequence::incrementAndGet);
+
+        assertThat(first).isEqualTo(101L);
+        assertThat(again).isEqualTo(101L);
+        assertThat(other).isEqualTo(102L);
+        assertThat(sequence.get()).isEqualTo(102L);
+    }
+
+    @Test
+    @DisplayName("초기 용량을 넘겨도 기존 매핑을 모두 유지")
+    void growsBeyondInitialCapacity() {
+        LongIdMap map = new LongIdMap();
+        int count = 100_000;
+        for (int i = 0; i < count; i++) {
+            // 해시 충돌이 잦은 간격의 키와 음수 키를 섞음
+            map.put((long) i << 20, i);
+            map.put(-i - 1, i);
+        }
+
+        for (int i = 0; i < count; i++) {
+            assertThat(map.get((long) i << 20)).isEqualTo((long) i);
+            assertThat(map.get(-i - 1)).isEqualTo((long) i);
+        }
+        assertThat(map.get(Long.MAX_VALUE)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("빈 슬롯 표시값(Long.MIN_VALUE)은 키로 쓸 수 없음")
+    void rejectsSentinelKey() {
+        LongIdMap map = new LongIdMap();
+
+        assertThatThrownBy(() -> map.put(Long.MIN_VALUE, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(map.get(Long.MIN_VALUE)).isEqualTo(-1L);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.notionclone.domain.document.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortRankServiceTest {
+    private static final int STEP = SortRankService.STEP;
+
+    @Test
+    @DisplayName("plan: 순서가 그대로면 변경 없음")
+    void unchangedOrder() {
+        Map<Long, Integer> changes = SortRankService.plan(List.of(1L, 2L, 3L), ranks(1L, STEP, 2L, 2 * STEP, 3L, 3 * STEP));
+
+        assertThat(changes).isEmpty();
+    }
+
+    @Test
+    @DisplayName("plan: 맨 뒤 항목을 맨 앞으로 옮기면 그 항목 하나만 첫 키 앞의 키를 받음")
+    void moveToFront() {
+        Map<Long, Integer> changes = SortRankService.plan(List.of(3L, 1L, 2L), ranks(1L, STEP, 2L, 2 * STEP, 3L, 3 * STEP));
+
+        assertThat(changes).containsOnlyKeys(3L);
+        assertThat(changes.get(3L)).isLessThan(STEP);
+    }
+
+    @Test
+    @DisplayName("plan: 이웃 사이로 옮긴 항목은 두 키의 중간값을 받음")
+    void moveBetweenNeighbours() {
+        Map<Long, Integer> changes = SortRankService.plan(List.of(1L, 3L, 2L), ranks(1L, STEP, 2L, 2 * STEP, 3L, 3 * STEP));
+
+        assertThat(changes).containsOnlyKeys(3L);
+        assertThat(changes).containsEntry(3L, STEP + STEP / 2);
+    }
+
+    @Test
+    @DisplayName("plan: 역순 정렬도 새 순서대로 엄격 증가하는 키를 만듦")
+    void reverseOrder() {
+        List<Long> order = List.of(5L, 4L, 3L, 2L, 1L);
+        Map<Long, Integer> current = ranks(1L, STEP, 2L, 2 * STEP, 3L, 3 * STEP, 4L, 4 * STEP, 5L, 5 * STEP);
+
+        Map<Long, Integer> changes = SortRankService.plan(order, current);
+
+        assertThat(changes).hasSize(4);
+        assertIncreasing(order, current, changes);
+    }
+
+    @Test
+    @DisplayName("plan: 키가 없는 항목은 앞 키 뒤에 STEP 간격으로 배치")
+    void missingRanks() {
+        Map<Long, Integer> current = ranks(1L, STEP);
+        current.put(2L, null);
+        current.put(3L, null);
+
+        Map<Long, Integer> changes = SortRankService.plan(List.of(1L, 2L, 3L), current);
+
+        assertThat(changes).containsEntry(2L, 2 * STEP);
+        assertThat(changes).containsEntry(3L, 3 * STEP);
+    }
+
+    @Test
+    @DisplayName("plan: 이웃 키 사이 간격이 소진되면 null (재배치 필요)")
+    void exhaustedGap() {
+        assertThat(SortRankService.plan(List.of(1L, 3L, 2L), ranks(1L, 1, 2L, 2, 3L, 3))).isNull();
+
+        // 마지막 키가 정수 최댓값이면 그 뒤에 붙일 자리가 없음
+        Map<Long, Integer> saturated = ranks(1L, Integer.MAX_VALUE);
+        saturated.put(2L, null);
+        assertThat(SortRankService.plan(List.of(1L, 2L), saturated)).isNull();
+    }
+
+    @Test
+    @DisplayName("nextRank: 마지막 키 + STEP, 형제가 없으면 STEP, 정수 범위에서 포화")
+    void nextRank() {
+        assertThat(SortRankService.nextRank(null)).isEqualTo(STEP);
+        assertThat(SortRankService.nextRank(0)).isEqualTo(STEP);
+        assertThat(SortRankService.nextRank(3 * STEP)).isEqualTo(4 * STEP);
+        assertThat(SortRankService.nextRank(Integer.MAX_VALUE - 1)).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    private static Map<Long, Integer> ranks(Object... idRankPairs) {
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < idRankPairs.length; i += 2) {
+            ranks.put((Long) idRankPairs[i], (Integer) idRankPairs[i + 1]);
+        }
+        return ranks;
+    }
+
+    private static void assertIncreasing(List<Long> order, Map<Long, Integer> current, Map<Long, Integer> changes) {
+        long previous = Long.MIN_VALUE;
+        for (Long id : order) {
+            int rank = changes.getOrDefault(id, current.get(id));
+            assertThat((long) rank).isGreaterThan(previous);
+            previous = rank;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 // src/services/documentApi.ts
 import api from './api';
 import { createLogger } from '@/lib/logger';
-import type { Document, DocumentProperty, DocumentPropertyValue, PropertyValue, PermissionType, TagOption, PaginatedResponse } from '@/types';
+import type { Document, DocumentProperty, DocumentPropertyValue, PropertyValue, PermissionType, TagOption, PaginatedResponse, CursorPageResponse } from '@/types';
 
 const log = createLogger('documentApi');
 
@@ -34,23 +34,22 @@ export async function getDocumentList(
   return response.data;
 }
 
-// 필드 선택을 지원하는 문서 목록 조회
-export async function getDocumentsWithFields(workspaceId: number, fields: string[]): Promise<Document[]> {
-  const response = await api.get<Document[]>(`/api/workspaces/${workspaceId}/documents`, {
-    params: { fields }
+// 필드 선택을 지원하는 문서 목록 조회 (요청한 필드만 응답, 예: ['id', 'title', 'parentId', 'hasChildren'])
+export async function getDocumentsWithFields(workspaceId: number, fields: string[]): Promise<Partial<Document>[]> {
+  const response = await api.get<Partial<Document>[]>(`/api/workspaces/${workspaceId}/documents`, {
+    params: { fields: fields.join(',') }
   });
   return response.data;
 }
 
-// 무한 스크롤을 지원하는 문서 목록 조회
+// 무한 스크롤을 지원하는 문서 목록 조회 (키셋 커서: 이전 응답의 nextCursor 전달)
 export async function getDocumentsInfinite(
   workspaceId: number,
-  page: number = 0,
   size: number = 20,
   cursor: string | null = null
-): Promise<PaginatedResponse<Document>> {
-  const response = await api.get<PaginatedResponse<Document>>(`/api/workspaces/${workspaceId}/documents/infinite`, {
-    params: { page, size, cursor }
+): Promise<CursorPageResponse<Document>> {
+  const response = await api.get<CursorPageResponse<Document>>(`/api/workspaces/${workspaceId}/documents/infinite`, {
+    params: { size, cursor }
   });
   return response.data;
 }
@@ -228,6 +227,150 @@ export async function getChildDocumentsPaged(
   return response.data; // { content, totalElements, totalPages, number, size }
 }
 
+// 자식 문서 서버 측 조회 (필터/정렬/그룹을 SQL로 평가해 요청 구간만 반환)
+export type ChildQueryField = 'title' | 'createdAt' | 'updatedAt' | 'createdBy' | 'updatedBy';
+
+export interface ChildQueryFilter {
+  propertyId?: number;
+  field?: ChildQueryField;
+  operator: 'contains' | 'not_contains' | 'equals' | 'not_equals' | 'starts_with'
+    | 'gt' | 'gte' | 'lt' | 'lte' | 'is_empty' | 'is_not_empty';
+  value?: string;
+}
+
+export interface ChildQuerySort {
+  propertyId?: number;
+  field?: ChildQueryField;
+  direction: 'asc' | 'desc';
+}
+
+export interface ChildQueryRequest {
+  filters?: ChildQueryFilter[];
+  conjunction?: 'and' | 'or';
+  sorts?: ChildQuerySort[];
+  groupBy?: { propertyId?: number; field?: ChildQueryField };
+  offset?: number;
+  limit?: number;
+}
+
+export interface ChildQueryResponse {
+  rows: Document[];
+  total: number;
+  offset: number;
+  limit: number;
+  groups: { key: string | null; count: number }[] | null;
+}
+
+export async function queryChildDocuments(
+  workspaceId: number,
+  parentId: number,
+  request: ChildQueryRequest
+): Promise<ChildQueryResponse> {
+  const response = await api.post<ChildQueryResponse>(
+    `/api/workspaces/${workspaceId}/documents/${parentId}/children/query`,
+    request
+  );
+  return response.data;
+}
+
+// 자식 문서 행 구간 조회 (가상 스크롤, 보이는 속성 값만 행 단위로 포함)
+// 정렬이 없으면 nextCursor로 다음 구간을 이어 읽고, 정렬이 있으면 offset 사용
+export interface ChildWindowRequest {
+  filters?: ChildQueryFilter[];
+  conjunction?: 'and' | 'or';
+  sorts?: ChildQuerySort[];
+  propertyIds?: number[];
+  cursor?: string;
+  offset?: number;
+  limit?: number;
+  includeTotal?: boolean;
+}
+
+export interface ChildWindowRow {
+  document: Document;
+  values: Record<number, string>;
+}
+
+export interface ChildWindowResponse {
+  rows: ChildWindowRow[];
+  total: number | null;
+  offset: number;
+  limit: number;
+  nextCursor: string | null;
+}
+
+export async function getChildDocumentWindow(
+  workspaceId: number,
+  parentId: number,
+  request: ChildWindowRequest
+): Promise<ChildWindowResponse> {
+  const response = await api.post<ChildWindowResponse>(
+    `/api/workspaces/${workspaceId}/documents/${parentId}/children/window`,
+    request
+  );
+  return response.data;
+}
+
+// 자식 문서 열 집계 (표 하단/갤러리 요약, 열 전체를 내려받지 않음)
+export interface ChildAggregateRequest {
+  propertyId?: number;
+  field?: ChildQueryField;
+  filters?: ChildQueryFilter[];
+  conjunction?: 'and' | 'or';
+}
+
+export interface ChildAggregateResponse {
+  propertyId: number | null;
+  field: ChildQueryField | null;
+  type: 'TEXT' | 'NUMBER' | 'DATE' | 'TAG';
+  total: number;
+  filled: number;
+  empty: number;
+  sum: number | null;
+  avg: number | null;
+  min: number | null;
+  max: number | null;
+  earliest: string | null;
+  latest: string | null;
+  distribution: { key: string | null; count: number }[] | null;
+}
+
+export async function aggregateChildDocuments(
+  workspaceId: number,
+  parentId: number,
+  request: ChildAggregateRequest
+): Promise<ChildAggregateResponse> {
+  const response = await api.post<ChildAggregateResponse>(
+    `/api/workspaces/${workspaceId}/documents/${parentId}/children/aggregate`,
+    request
+  );
+  return response.data;
+}
+
+// 데이터베이스 변경분 조회 (since 없이 호출하면 현재 seq만, resync면 전체 다시 불러오기)
+export interface DocumentChangesResponse {
+  since: number;
+  seq: number;
+  resync: boolean;
+  documents: Document[];
+  properties: DocumentProperty[];
+  tagOptions: TagOption[];
+  values: DocumentPropertyValue[];
+  deleted: { entityType: 'DOCUMENT' | 'PROPERTY' | 'VALUE' | 'TAG_OPTION'; id: number }[];
+}
+
+export async function getDocumentChanges(
+  workspaceId: number,
+  parentId: number,
+  since?: number
+): Promise<DocumentChangesResponse> {
+  const response = await api.get<DocumentChangesResponse>(
+    `/api/workspaces/${workspaceId}/documents/${parentId}/changes`,
+    { params: since !== undefined ? { since } : {} }
+  );
+  return response.data;
+}
+
 // 자식 문서(행) 순서 업데이트
 export async function updateChildDocumentOrder(
   workspaceId: number,
@@ -304,6 +447,35 @@ export async function addOrUpdatePropertyValue(
   return res.data;
 }
 
+// 속성 값 일괄 저장 (여러 셀 붙여넣기, 셀별 결과는 요청 순서와 같음)
+export interface PropertyValueCellWrite {
+  documentId: number;
+  propertyId: number;
+  value: string | null;
+}
+
+export interface PropertyValueBatchResponse {
+  results: {
+    documentId: number;
+    propertyId: number;
+    valueId: number | null;
+    value: string | null;
+    status: 'OK' | 'NOT_FOUND' | 'INVALID_PROPERTY' | 'FORBIDDEN';
+  }[];
+  rows: { documentId: number; updatedAt: string | null; updatedBy: string | null }[];
+}
+
+export async function upsertPropertyValues(
+  workspaceId: number,
+  cells: PropertyValueCellWrite[]
+): Promise<PropertyValueBatchResponse> {
+  const res = await api.post<PropertyValueBatchResponse>(
+    `/api/workspaces/${workspaceId}/documents/property-values/batch`,
+    { cells }
+  );
+  return res.data;
+}
+
 // 문서의 모든 속성 값 조회
 export async function getPropertyValuesByDocument(
   workspaceId: number,
@@ -404,6 +576,88 @@ export async function getTagOptionsByProperty(
   return res.data;
 }
 
+// 전문 검색 (제목 + 본문, 점수순)
+export interface DocumentSearchHit {
+  id: number;
+  title: string;
+  parentId?: number | null;
+  viewType: string;
+  score: number;
+}
+
+export async function searchDocuments(workspaceId: number, query: string, limit = 20): Promise<DocumentSearchHit[]> {
+  const response = await api.get<DocumentSearchHit[]>(`/api/workspaces/${workspaceId}/documents/search`, {
+    params: { q: query, limit },
+  });
+  return response.data;
+}
+
+// 페이지 멘션/빠른 찾기 자동완성 (제목 단어 접두사, 최근 수정순)
+export interface DocumentAutocompleteItem {
+  id: number;
+  title: string;
+  viewType: string;
+  lastModifiedAt: string | null;
+}
+
+export async function autocompleteDocuments(workspaceId: number, query: string, limit = 10): Promise<DocumentAutocompleteItem[]> {
+  const response = await api.get<DocumentAutocompleteItem[]>(`/api/workspaces/${workspaceId}/documents/autocomplete`, {
+    params: { q: query, limit },
+  });
+  return response.data;
+}
+
+// 워크스페이스 내보내기 (ndjson: 한 줄에 레코드 하나, zip: Markdown 파일 트리)
+export async function exportWorkspace(workspaceId: number, format: 'ndjson' | 'zip' = 'ndjson'): Promise<Blob> {
+  const response = await api.get<Blob>(`/api/workspaces/${workspaceId}/documents/export`, {
+    params: { format },
+    responseType: 'blob',
+  });
+  return response.data;
+}
+
+// 워크스페이스 가져오기 (내보내기와 같은 NDJSON 형식), 적재 건수와 처리량을 반환
+export interface WorkspaceImportResult {
+  documents: number;
+  properties: number;
+  tagOptions: number;
+  values: number;
+  permissions: number;
+  skipped: number;
+  elapsedMs: number;
+  rowsPerSecond: number;
+}
+
+export async function importWorkspace(workspaceId: number, file: Blob): Promise<WorkspaceImportResult> {
+  const response = await api.post<WorkspaceImportResult>(`/api/workspaces/${workspaceId}/documents/import`, file, {
+    headers: { 'Content-Type': 'application/x-ndjson' },
+  });
+  return response.data;
+}
+
+// 문서 서브트리 복제 (백그라운드 작업, 진행률은 getDuplicateJob으로 조회)
+export interface DuplicateJob {
+  jobId: string;
+  sourceDocumentId: number;
+  documentId: number | null;
+  status: 'QUEUED' | 'RUNNING' | 'COMPLETED' | 'FAILED';
+  total: number;
+  copied: number;
+  error: string | null;
+  startedAt: string | null;
+  finishedAt: string | null;
+}
+
+export async function duplicateDocument(workspaceId: number, documentId: number): Promise<DuplicateJob> {
+  const response = await api.post<DuplicateJob>(`/api/workspaces/${workspaceId}/documents/${documentId}/duplicate`);
+  return response.data;
+}
+
+export async function getDuplicateJob(workspaceId: number, jobId: string): Promise<DuplicateJob> {
+  const response = await api.get<DuplicateJob>(`/api/workspaces/${workspaceId}/documents/duplicate-jobs/${jobId}`);
+  return response.data;
+}
+
 // 테이블 문서 목록 조회 (경량)
 export async function getTableDocuments(workspaceId: number): Promise<Document[]> {
   const response = await api.get<Document[]>(`/api/workspaces/${workspaceId}/documents/table-list`);
@@ -468,3 +722,34 @@ export async function restoreDocumentVersion(
   );
   return res.data;
 }
+
+// --- Blocks (블록 단위 본문 편집) ---
+export interface DocumentBlock {
+  blockId: string;
+  type?: string;
+  content: string;
+  sortOrder: number;
+}
+
+export type BlockOperation =
+  | { op: 'insert'; blockId: string; afterBlockId?: string | null; type?: string; content: string }
+  | { op: 'update'; blockId: string; type?: string; content?: string }
+  | { op: 'delete'; blockId: string }
+  | { op: 'move'; blockId: string; afterBlockId?: string | null };
+
+export async function getDocumentBlocks(workspaceId: number, documentId: number): Promise<DocumentBlock[]> {
+  const res = await api.get<DocumentBlock[]>(`/api/workspaces/${workspaceId}/documents/${documentId}/blocks`);
+  return res.data;
+}
+
+export async function patchDocumentBlocks(
+  workspaceId: number,
+  documentId: number,
+  operations: BlockOperation[]
+): Promise<{ applied: number; updatedAt: string; updatedBy?: string }> {
+  const res = await api.patch<{ applied: number; updatedAt: string; updatedBy?: string }>(
+    `/api/workspaces/${workspaceId}/documents/${documentId}/blocks`,
+    { operations }
+  );
+  return res.data;
+}
@@ -132,6 +132,14 @@ export interface PaginatedResponse<T> {
   last: boolean;
 }
 
+// 커서 기반 페이지 응답 (무한 스크롤)
+export interface CursorPageResponse<T> {
+  content: T[];
+  size: number;
+  hasNext: boolean;
+  nextCursor: string | null;
+}
+
 // 에러 타입
 export interface ApiError {
   message: string;